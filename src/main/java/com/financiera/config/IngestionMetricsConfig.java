@@ -0,0 +1,24 @@
+package com.financiera.config;
+
+import com.financiera.service.impl.TransactionWriteBehindQueue;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exports the write-behind ingestion queue (see {@link TransactionWriteBehindQueue}) as
+ * {@code financiera.ingestion.*}: buffer depth and capacity, committed batch sizes and the
+ * transactions accepted, rejected, persisted and failed.
+ */
+@Configuration
+public class IngestionMetricsConfig {
+
+    /**
+     * @param writeBehindQueue The write-behind queue whose state is exported.
+     * @return The binder registering the queue's gauges, batch size summary and counters.
+     */
+    @Bean
+    public MeterBinder writeBehindQueueMetrics(TransactionWriteBehindQueue writeBehindQueue) {
+        return writeBehindQueue::bindMetrics;
+    }
+}
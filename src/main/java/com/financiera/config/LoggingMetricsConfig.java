@@ -0,0 +1,38 @@
+package com.financiera.config;
+
+import ch.qos.logback.classic.Level;
+import com.financiera.config.logging.DroppedLogEvents;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+
+/**
+ * Exports the log events dropped by the asynchronous logging pipeline (see
+ * {@code logback-spring.xml}) as {@code financiera.logging.dropped}, tagged by reason
+ * ({@code queue_full}, {@code rate_limited}) and level.
+ */
+@Configuration
+public class LoggingMetricsConfig {
+
+    /**
+     * @return The binder registering one counter per reason and droppable level.
+     */
+    @Bean
+    public MeterBinder droppedLogEventsMetrics() {
+        return registry -> {
+            for (DroppedLogEvents.Reason reason : DroppedLogEvents.Reason.values()) {
+                for (Level level : DroppedLogEvents.DROPPABLE_LEVELS) {
+                    FunctionCounter.builder("financiera.logging.dropped", reason,
+                                    r -> DroppedLogEvents.count(r, level))
+                            .description("Log events dropped by the asynchronous logging pipeline")
+                            .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                            .tag("level", level.levelStr)
+                            .register(registry);
+                }
+            }
+        };
+    }
+}
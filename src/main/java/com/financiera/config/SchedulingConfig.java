@@ -0,0 +1,14 @@
+package com.financiera.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} maintenance tasks (e.g. transaction partition management).
+ * <p>Scheduled tasks run on every instance; tasks that must run once per cluster guard
+ * themselves with a PostgreSQL advisory lock.</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
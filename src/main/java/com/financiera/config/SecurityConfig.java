@@ -5,17 +5,23 @@ import com.financiera.config.jwt.JwtAuthenticationFilter;
 import com.financiera.service.impl.CustomUserDetailsService; 
 import com.financiera.utils.JwtTokenProvider; 
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider; 
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -24,6 +30,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * <p>This class defines the security filter chain, authorization rules, and 
  * infrastructure beans required to secure the application using JWT.</p>
  */
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true) 
@@ -33,6 +40,18 @@ public class SecurityConfig {
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtTokenProvider tokenProvider; 
 
+    // Authorize requests from the token's roles claim instead of a user lookup per request
+    @Value("${app.jwtAuthoritiesFromClaims:true}")
+    private boolean authoritiesFromClaims;
+
+    // Static credential of the Prometheus scraper; it only grants the METRICS role
+    @Value("${app.metrics.scrapeUsername:prometheus}")
+    private String scrapeUsername;
+
+    // Without a password no scrape credential exists and /actuator/prometheus rejects every request
+    @Value("${app.metrics.scrapePassword:}")
+    private String scrapePassword;
+
     /**
      * Constructor injection for security-related dependencies.
      * * @param authenticationEntryPoint Custom handler for unauthorized access attempts.
@@ -53,7 +72,7 @@ public class SecurityConfig {
      */
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(tokenProvider, customUserDetailsService);
+        return new JwtAuthenticationFilter(tokenProvider, customUserDetailsService, authoritiesFromClaims);
     }
 
     /**
@@ -104,6 +123,49 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    /**
+     * Defines the filter chain of the Prometheus scrape endpoint.
+     * <p>The scraper authenticates with HTTP Basic against a single in-memory credential
+     * holding only the METRICS role. The chain matches nothing but /actuator/prometheus,
+     * so neither user JWTs (ADMIN included) nor the scrape credential cross over between
+     * the scrape endpoint and the API.</p>
+     * * @param http The {@link HttpSecurity} object to configure.
+     * @return The built {@link SecurityFilterChain}.
+     * @throws Exception If an error occurs during the security setup.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http) throws Exception {
+
+        InMemoryUserDetailsManager scrapeUsers = new InMemoryUserDetailsManager();
+        if (scrapePassword.isBlank()) {
+            log.warn("app.metrics.scrapePassword is not set; /actuator/prometheus rejects every request");
+        } else {
+            scrapeUsers.createUser(User.withUsername(scrapeUsername)
+                    .password(passwordEncoder().encode(scrapePassword))
+                    .roles("METRICS")
+                    .build());
+        }
+        DaoAuthenticationProvider scrapeProvider = new DaoAuthenticationProvider();
+        scrapeProvider.setUserDetailsService(scrapeUsers);
+        scrapeProvider.setPasswordEncoder(passwordEncoder());
+
+        http
+            .securityMatcher("/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session ->
+                session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            // Only the scrape credential is consulted; the user store is not a parent here
+            .authenticationManager(new ProviderManager(scrapeProvider))
+            .httpBasic(basic -> {})
+            .authorizeHttpRequests(auth -> auth
+                .anyRequest().hasRole("METRICS")
+            );
+
+        return http.build();
+    }
+
     /**
      * Defines the security filter chain and HTTP request authorization rules.
      * * @param http The {@link HttpSecurity} object to configure.
@@ -111,6 +173,7 @@ public class SecurityConfig {
      * @throws Exception If an error occurs during the security setup.
      */
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
         http
@@ -142,6 +205,11 @@ public class SecurityConfig {
 		                	     "/swagger-ui.html",
 		                	     "/swagger-resources/**",
 		                	     "/webjars/**").permitAll()
+                // Health checks run without a token
+                .requestMatchers("/actuator/health/**").permitAll()
+                // Operational endpoints (cache statistics, metrics) are restricted to administrators;
+                // the Prometheus scrape is served by metricsScrapeFilterChain
+                .requestMatchers("/api/v1/admin/**", "/actuator/**").hasRole("ADMIN")
                 // All other requests require a valid authentication token
                 .anyRequest().authenticated()
             );
@@ -0,0 +1,65 @@
+package com.financiera.config;
+
+import com.financiera.config.sql.StatementCountingListener;
+import com.financiera.config.sql.StatementStatsFilter;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement counting.
+ * <p>The application DataSource is wrapped in a datasource-proxy {@link ProxyDataSource}, so
+ * every statement (Hibernate, Spring Data and plain JDBC alike) is attributed to the HTTP request
+ * that ran it. The statement count and JDBC time of each request are reported by
+ * {@link StatementStatsFilter}.</p>
+ */
+@Configuration
+public class StatementStatsConfig {
+
+    /**
+     * Wraps the DataSource in the counting proxy. Static, so it is registered before the
+     * DataSource is created.
+     * @param enabled whether statement counting is enabled
+     * @return The post-processor wrapping the DataSource.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(
+            @Value("${app.sql.statementStats.enabled:true}") boolean enabled) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new StatementCountingListener())
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Registers the reporting filter ahead of the security filter chain, so requests rejected
+     * by security are reported as well.
+     * @param enabled whether statement counting is enabled
+     * @param headers whether to return the totals as response headers
+     * @return The filter registration.
+     */
+    @Bean
+    public FilterRegistrationBean<StatementStatsFilter> statementStatsFilter(
+            @Value("${app.sql.statementStats.enabled:true}") boolean enabled,
+            @Value("${app.sql.statementStats.headers:false}") boolean headers) {
+        FilterRegistrationBean<StatementStatsFilter> registration =
+                new FilterRegistrationBean<>(new StatementStatsFilter(headers));
+        registration.setEnabled(enabled);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
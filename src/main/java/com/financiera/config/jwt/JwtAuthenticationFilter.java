@@ -1,6 +1,7 @@
 package com.financiera.config.jwt;
 
 import com.financiera.utils.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,15 +30,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final boolean authoritiesFromClaims;
 
     /**
      * Constructor for JwtAuthenticationFilter using dependency injection.
      * * @param tokenProvider the utility class for JWT generation and validation
      * @param userDetailsService the service to load user-specific data
+     * @param authoritiesFromClaims whether to take the authorities from the token's roles claim
+     *        instead of loading the user on every request
      */
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService,
+                                   boolean authoritiesFromClaims) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.authoritiesFromClaims = authoritiesFromClaims;
     }
 
     /**
@@ -66,17 +72,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Extract token from the "Authorization" header
         String jwt = getJwtFromRequest(request);
 
-        // Check if token exists and is cryptographically valid
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
+        // Verify the token once (signature and expiration) and read its claims
+        Claims claims = StringUtils.hasText(jwt) ? tokenProvider.getVerifiedClaims(jwt).orElse(null) : null;
+
+        if (claims != null) {
 
             // Retrieve username from the token claims
-            String username = tokenProvider.getUsernameFromJWT(jwt);
+            String username = claims.getSubject();
             
             // Log successful validation for debugging purposes
-            log.debug(">>> JWT validated: Token OK for user: " + username);
-
-            // Load user details including roles/authorities from the database (simulated)
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            log.debug(">>> JWT validated: Token OK for user: {}", username);
+
+            // Take the roles from the verified token when enabled; otherwise (or for tokens issued
+            // without a roles claim) load user details including roles/authorities from the database (simulated)
+            UserDetails userDetails = authoritiesFromClaims
+                    ? tokenProvider.getUserDetailsFromClaims(claims)
+                            .orElseGet(() -> userDetailsService.loadUserByUsername(username))
+                    : userDetailsService.loadUserByUsername(username);
 
             // Create an authentication object with userDetails and their granted authorities
             UsernamePasswordAuthenticationToken authentication =
@@ -0,0 +1,73 @@
+package com.financiera.config.logging;
+
+import ch.qos.logback.classic.Level;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the log events the logging pipeline dropped on purpose, by reason and level.
+ * <p>Only TRACE, DEBUG and INFO events are ever dropped; WARN and ERROR always reach the
+ * appenders. The counters are process-wide, as Logback is configured before the Spring context
+ * exists, and are exported as the {@code financiera.logging.dropped} meter.</p>
+ */
+public final class DroppedLogEvents {
+
+    /**
+     * Why an event was dropped.
+     */
+    public enum Reason {
+        /** The asynchronous appender's queue was over its drop threshold. */
+        QUEUE_FULL,
+        /** The logger was over its rate limit. */
+        RATE_LIMITED
+    }
+
+    /**
+     * The levels that may be dropped.
+     */
+    public static final List<Level> DROPPABLE_LEVELS = List.of(Level.TRACE, Level.DEBUG, Level.INFO);
+
+    private static final LongAdder[][] COUNTS = new LongAdder[Reason.values().length][DROPPABLE_LEVELS.size()];
+
+    static {
+        for (LongAdder[] byLevel : COUNTS) {
+            for (int i = 0; i < byLevel.length; i++) {
+                byLevel[i] = new LongAdder();
+            }
+        }
+    }
+
+    private DroppedLogEvents() {
+    }
+
+    static void record(Reason reason, Level level) {
+        COUNTS[reason.ordinal()][indexOf(level)].increment();
+    }
+
+    /**
+     * @param reason why the events were dropped
+     * @param level the level of the events, one of {@link #DROPPABLE_LEVELS}
+     * @return The number of events dropped since startup.
+     */
+    public static long count(Reason reason, Level level) {
+        return COUNTS[reason.ordinal()][indexOf(level)].sum();
+    }
+
+    /**
+     * @param level a log level
+     * @return Whether events of the level may be dropped.
+     */
+    static boolean isDroppable(Level level) {
+        return level.toInt() <= Level.INFO_INT;
+    }
+
+    private static int indexOf(Level level) {
+        return switch (level.toInt()) {
+            case Level.TRACE_INT -> 0;
+            case Level.DEBUG_INT -> 1;
+            case Level.INFO_INT -> 2;
+            default -> throw new IllegalArgumentException("Events at level " + level + " are never dropped");
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.financiera.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.financiera.config.logging.DroppedLogEvents.Reason;
+
+/**
+ * Asynchronous appender over a bounded queue that drops low-priority events instead of
+ * stalling the logging thread when the writer falls behind.
+ * <p>Events are handed to a single worker that writes them to the attached appenders (console,
+ * rolling file), so request threads never wait on disk I/O or on log rotation. When fewer than
+ * {@code dropThreshold} slots are left, events at {@code dropLevel} or below are dropped and
+ * counted in {@link DroppedLogEvents}; WARN and ERROR are never dropped and wait for a free slot
+ * if the queue is full.</p>
+ * <p>Unlike Logback's {@code discardingThreshold}, which drops silently, every dropped event is
+ * counted.</p>
+ */
+public class DroppingAsyncAppender extends AsyncAppender {
+
+    private Level dropLevel = Level.INFO;
+    private int dropThreshold = -1;
+
+    /**
+     * Constructor for DroppingAsyncAppender.
+     */
+    public DroppingAsyncAppender() {
+        // Dropping is decided (and counted) in append(); the base class never discards
+        super.setDiscardingThreshold(0);
+    }
+
+    /**
+     * @param dropLevel the most severe level that may be dropped (TRACE, DEBUG or INFO)
+     */
+    public void setDropLevel(String dropLevel) {
+        this.dropLevel = Level.toLevel(dropLevel, Level.INFO);
+    }
+
+    /**
+     * @param dropThreshold the number of free queue slots below which events are dropped;
+     *                      0 never drops, and by default a fifth of the queue is kept free
+     */
+    public void setDropThreshold(int dropThreshold) {
+        this.dropThreshold = dropThreshold;
+    }
+
+    /**
+     * Maps Logback's {@code discardingThreshold} setting to {@link #setDropThreshold(int)}.
+     * @param discardingThreshold the number of free queue slots below which events are dropped
+     */
+    @Override
+    public void setDiscardingThreshold(int discardingThreshold) {
+        setDropThreshold(discardingThreshold);
+    }
+
+    /**
+     * Validates the drop policy and starts the worker.
+     */
+    @Override
+    public void start() {
+        if (!DroppedLogEvents.isDroppable(dropLevel)) {
+            addWarn("dropLevel " + dropLevel + " would drop warnings or errors; using INFO");
+            dropLevel = Level.INFO;
+        }
+        if (dropThreshold < 0) {
+            dropThreshold = getQueueSize() / 5;
+        }
+        super.start();
+    }
+
+    /**
+     * Queues the event, or drops it when the queue is over the threshold and the event is
+     * droppable.
+     * @param event the logging event
+     */
+    @Override
+    protected void append(ILoggingEvent event) {
+        Level level = event.getLevel();
+        if (level.toInt() <= dropLevel.toInt() && getRemainingCapacity() < dropThreshold) {
+            DroppedLogEvents.record(Reason.QUEUE_FULL, level);
+            return;
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,106 @@
+package com.financiera.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.financiera.config.logging.DroppedLogEvents.Reason;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the number of low-priority events the application's loggers emit per second.
+ * <p>Per-request logging grows with traffic; above {@code maxPerSecond} events (at
+ * {@code maxLevel} or below, from loggers under {@code loggerPrefix}) the rest of the second is
+ * dropped and counted in {@link DroppedLogEvents}, before any message formatting. WARN and ERROR,
+ * and every other logger, are never limited. A limit of 0 disables the filter.</p>
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private String loggerPrefix = "com.financiera";
+    private Level maxLevel = Level.INFO;
+    private int maxPerSecond;
+
+    private final LongSupplier nanoClock;
+    private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger emitted = new AtomicInteger();
+
+    /**
+     * Constructor for RateLimitingTurboFilter, used by Logback.
+     */
+    public RateLimitingTurboFilter() {
+        this(System::nanoTime);
+    }
+
+    RateLimitingTurboFilter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param loggerPrefix the logger (and its descendants) to limit
+     */
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    /**
+     * @param maxLevel the most severe level that is limited (TRACE, DEBUG or INFO)
+     */
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    /**
+     * @param maxPerSecond the events let through per second; 0 disables the limit
+     */
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * Validates the configuration.
+     */
+    @Override
+    public void start() {
+        if (!DroppedLogEvents.isDroppable(maxLevel)) {
+            addWarn("maxLevel " + maxLevel + " would limit warnings or errors; using INFO");
+            maxLevel = Level.INFO;
+        }
+        super.start();
+    }
+
+    /**
+     * Denies the event when the current second's allowance is used up.
+     * @return DENY for a limited event, NEUTRAL otherwise
+     */
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (maxPerSecond <= 0
+                || format == null // isDebugEnabled() and the like: not an event
+                || level.toInt() > maxLevel.toInt()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) // Disabled anyway
+                || !isLimited(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        long second = nanoClock.getAsLong() / NANOS_PER_SECOND;
+        long current = window.get();
+        if (second != current && window.compareAndSet(current, second)) {
+            emitted.set(0);
+        }
+        if (emitted.incrementAndGet() <= maxPerSecond) {
+            return FilterReply.NEUTRAL;
+        }
+        DroppedLogEvents.record(Reason.RATE_LIMITED, level);
+        return FilterReply.DENY;
+    }
+
+    private boolean isLimited(String name) {
+        return name.startsWith(loggerPrefix)
+                && (name.length() == loggerPrefix.length() || name.charAt(loggerPrefix.length()) == '.');
+    }
+}
@@ -0,0 +1,24 @@
+package com.financiera.config.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a request to the annotated endpoint may execute.
+ * <p>{@link StatementStatsFilter} logs a warning for every request over budget and reports the
+ * budget next to the count in the diagnostic headers, so tests can fail on query regressions
+ * such as N+1 loads.</p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    /**
+     * @return The maximum number of statements per request.
+     */
+    int value();
+}
@@ -0,0 +1,38 @@
+package com.financiera.config.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy listener that adds every executed statement, with its duration, to the
+ * {@link StatementStats} of the request served on the current thread.
+ */
+public class StatementCountingListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = StatementCountingListener.class.getName() + ".startedAt";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (StatementStats.current() != null) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementStats stats = StatementStats.current();
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (stats != null && startedAt != null) {
+            stats.record(System.nanoTime() - startedAt);
+        }
+    }
+}
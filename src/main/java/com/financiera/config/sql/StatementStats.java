@@ -0,0 +1,61 @@
+package com.financiera.config.sql;
+
+/**
+ * SQL statements executed on behalf of one HTTP request, and the time spent in JDBC for them.
+ * <p>Bound to the request thread by {@link StatementStatsFilter} and fed by
+ * {@link StatementCountingListener}. Statements run on other threads (write-behind flushes,
+ * settlement workers, scheduled tasks) are not attributed to any request.</p>
+ */
+public final class StatementStats {
+
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+
+    private StatementStats() {
+    }
+
+    /**
+     * Starts counting on the current thread.
+     * @return The counters of the current request.
+     */
+    public static StatementStats begin() {
+        StatementStats stats = new StatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stops counting on the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return The counters of the request being served on the current thread, or null if none.
+     */
+    public static StatementStats current() {
+        return CURRENT.get();
+    }
+
+    void record(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    /**
+     * @return The number of statements executed; a JDBC batch counts as one round trip.
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * @return The time spent executing the statements, in nanoseconds.
+     */
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
@@ -0,0 +1,161 @@
+package com.financiera.config.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * Counts the SQL statements and the JDBC time of every HTTP request.
+ * <p>The totals are logged at DEBUG; requests over the {@link StatementBudget} of their endpoint
+ * are logged at WARN. When enabled, the totals are also returned as diagnostic headers, written
+ * just before the response is committed:</p>
+ * <ul>
+ *   <li>{@code X-SQL-Statements}: statements executed so far.</li>
+ *   <li>{@code X-SQL-Time-Ms}: time spent in JDBC, in milliseconds.</li>
+ *   <li>{@code X-SQL-Statement-Budget}: the budget of the endpoint, if it declares one.</li>
+ * </ul>
+ */
+@Slf4j
+public class StatementStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String BUDGET_HEADER = "X-SQL-Statement-Budget";
+
+    private final boolean headers;
+
+    /**
+     * Constructor for StatementStatsFilter.
+     * @param headers whether to return the totals as response headers
+     */
+    public StatementStatsFilter(boolean headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Binds the request's statement counters to the thread for the rest of the chain.
+     * @param request the servlet request
+     * @param response the servlet response
+     * @param filterChain the chain of subsequent filters
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementStats stats = StatementStats.begin();
+        HeaderWritingResponse wrapped = headers ? new HeaderWritingResponse(request, response, stats) : null;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            StatementStats.end();
+            if (wrapped != null) {
+                // Responses without a body (204, 304) are committed after the chain
+                wrapped.writeHeaders();
+            }
+            report(request, stats);
+        }
+    }
+
+    private static void report(HttpServletRequest request, StatementStats stats) {
+        Integer budget = budgetOf(request);
+        if (budget != null && stats.getStatements() > budget) {
+            log.warn("SQL statement budget exceeded by {} {}: {} statements (budget {}), {} ms",
+                    request.getMethod(), endpointOf(request), stats.getStatements(), budget, millis(stats));
+        } else if (log.isDebugEnabled() && stats.getStatements() > 0) {
+            log.debug("SQL for {} {}: {} statements, {} ms",
+                    request.getMethod(), endpointOf(request), stats.getStatements(), millis(stats));
+        }
+    }
+
+    private static Integer budgetOf(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            StatementBudget budget = handler.getMethodAnnotation(StatementBudget.class);
+            return budget != null ? budget.value() : null;
+        }
+        return null;
+    }
+
+    private static Object endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern : request.getRequestURI();
+    }
+
+    private static String millis(StatementStats stats) {
+        return String.format(Locale.ROOT, "%.3f", stats.getJdbcNanos() / 1e6);
+    }
+
+    /**
+     * Adds the statement headers once, before the first byte of the response is written.
+     */
+    private static final class HeaderWritingResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final StatementStats stats;
+        private boolean written;
+
+        HeaderWritingResponse(HttpServletRequest request, HttpServletResponse response, StatementStats stats) {
+            super(response);
+            this.request = request;
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            setHeader(TIME_HEADER, millis(stats));
+            Integer budget = budgetOf(request);
+            if (budget != null) {
+                setHeader(BUDGET_HEADER, String.valueOf(budget));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
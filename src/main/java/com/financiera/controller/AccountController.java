@@ -0,0 +1,112 @@
+package com.financiera.controller;
+
+import com.financiera.config.sql.StatementBudget;
+import com.financiera.dto.AccountBalanceResponse;
+import com.financiera.dto.AccountDailySummaryResponse;
+import com.financiera.dto.TransactionPageResponse;
+import com.financiera.service.AccountBalanceService;
+import com.financiera.service.DailyRollupService;
+import com.financiera.service.TransactionService;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * REST Controller for account-level views: balances, statements and daily summaries.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/accounts")
+public class AccountController {
+
+    private final AccountBalanceService accountBalanceService;
+    private final TransactionService transactionService;
+    private final DailyRollupService dailyRollupService;
+
+    /**
+     * Constructor for dependency injection of the service layer.
+     * @param accountBalanceService The service exposing the balance projection.
+     * @param transactionService The business logic service for transactions.
+     * @param dailyRollupService The service exposing the daily rollups.
+     */
+    public AccountController(AccountBalanceService accountBalanceService, TransactionService transactionService,
+                             DailyRollupService dailyRollupService) {
+        this.accountBalanceService = accountBalanceService;
+        this.transactionService = transactionService;
+        this.dailyRollupService = dailyRollupService;
+    }
+
+    /**
+     * GET /api/v1/accounts/{accountId}/balance
+     * Retrieves the settled balances of an account, one per currency. Requires authentication.
+     *
+     * @param accountId The ID of the account.
+     * @return A ResponseEntity with the account balances and HTTP status 200 (OK).
+     */
+    @StatementBudget(1) // One read of the maintained balances
+    @GetMapping("/{accountId}/balance")
+    public ResponseEntity<AccountBalanceResponse> getAccountBalance(@PathVariable String accountId) {
+    	log.debug("REST request to get balance of Account ID: {}", accountId);
+
+        AccountBalanceResponse response = accountBalanceService.getAccountBalance(accountId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/accounts/{accountId}/statement?from=...&amp;to=...
+     * Retrieves one page of the account statement (newest first) for a time range. Requires authentication.
+     *
+     * @param accountId The ID of the account.
+     * @param from Inclusive lower bound (ISO-8601 instant).
+     * @param to Exclusive upper bound (ISO-8601 instant).
+     * @param cursor The opaque continuation token returned by the previous page (optional).
+     * @param limit The requested page size (optional, capped by the server).
+     * @return A ResponseEntity with the statement page and HTTP status 200 (OK).
+     */
+    @StatementBudget(1) // One index range page
+    @GetMapping("/{accountId}/statement")
+    public ResponseEntity<TransactionPageResponse> getAccountStatement(
+            @PathVariable String accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+    	log.debug("REST request to get statement of Account ID: {} from {} to {}", accountId, from, to);
+
+        TransactionPageResponse page = transactionService.getAccountStatement(accountId, from, to, cursor, limit);
+
+        return PageLinks.ok(page);
+    }
+
+    /**
+     * GET /api/v1/accounts/{accountId}/daily-summary?from=...&amp;to=...
+     * Retrieves the per-day, per-currency aggregates of an account from the daily rollups. Requires authentication.
+     *
+     * @param accountId The ID of the account.
+     * @param from First day, inclusive (ISO-8601 date, UTC).
+     * @param to Last day, inclusive (ISO-8601 date, UTC).
+     * @return A ResponseEntity with the daily summary and HTTP status 200 (OK).
+     */
+    @StatementBudget(2) // Pending refresh + rollup rows
+    @GetMapping("/{accountId}/daily-summary")
+    public ResponseEntity<AccountDailySummaryResponse> getDailySummary(
+            @PathVariable String accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    	log.debug("REST request to get daily summary of Account ID: {} from {} to {}", accountId, from, to);
+
+        AccountDailySummaryResponse response = dailyRollupService.getDailySummary(accountId, from, to);
+
+        return ResponseEntity.ok(response);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.financiera.controller;
+
+import com.financiera.dto.CacheStatsResponse;
+import com.financiera.dto.HotWindowStatsResponse;
+import com.financiera.dto.IngestionStatsResponse;
+import com.financiera.dto.SettlementStatsResponse;
+import com.financiera.service.impl.HotWindowStore;
+import com.financiera.service.impl.IdempotencyStore;
+import com.financiera.service.impl.SettlementEngine;
+import com.financiera.service.impl.TransactionCache;
+import com.financiera.service.impl.TransactionWriteBehindQueue;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for operational insight into the running instance.
+ * All endpoints require the ADMIN role (see SecurityConfig).
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin")
+public class AdminController {
+
+    private final TransactionCache transactionCache;
+    private final TransactionWriteBehindQueue writeBehindQueue;
+    private final IdempotencyStore idempotencyStore;
+    private final SettlementEngine settlementEngine;
+    private final HotWindowStore hotWindowStore;
+
+    /**
+     * Constructor for dependency injection.
+     * @param transactionCache The single-transaction lookup cache.
+     * @param writeBehindQueue The write-behind ingestion queue.
+     * @param idempotencyStore The in-memory store of recent Idempotency-Keys.
+     * @param settlementEngine The background settlement engine.
+     * @param hotWindowStore The in-memory store of recent transactions.
+     */
+    public AdminController(TransactionCache transactionCache, TransactionWriteBehindQueue writeBehindQueue,
+                           IdempotencyStore idempotencyStore, SettlementEngine settlementEngine,
+                           HotWindowStore hotWindowStore) {
+        this.transactionCache = transactionCache;
+        this.writeBehindQueue = writeBehindQueue;
+        this.idempotencyStore = idempotencyStore;
+        this.settlementEngine = settlementEngine;
+        this.hotWindowStore = hotWindowStore;
+    }
+
+    /**
+     * GET /api/v1/admin/caches
+     * Retrieves hit/miss/eviction statistics of the in-process caches of this instance.
+     *
+     * @return A ResponseEntity with one statistics entry per cache and HTTP status 200 (OK).
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+    	log.debug("REST request to get cache statistics");
+
+        return ResponseEntity.ok(List.of(transactionCache.stats(), idempotencyStore.stats()));
+    }
+
+    /**
+     * GET /api/v1/admin/ingestion
+     * Retrieves queue depth, batch sizes and counters of the write-behind ingestion mode.
+     *
+     * @return A ResponseEntity with the ingestion statistics and HTTP status 200 (OK).
+     */
+    @GetMapping("/ingestion")
+    public ResponseEntity<IngestionStatsResponse> getIngestionStats() {
+    	log.debug("REST request to get ingestion statistics");
+
+        return ResponseEntity.ok(writeBehindQueue.stats());
+    }
+
+    /**
+     * GET /api/v1/admin/settlement
+     * Retrieves the batch and outcome counters of the settlement engine of this instance.
+     *
+     * @return A ResponseEntity with the settlement statistics and HTTP status 200 (OK).
+     */
+    @GetMapping("/settlement")
+    public ResponseEntity<SettlementStatsResponse> getSettlementStats() {
+    	log.debug("REST request to get settlement statistics");
+
+        return ResponseEntity.ok(settlementEngine.stats());
+    }
+
+    /**
+     * GET /api/v1/admin/hot-window
+     * Retrieves the size, floor and read counters of the in-memory store of recent transactions.
+     *
+     * @return A ResponseEntity with the hot window statistics and HTTP status 200 (OK).
+     */
+    @GetMapping("/hot-window")
+    public ResponseEntity<HotWindowStatsResponse> getHotWindowStats() {
+    	log.debug("REST request to get hot window statistics");
+
+        return ResponseEntity.ok(hotWindowStore.stats());
+    }
+}
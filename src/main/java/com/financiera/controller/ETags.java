@@ -0,0 +1,65 @@
+package com.financiera.controller;
+
+import com.financiera.dto.TransactionPageResponse;
+import com.financiera.dto.TransactionResponse;
+import com.financiera.exception.PreconditionFailedException;
+import com.financiera.utils.Digests;
+
+/**
+ * Helper computing strong entity tags for transaction resources.
+ * <p>Returned on GET responses, they let Spring answer a matching {@code If-None-Match}
+ * with 304 (Not Modified) before the body is serialized. On updates, {@code If-Match}
+ * carries the tag back as the version the client expects to change.</p>
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * The tag of a single transaction: its version, which every update increments.
+     * @param transaction The transaction.
+     * @return The quoted entity tag.
+     */
+    static String of(TransactionResponse transaction) {
+        return "\"" + transaction.getVersion() + "\"";
+    }
+
+    /**
+     * The tag of a page: a digest of the ID and version of every item plus the next cursor,
+     * so it changes when any item on the page changes or the page boundary moves.
+     * @param page The page.
+     * @return The quoted entity tag.
+     */
+    static String of(TransactionPageResponse page) {
+        StringBuilder state = new StringBuilder(page.getItems().size() * 40);
+        for (TransactionResponse item : page.getItems()) {
+            state.append(item.getTransactionId()).append(':').append(item.getVersion()).append(',');
+        }
+        state.append(page.getNextCursor());
+        // 128 bits of the digest are plenty to tell page states apart
+        return "\"" + Digests.sha256Hex(state.toString()).substring(0, 32) + "\"";
+    }
+
+    /**
+     * Reads the expected transaction version from an {@code If-Match} header.
+     * @param ifMatch The header value (may be null).
+     * @return The version, or null when the header is absent or {@code *} (any version).
+     * @throws PreconditionFailedException if the header names no version of a transaction
+     *         (weak or malformed tags can never match).
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our tags; falls through to the failed precondition
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current version: " + tag);
+    }
+}
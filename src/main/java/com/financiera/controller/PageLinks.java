@@ -0,0 +1,42 @@
+package com.financiera.controller;
+
+import com.financiera.dto.TransactionPageResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Helper for cursor-paginated endpoints: turns a page's continuation token into a
+ * {@code next} link pointing at the current request URL, and tags the page for
+ * conditional requests.
+ */
+final class PageLinks {
+
+    private PageLinks() {
+    }
+
+    /**
+     * Builds a 200 (OK) response for a page, adding the {@code next} link to the body
+     * and as an RFC 8288 {@code Link} header when another page exists.
+     * <p>The page carries an {@code ETag}; pollers repeating the request with
+     * {@code If-None-Match} get 304 (Not Modified) without a body while nothing changed.
+     * Pages may be stored by the client but must be revalidated on every use.</p>
+     * @param page The page returned by the service.
+     * @return A ResponseEntity with the page and HTTP status 200 (OK).
+     */
+    static ResponseEntity<TransactionPageResponse> ok(TransactionPageResponse page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(ETags.of(page))
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .replaceQueryParam("limit", page.getLimit())
+                    .toUriString();
+            page.setNext(next);
+            builder.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return builder.body(page);
+    }
+}
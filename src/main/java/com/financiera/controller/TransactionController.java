@@ -1,18 +1,31 @@
 package com.financiera.controller;
 
+import com.financiera.config.sql.StatementBudget;
+import com.financiera.dto.TransactionBatchResponse;
+import com.financiera.dto.TransactionBulkStatusRequest;
+import com.financiera.dto.TransactionBulkStatusResponse;
 import com.financiera.dto.TransactionCreateRequest;
+import com.financiera.dto.TransactionPageResponse;
 import com.financiera.dto.TransactionResponse;
 import com.financiera.dto.TransactionUpdateRequest;
+import com.financiera.model.TransactionStatus;
 import com.financiera.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST Controller for managing financial transactions.
@@ -23,8 +36,19 @@ import java.util.UUID;
 @RequestMapping("/api/v1/transactions")
 public class TransactionController {
 
+    // Audit trail of financial mutations: outside the rate limit and the drop policy (logback-spring.xml)
+    private static final Logger audit = LoggerFactory.getLogger("AUDIT");
+
     private final TransactionService transactionService;
 
+    // How long clients (and, if public, shared caches) may reuse a COMPLETED or FAILED transaction
+    @Value("${app.http.terminalMaxAgeSeconds:86400}")
+    private long terminalMaxAgeSeconds;
+
+    // Whether shared caches may store terminal transactions; private (per-client) by default
+    @Value("${app.http.terminalCachePublic:false}")
+    private boolean terminalCachePublic;
+
     /**
      * Constructor for dependency injection of the service layer.
      * @param transactionService The business logic service for transactions.
@@ -36,30 +60,79 @@ public class TransactionController {
     /**
      * POST /api/v1/transactions
      * Creates a new financial transaction. Requires authentication.
+     * <p>In write-behind ingestion mode the transaction is only queued: the response carries the
+     * assigned ID with 202 (Accepted), or 429 (Too Many Requests) when the queue is full.</p>
+     * <p>With an {@code Idempotency-Key} header, a retry of the same request returns the original
+     * transaction instead of creating a duplicate; reusing a key for a different request
+     * returns 422 (Unprocessable Entity). Keys are kept in the database for
+     * {@code app.idempotency.retentionHours}. In write-behind mode keys are only remembered in
+     * memory: a retry after the key was evicted, or sent to another instance, creates a
+     * duplicate.</p>
      *
      * @param request The validated DTO containing the transaction details.
-     * @return A ResponseEntity with the created transaction and HTTP status 201 (Created).
+     * @param idempotencyKey The client-chosen key identifying this creation across retries (optional).
+     * @param principal The authenticated client, which scopes the idempotency key.
+     * @return A ResponseEntity with the created transaction and HTTP status 201 (Created),
+     *         or the accepted transaction and 202 (Accepted) in write-behind mode.
      */
+    @StatementBudget(2) // Idempotency key claim + insert
     @PostMapping
-    public ResponseEntity<TransactionResponse> createTransaction(@Valid @RequestBody TransactionCreateRequest request) {
+    public ResponseEntity<TransactionResponse> createTransaction(@Valid @RequestBody TransactionCreateRequest request,
+                                                                 @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                                 Principal principal) {
         // The @Valid annotation triggers the bean validation defined in the DTO
     	
-    	log.info("REST request to create transaction of type: {} for Account ID: {}", 
+    	log.debug("REST request to create transaction of type: {} for Account ID: {}", 
                 request.getType(), request.getAccountId());
     	
-        TransactionResponse response = transactionService.createTransaction(request);
+        if (transactionService.isWriteBehindEnabled()) {
+            TransactionResponse accepted = transactionService.submitTransaction(request, principal.getName(), idempotencyKey);
+            // The flusher writes it later; write failures are logged at ERROR by the queue
+            audit.info("Transaction accepted for write-behind with ID: {} for Account ID: {}",
+                    accepted.getTransactionId(), accepted.getAccountId());
+            return new ResponseEntity<>(accepted, HttpStatus.ACCEPTED);
+        }
+
+        TransactionResponse response = transactionService.createTransaction(request, principal.getName(), idempotencyKey);
         
-        log.info("Transaction created successfully with ID: {}", response.getTransactionId());
+        audit.info("Transaction created successfully with ID: {} for Account ID: {}",
+                response.getTransactionId(), response.getAccountId());
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * POST /api/v1/transactions/batch
+     * Creates many transactions in one request and one database commit. Requires authentication.
+     * <p>Each item is validated on its own: invalid items are reported in the per-item results
+     * and do not prevent the valid ones from being created.</p>
+     *
+     * @param requests The list of transactions to create.
+     * @return 201 (Created) when every item was created, otherwise 207 (Multi-Status) with per-item results.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TransactionBatchResponse> createTransactions(@RequestBody List<TransactionCreateRequest> requests) {
+    	log.info("REST request to create a batch of {} transactions", requests.size());
+
+        TransactionBatchResponse response = transactionService.createTransactions(requests);
+
+        audit.info("Batch processed: {} created, {} rejected", response.getCreated(), response.getRejected());
+        HttpStatus status = response.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(response, status);
+    }
+
     /**
      * GET /api/v1/transactions/{id}
      * Retrieves a specific transaction by its UUID. Requires authentication.
+     * <p>The response carries the transaction version as {@code ETag}: a matching
+     * {@code If-None-Match} is answered with 304 (Not Modified) and no body. COMPLETED and
+     * FAILED transactions no longer change status, so they may be reused for a long time
+     * without revalidation; PENDING ones must be revalidated on every use.</p>
      *
      * @param id The UUID of the transaction to retrieve.
-     * @return A ResponseEntity with the transaction data and HTTP status 200 (OK).
+     * @return A ResponseEntity with the transaction data and HTTP status 200 (OK),
+     *         or 304 (Not Modified) when the client's copy is current.
      */
+    @StatementBudget(1) // One lookup, none when cached
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getTransactionById(@PathVariable UUID id) {
     	log.debug("REST request to get transaction by ID: {}", id);
@@ -67,40 +140,80 @@ public class TransactionController {
         TransactionResponse response = transactionService.getTransactionById(id);
         
         log.debug("Found transaction: {}", response.getTransactionId());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response))
+                .cacheControl(cacheControlFor(response))
+                .body(response);
     }
 
     /**
      * GET /api/v1/transactions
-     * Retrieves a list of all transactions. Requires authentication.
+     * Retrieves one page of transactions using keyset (cursor) pagination. Requires authentication.
+     * <p>The response carries a {@code next} link (also sent as a {@code Link} header)
+     * until the last page is reached.</p>
      *
-     * @return A ResponseEntity with the list of transactions and HTTP status 200 (OK).
+     * @param cursor The opaque continuation token returned by the previous page (optional).
+     * @param limit The requested page size (optional, capped by the server).
+     * @return A ResponseEntity with the page of transactions and HTTP status 200 (OK).
      */
+    @StatementBudget(1) // One keyset page query
     @GetMapping
-    public ResponseEntity<List<TransactionResponse>> getAllTransactions() {
-    	log.info("REST request to fetch all transactions");
+    public ResponseEntity<TransactionPageResponse> getTransactions(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer limit) {
+    	log.debug("REST request to fetch a page of transactions");
     	
-        List<TransactionResponse> transactions = transactionService.getAllTransactions();
+        TransactionPageResponse page = transactionService.getTransactions(cursor, limit);
         
-        log.info("Total transactions retrieved: {}", transactions.size());
-        return ResponseEntity.ok(transactions);
+        log.debug("Transactions retrieved in page: {}", page.getItems().size());
+        return PageLinks.ok(page);
     }
 
     /**
      * PUT /api/v1/transactions/{id}
      * Updates an existing transaction (e.g., status or description). Requires authentication.
+     * <p>Only PENDING transactions may change status, and only to COMPLETED or FAILED (409 Conflict
+     * otherwise). With an {@code If-Match} header carrying the ETag of a previous read, the update
+     * only applies if nobody changed the transaction since (412 Precondition Failed otherwise).</p>
      *
      * @param id The UUID of the transaction to update.
      * @param request The DTO containing the fields to update.
-     * @return A ResponseEntity with the updated transaction and HTTP status 200 (OK).
+     * @param ifMatch The ETag the client expects the transaction to still have (optional).
+     * @return A ResponseEntity with the updated transaction, its new ETag and HTTP status 200 (OK).
      */
+    @StatementBudget(3) // Conditional update + balance + daily rollup
     @PutMapping("/{id}")
     public ResponseEntity<TransactionResponse> updateTransaction(@PathVariable UUID id, 
-                                                               @Valid @RequestBody TransactionUpdateRequest request) {
-    	log.info("REST request to update transaction ID: {}", id);
-        TransactionResponse response = transactionService.updateTransaction(id, request);
+                                                               @Valid @RequestBody TransactionUpdateRequest request,
+                                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    	log.debug("REST request to update transaction ID: {}", id);
+        TransactionResponse response = transactionService.updateTransaction(id, request, ETags.expectedVersion(ifMatch));
         
-        log.info("Transaction ID: {} updated successfully", id);
+        audit.info("Transaction ID: {} updated successfully", id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(response))
+                .body(response);
+    }
+
+    /**
+     * POST /api/v1/transactions/status
+     * Moves many PENDING transactions to COMPLETED or FAILED in one request, e.g. at the end of a
+     * settlement cycle. Requires authentication.
+     * <p>Transactions are selected either by {@code transactionIds} or by a {@code from}/{@code to}
+     * window (optionally with {@code accountId}). They are updated in chunks with set-based
+     * statements; transactions that are missing or no longer PENDING are counted as skipped.</p>
+     *
+     * @param request The selection and the target status.
+     * @return A ResponseEntity with the updated/skipped/failed counts and HTTP status 200 (OK).
+     */
+    @PostMapping("/status")
+    public ResponseEntity<TransactionBulkStatusResponse> updateTransactionStatuses(
+            @Valid @RequestBody TransactionBulkStatusRequest request) {
+    	log.info("REST request to move transactions to status: {}", request.getStatus());
+
+        TransactionBulkStatusResponse response = transactionService.updateTransactionStatuses(request);
+
+        audit.info("Bulk status change to {}: {} updated, {} skipped, {} failed", response.getStatus(),
+                response.getUpdated(), response.getSkipped(), response.getFailed());
         return ResponseEntity.ok(response);
     }
 
@@ -111,12 +224,27 @@ public class TransactionController {
      * @param id The UUID of the transaction to delete.
      * @return A ResponseEntity with no content and HTTP status 204 (No Content).
      */
+    @StatementBudget(3) // DELETE ... RETURNING + balance + daily rollup
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTransaction(@PathVariable UUID id) {
     	log.warn("REST request to delete transaction ID: {}", id);
         transactionService.deleteTransaction(id);
         
-        log.info("Transaction ID: {} deleted successfully", id);
+        audit.info("Transaction ID: {} deleted successfully", id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Chooses the caching policy of a single transaction from its status.
+     * @param transaction The transaction being returned.
+     * @return Long-lived for terminal transactions, revalidate-on-every-use otherwise.
+     */
+    private CacheControl cacheControlFor(TransactionResponse transaction) {
+        TransactionStatus status = transaction.getStatus();
+        if (status != TransactionStatus.COMPLETED && status != TransactionStatus.FAILED) {
+            return CacheControl.noCache().cachePrivate();
+        }
+        CacheControl terminal = CacheControl.maxAge(terminalMaxAgeSeconds, TimeUnit.SECONDS);
+        return terminalCachePublic ? terminal.cachePublic() : terminal.cachePrivate();
+    }
+}
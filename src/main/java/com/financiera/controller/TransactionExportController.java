@@ -0,0 +1,98 @@
+package com.financiera.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.financiera.dto.TransactionResponse;
+import com.financiera.exception.BadRequestException;
+import com.financiera.service.TransactionService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * REST Controller for bulk, streaming exports of financial transactions.
+ * <p>Records are written as newline-delimited JSON (NDJSON) while they are read
+ * from the database, so neither the service nor the response holds the full
+ * result set in memory.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/transactions/export")
+public class TransactionExportController {
+
+    /** Media type for newline-delimited JSON. */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final TransactionService transactionService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter transactionWriter;
+
+    /**
+     * Constructor for dependency injection.
+     * @param transactionService The business logic service for transactions.
+     * @param objectMapper The application-wide Jackson mapper (keeps date formats consistent with the API).
+     */
+    public TransactionExportController(TransactionService transactionService, ObjectMapper objectMapper) {
+        this.transactionService = transactionService;
+        this.objectMapper = objectMapper;
+        // Flushing after every record would turn each row into a network write
+        this.transactionWriter = objectMapper.writerFor(TransactionResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * GET /api/v1/transactions/export?from=...&amp;to=...
+     * Streams every transaction created within {@code [from, to)} as NDJSON. Requires authentication.
+     *
+     * @param from Inclusive lower bound (ISO-8601 instant, e.g. 2025-01-01T00:00:00Z).
+     * @param to Exclusive upper bound (ISO-8601 instant).
+     * @param response The servlet response the records are written to.
+     * @throws IOException If the client connection fails while streaming.
+     */
+    @GetMapping
+    public void exportTransactions(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                   HttpServletResponse response) throws IOException {
+        log.info("REST request to export transactions from {} to {}", from, to);
+
+        // Reject invalid ranges while a regular JSON error body can still be sent
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Export range is empty: 'from' must be before 'to'");
+        }
+
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.ndjson\"");
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            // One JSON document per line instead of Jackson's default space separator
+            generator.setRootValueSeparator(null);
+
+            long exported = transactionService.exportTransactions(from, to, transaction -> {
+                try {
+                    transactionWriter.writeValue(generator, transaction);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            log.info("Transactions exported: {}", exported);
+        } catch (UncheckedIOException e) {
+            // The client went away mid-stream; the response is already committed
+            log.warn("Transaction export aborted: {}", e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.financiera.dto;
+
+import lombok.Data;
+import java.util.List;
+
+/**
+ * DTO used for responding with the balances of an account.
+ * An account holds one balance per currency it has settled transactions in.
+ */
+@Data
+public class AccountBalanceResponse {
+
+    private String accountId;
+    private List<CurrencyBalanceResponse> balances; // Empty when nothing has settled yet.
+    
+}
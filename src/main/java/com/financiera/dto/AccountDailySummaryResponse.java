@@ -0,0 +1,20 @@
+package com.financiera.dto;
+
+import lombok.Data;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO used for responding with the daily aggregates of an account over a range of UTC days.
+ */
+@Data
+public class AccountDailySummaryResponse {
+
+    private String accountId;
+    private LocalDate from; // First day of the range (inclusive).
+    private LocalDate to; // Last day of the range (inclusive).
+    private Instant asOf; // Transactions with an earlier timestamp are included.
+    private List<DailySummaryResponse> days; // One entry per day and currency; days without transactions are omitted.
+
+}
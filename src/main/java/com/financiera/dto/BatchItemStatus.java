@@ -0,0 +1,13 @@
+package com.financiera.dto;
+
+/**
+ * Outcome of a single item within a batch request.
+ */
+public enum BatchItemStatus {
+
+    /** The item passed validation and was persisted. */
+    CREATED,
+    /** The item failed validation and was not persisted. */
+    REJECTED
+
+}
@@ -0,0 +1,20 @@
+package com.financiera.dto;
+
+import lombok.Data;
+
+/**
+ * DTO used for responding with the statistics of an in-process cache.
+ * Counters are cumulative since application start.
+ */
+@Data
+public class CacheStatsResponse {
+
+    private String name;
+    private long estimatedSize; // Approximate number of cached entries.
+    private long hitCount;
+    private long missCount;
+    private double hitRate; // Hits divided by requests; 1.0 when there were no requests.
+    private long evictionCount; // Entries removed by size or TTL (not by explicit invalidation).
+    private long loadFailureCount; // Misses whose load failed, e.g. unknown IDs.
+
+}
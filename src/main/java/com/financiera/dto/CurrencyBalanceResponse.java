@@ -0,0 +1,17 @@
+package com.financiera.dto;
+
+import lombok.Data;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * DTO describing the settled balance of an account in a single currency.
+ */
+@Data
+public class CurrencyBalanceResponse {
+
+    private String currency; // ISO 4217 currency code.
+    private BigDecimal balance; // COMPLETED credits minus COMPLETED debits.
+    private Instant updatedAt; // Last time the balance changed.
+    
+}
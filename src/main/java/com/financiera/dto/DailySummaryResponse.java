@@ -0,0 +1,23 @@
+package com.financiera.dto;
+
+import lombok.Data;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO describing the transactions of an account in a single currency on one UTC day.
+ * Totals and the transaction count include every status.
+ */
+@Data
+public class DailySummaryResponse {
+
+    private LocalDate day;
+    private String currency; // ISO 4217 currency code.
+    private long transactionCount;
+    private BigDecimal creditTotal; // Sum of the CREDIT amounts.
+    private BigDecimal debitTotal; // Sum of the DEBIT amounts.
+    private long pendingCount;
+    private long completedCount;
+    private long failedCount;
+
+}
@@ -0,0 +1,24 @@
+package com.financiera.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * DTO used for responding with the state of the in-memory hot window store of this instance.
+ * Counters are cumulative since application start.
+ */
+@Data
+public class HotWindowStatsResponse {
+
+    private boolean enabled; // Whether reads of the recent window are served from memory.
+    private boolean ready; // Whether the store is loaded and serving reads.
+    private Instant floor; // Reads of transactions from this timestamp on are served from memory.
+    private int segments; // Number of column segments held.
+    private long rows; // Rows held, including deleted transactions.
+    private int accounts; // Distinct account IDs in the dictionary.
+    private long hits; // Reads served from memory.
+    private long misses; // Reads sent to the database (outside the window or ID not held).
+    private long evicted; // Rows dropped because they left the window or the row limit.
+
+}
@@ -0,0 +1,24 @@
+package com.financiera.dto;
+
+import lombok.Data;
+
+/**
+ * DTO used for responding with the state of the write-behind ingestion queue.
+ * Counters are cumulative since application start.
+ */
+@Data
+public class IngestionStatsResponse {
+
+    private boolean enabled; // Whether POST /api/v1/transactions is acknowledged before commit.
+    private int queueDepth; // Transactions accepted but not yet written.
+    private int queueCapacity;
+    private long accepted; // Transactions acknowledged with 202.
+    private long rejected; // Submissions refused with 429 (queue full or shutting down).
+    private long persisted; // Transactions written to the database.
+    private long failed; // Transactions that could not be written and were dropped (see error log).
+    private long batches; // Committed flush batches.
+    private int lastBatchSize;
+    private int maxBatchSize;
+    private double averageBatchSize;
+
+}
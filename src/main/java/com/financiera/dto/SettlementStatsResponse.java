@@ -0,0 +1,22 @@
+package com.financiera.dto;
+
+import lombok.Data;
+
+/**
+ * DTO used for responding with the state of the settlement engine of this instance.
+ * Counters are cumulative since application start.
+ */
+@Data
+public class SettlementStatsResponse {
+
+    private boolean enabled; // Whether this instance runs settlement workers.
+    private int workers; // Number of worker threads.
+    private int batchSize; // Maximum number of transactions claimed per database transaction.
+    private long batches; // Committed batches that claimed at least one transaction.
+    private long claimed; // PENDING transactions locked and handed to the settlement rule.
+    private long completed; // Transactions moved to COMPLETED.
+    private long failed; // Transactions moved to FAILED.
+    private long deferred; // Transactions the rule left PENDING (or threw on; see error log).
+    private long errors; // Batches rolled back by a database error.
+
+}
@@ -0,0 +1,18 @@
+package com.financiera.dto;
+
+import lombok.Data;
+import java.util.Map;
+
+/**
+ * DTO describing the result of one item of a batch creation request.
+ * Items are reported in the same order (and with the same index) as submitted.
+ */
+@Data
+public class TransactionBatchItemResult {
+
+    private int index; // Zero-based position of the item in the submitted list.
+    private BatchItemStatus status; // CREATED or REJECTED.
+    private TransactionResponse transaction; // The created transaction (only when CREATED).
+    private Map<String, String> errors; // Field validation errors (only when REJECTED).
+    
+}
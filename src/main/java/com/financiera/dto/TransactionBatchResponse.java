@@ -0,0 +1,17 @@
+package com.financiera.dto;
+
+import lombok.Data;
+import java.util.List;
+
+/**
+ * DTO used for responding to a batch transaction creation request.
+ * Contains aggregate counters and one result per submitted item.
+ */
+@Data
+public class TransactionBatchResponse {
+
+    private int created; // Number of items persisted.
+    private int rejected; // Number of items rejected by validation.
+    private List<TransactionBatchItemResult> results; // Per-item outcome, in submission order.
+    
+}
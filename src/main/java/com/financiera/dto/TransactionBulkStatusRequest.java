@@ -0,0 +1,31 @@
+package com.financiera.dto;
+
+import com.financiera.model.TransactionStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO used for moving many PENDING transactions to a final status at once.
+ * Selects the transactions either by ID or by a time window (optionally for one account).
+ */
+@Data
+public class TransactionBulkStatusRequest {
+
+    @NotNull(message = "Target status is mandatory")
+    private TransactionStatus status; // COMPLETED or FAILED.
+
+    private List<UUID> transactionIds; // Explicit selection; mutually exclusive with the window filter.
+
+    @Size(max = 50, message = "Account ID cannot exceed 50 characters")
+    private String accountId; // Optional account restriction of the window filter.
+
+    private Instant from; // Inclusive lower bound of the window filter.
+
+    private Instant to; // Exclusive upper bound of the window filter.
+
+}
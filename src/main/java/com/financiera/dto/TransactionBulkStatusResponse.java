@@ -0,0 +1,17 @@
+package com.financiera.dto;
+
+import com.financiera.model.TransactionStatus;
+import lombok.Data;
+
+/**
+ * DTO used for responding to a bulk status transition request.
+ */
+@Data
+public class TransactionBulkStatusResponse {
+
+    private TransactionStatus status; // The target status.
+    private long updated; // Transactions moved from PENDING to the target status.
+    private long skipped; // Selected IDs that do not exist or were no longer PENDING.
+    private long failed; // Transactions left unchanged because their update failed.
+
+}
@@ -0,0 +1,18 @@
+package com.financiera.dto;
+
+import lombok.Data;
+import java.util.List;
+
+/**
+ * DTO used for responding with a single page of transactions (keyset pagination).
+ * Clients follow {@code next} (or resend {@code nextCursor}) until it is null.
+ */
+@Data
+public class TransactionPageResponse {
+
+    private List<TransactionResponse> items; // Transactions ordered by timestamp, then ID.
+    private int limit; // Effective page size applied by the server.
+    private String nextCursor; // Opaque continuation token; null on the last page.
+    private String next; // Ready-to-use link to the next page; null on the last page.
+    
+}
@@ -22,5 +22,6 @@ public class TransactionResponse {
     private String description;
     private Instant timestamp;
     private TransactionStatus status;
+    private Long version; // Incremented on every update; the transaction's ETag.
     
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.financiera.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception to indicate that a client supplied a syntactically valid
+ * request whose parameters cannot be honoured (e.g., a tampered page cursor).
+ * <p>The {@link ResponseStatus} annotation ensures that whenever this exception
+ * is thrown and not caught, Spring returns an HTTP 400 Bad Request status.</p>
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new BadRequestException with a specific error message.
+     * @param message The detail message describing why the request was rejected.
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
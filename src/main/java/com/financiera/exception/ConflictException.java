@@ -0,0 +1,26 @@
+package com.financiera.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception to indicate that a request cannot be applied to the current state
+ * of a resource (e.g., an invalid transaction status transition).
+ * <p>Handled by {@link GlobalExceptionHandler}, which returns HTTP 409 Conflict.</p>
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new ConflictException with a specific error message.
+     * @param message The detail message describing the conflict.
+     */
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.financiera.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -41,6 +42,102 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
     
+    /**
+     * Handles BadRequestException.
+     * <p>Triggered when request parameters are well-formed but semantically invalid
+     * (e.g., an unreadable pagination cursor).</p>
+     * @param ex The custom bad request exception.
+     * @return A structured 400 Bad Request response.
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequest(BadRequestException ex) {
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.BAD_REQUEST.value());
+        response.put("error", "Bad Request");
+        response.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles ConflictException.
+     * <p>Triggered when a change cannot be applied to the current state of a resource
+     * (e.g., a COMPLETED transaction cannot become FAILED).</p>
+     * @param ex The custom conflict exception.
+     * @return A structured 409 Conflict response.
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflict(ConflictException ex) {
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("error", "Conflict");
+        response.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles PreconditionFailedException.
+     * <p>Triggered when an If-Match header names a version that is no longer current.</p>
+     * @param ex The custom precondition exception.
+     * @return A structured 412 Precondition Failed response.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, Object>> handlePreconditionFailed(PreconditionFailedException ex) {
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.PRECONDITION_FAILED.value());
+        response.put("error", "Precondition Failed");
+        response.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles UnprocessableEntityException.
+     * <p>Triggered when a request contradicts what was already recorded for it
+     * (e.g., an Idempotency-Key reused with a different request body).</p>
+     * @param ex The custom unprocessable entity exception.
+     * @return A structured 422 Unprocessable Entity response.
+     */
+    @ExceptionHandler(UnprocessableEntityException.class)
+    public ResponseEntity<Map<String, Object>> handleUnprocessableEntity(UnprocessableEntityException ex) {
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.UNPROCESSABLE_ENTITY.value());
+        response.put("error", "Unprocessable Entity");
+        response.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    /**
+     * Handles TooManyRequestsException.
+     * <p>Triggered when the service sheds load (e.g., a full ingestion queue). The
+     * {@code Retry-After} header tells well-behaved clients when to try again.</p>
+     * @param ex The custom backpressure exception.
+     * @return A structured 429 Too Many Requests response.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequests(TooManyRequestsException ex) {
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        response.put("error", "Too Many Requests");
+        response.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     /**
      * Handles 404 errors when a static resource or an undefined endpoint is requested.
      * <p>In a financial API, this prevents internal path leakage and provides 
@@ -0,0 +1,27 @@
+package com.financiera.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception to indicate that a conditional request (If-Match) was made against
+ * an outdated version of a resource.
+ * <p>Handled by {@link GlobalExceptionHandler}, which returns HTTP 412 Precondition Failed;
+ * the client should re-read the resource and retry.</p>
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new PreconditionFailedException with a specific error message.
+     * @param message The detail message describing the failed precondition.
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.financiera.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception to indicate that the service cannot accept more work right now
+ * (e.g., the write-behind ingestion queue is full).
+ * <p>Handled by {@link GlobalExceptionHandler}, which returns HTTP 429 Too Many Requests
+ * with a {@code Retry-After} header.</p>
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new TooManyRequestsException.
+     * @param message The detail message describing why the request was rejected.
+     * @param retryAfterSeconds The number of seconds the client should wait before retrying.
+     */
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return The number of seconds the client should wait before retrying.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.financiera.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception to indicate that a well-formed request conflicts with what the
+ * server already recorded for it (e.g., an Idempotency-Key reused with a different body).
+ * <p>Handled by {@link GlobalExceptionHandler}, which returns HTTP 422 Unprocessable Entity.</p>
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class UnprocessableEntityException extends RuntimeException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new UnprocessableEntityException with a specific error message.
+     * @param message The detail message describing why the request was rejected.
+     */
+    public UnprocessableEntityException(String message) {
+        super(message);
+    }
+}
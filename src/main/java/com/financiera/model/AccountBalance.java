@@ -0,0 +1,39 @@
+package com.financiera.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Read model holding the settled balance of an account in one currency.
+ * <p>Rows are maintained incrementally whenever a transaction enters or leaves the
+ * COMPLETED status, so reading a balance never has to scan the transaction history.</p>
+ */
+@Entity
+@Table(name = "account_balances", schema = "skd_financiera")
+@IdClass(AccountBalanceId.class)
+@Data // Lombok: Generates getters, setters, toString, equals, and hashCode.
+@NoArgsConstructor // Lombok: Generates a no-argument constructor.
+public class AccountBalance {
+
+    @Id
+    @Column(length = 50)
+    private String accountId; // The account the balance belongs to.
+
+    @Id
+    @Column(length = 3)
+    private String currency; // ISO 4217 currency code of the balance.
+
+    /**
+     * Sum of COMPLETED credits minus COMPLETED debits.
+     * Wider precision than a single transaction amount, since it accumulates many of them.
+     */
+    @Column(nullable = false, precision = 38, scale = 4)
+    private BigDecimal balance;
+
+    @Column(nullable = false)
+    private Instant updatedAt; // Last time a settled transaction changed this balance.
+
+}
@@ -0,0 +1,21 @@
+package com.financiera.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+
+/**
+ * Composite primary key of {@link AccountBalance}: one balance per account and currency.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String accountId;
+    private String currency;
+
+}
@@ -0,0 +1,50 @@
+package com.financiera.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read model holding the aggregates of one account's transactions in one currency on one UTC day.
+ * <p>Rows are refreshed incrementally from a high-water mark on the transaction timestamp, so
+ * a daily summary reads one row per day and currency instead of the transactions behind it.</p>
+ */
+@Entity
+@Table(name = "account_daily_rollups", schema = "skd_financiera")
+@IdClass(AccountDailyRollupId.class)
+@Data // Lombok: Generates getters, setters, toString, equals, and hashCode.
+@NoArgsConstructor // Lombok: Generates a no-argument constructor.
+public class AccountDailyRollup {
+
+    @Id
+    @Column(length = 50)
+    private String accountId; // The account the aggregates belong to.
+
+    @Id
+    private LocalDate day; // UTC day of the transaction timestamps.
+
+    @Id
+    @Column(length = 3)
+    private String currency; // ISO 4217 currency code of the aggregated amounts.
+
+    @Column(nullable = false)
+    private long transactionCount; // Transactions of the day, in any status.
+
+    @Column(nullable = false, precision = 38, scale = 4)
+    private BigDecimal creditTotal; // Sum of the CREDIT amounts, in any status.
+
+    @Column(nullable = false, precision = 38, scale = 4)
+    private BigDecimal debitTotal; // Sum of the DEBIT amounts, in any status.
+
+    @Column(nullable = false)
+    private long pendingCount;
+
+    @Column(nullable = false)
+    private long completedCount;
+
+    @Column(nullable = false)
+    private long failedCount;
+
+}
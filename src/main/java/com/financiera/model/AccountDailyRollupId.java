@@ -0,0 +1,23 @@
+package com.financiera.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Composite primary key of {@link AccountDailyRollup}: one rollup per account, UTC day and currency.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDailyRollupId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String accountId;
+    private LocalDate day;
+    private String currency;
+
+}
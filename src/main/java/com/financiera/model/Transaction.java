@@ -18,8 +18,8 @@ import java.util.UUID;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID transactionId; // Primary key using UUID for global uniqueness.
+    @TimeOrderedUuid
+    private UUID transactionId; // Primary key: time-ordered UUIDv7, so inserts append to the index.
 
     @Column(nullable = false, length = 50)
     private String accountId; // The related account ID (e.g., IBAN or internal identifier).
@@ -48,4 +48,8 @@ public class Transaction {
     @Column(nullable = false)
     private TransactionStatus status; // Current state of the transaction (PENDING, COMPLETED, FAILED).
 
+    @Version
+    @Column(nullable = false)
+    private Long version; // Optimistic-locking counter, incremented by every update.
+
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.financiera.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Records which transaction was created for a client's Idempotency-Key.
+ * <p>Rows are written once, in the same database transaction as the transaction they
+ * point to, and never updated.</p>
+ */
+@Entity
+@Table(name = "transaction_idempotency_keys", schema = "skd_financiera")
+@Data // Lombok: Generates getters, setters, toString, equals, and hashCode.
+@NoArgsConstructor // Lombok: Generates a no-argument constructor.
+public class TransactionIdempotencyKey {
+
+    @Id
+    @Column(length = 320)
+    private String idempotencyKey; // Client identity and Idempotency-Key header, e.g. "user:3f2a...".
+
+    @Column(nullable = false, length = 64)
+    private String requestHash; // SHA-256 of the original request body, to detect key reuse.
+
+    @Column(nullable = false)
+    private UUID transactionId; // The transaction created by the first request with this key.
+
+    @Column(nullable = false)
+    private Instant createdAt; // When the key was first used.
+
+}
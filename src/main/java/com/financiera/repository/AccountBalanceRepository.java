@@ -0,0 +1,49 @@
+package com.financiera.repository;
+
+import com.financiera.model.AccountBalance;
+import com.financiera.model.AccountBalanceId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Repository interface for the per-account balance read model.
+ */
+@Repository
+public interface AccountBalanceRepository extends JpaRepository<AccountBalance, AccountBalanceId> {
+
+    /**
+     * Finds the balances of an account, one per currency.
+     * Served by the primary key index (account_id is its leading column).
+     *
+     * @param accountId The ID of the account.
+     * @return The balances of the account, ordered by currency.
+     */
+    List<AccountBalance> findByAccountIdOrderByCurrencyAsc(String accountId);
+
+    /**
+     * Atomically adds a signed delta to a balance, creating the row on first use.
+     * <p>A single upsert statement avoids the read-modify-write race between
+     * concurrent transactions settling on the same account.</p>
+     *
+     * @param accountId The ID of the account.
+     * @param currency The ISO 4217 currency code.
+     * @param delta The signed amount to add (negative for debits or reversals).
+     * @return The number of affected rows (always 1).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO skd_financiera.account_balances (account_id, currency, balance, updated_at) " +
+                   "VALUES (:accountId, :currency, :delta, now()) " +
+                   "ON CONFLICT (account_id, currency) DO UPDATE " +
+                   "SET balance = account_balances.balance + EXCLUDED.balance, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int applyDelta(@Param("accountId") String accountId,
+                   @Param("currency") String currency,
+                   @Param("delta") BigDecimal delta);
+
+}
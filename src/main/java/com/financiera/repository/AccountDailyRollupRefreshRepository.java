@@ -0,0 +1,71 @@
+package com.financiera.repository;
+
+import com.financiera.model.AccountDailyRollupId;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom repository fragment for the incremental refresh of the daily rollups.
+ * <p>The rollups include exactly the transactions with a timestamp below the high-water mark.
+ * New transactions are added by advancing the mark over a time range; groups whose
+ * transactions changed status or were deleted are marked stale and recomputed.</p>
+ */
+public interface AccountDailyRollupRefreshRepository {
+
+    /**
+     * @return The current high-water mark, read without locking.
+     */
+    Instant findHighWater();
+
+    /**
+     * Locks the high-water mark for a refresh step, until the current database transaction
+     * ends. Does not wait: returns null if another instance is refreshing.
+     *
+     * @return The current high-water mark, or null if it is locked by another transaction.
+     */
+    Instant lockHighWater();
+
+    /**
+     * Moves the high-water mark. Must follow {@link #lockHighWater()} in the same database transaction.
+     *
+     * @param highWater The new mark.
+     */
+    void updateHighWater(Instant highWater);
+
+    /**
+     * Adds the transactions with a timestamp in {@code [from, to)} to the rollups, with one
+     * aggregating statement.
+     *
+     * @param from Inclusive lower bound; the current high-water mark.
+     * @param to Exclusive upper bound; the new high-water mark.
+     * @return The number of rollup rows created or updated.
+     */
+    int addTransactions(Instant from, Instant to);
+
+    /**
+     * Marks groups as stale, in the current database transaction. Already marked groups are left as they are.
+     *
+     * @param keys The groups, in a consistent order, so concurrent markers cannot deadlock.
+     */
+    void markStale(Collection<AccountDailyRollupId> keys);
+
+    /**
+     * Removes up to {@code limit} groups from the stale set, for recomputation in the same database transaction.
+     *
+     * @param limit The maximum number of groups to take.
+     * @return The groups taken.
+     */
+    List<AccountDailyRollupId> takeStale(int limit);
+
+    /**
+     * Replaces the rollups of the given groups with aggregates of their transactions below the high-water mark.
+     *
+     * @param keys The groups to recompute.
+     * @param highWater The current high-water mark.
+     * @return The number of rollup rows written; groups without transactions left are deleted.
+     */
+    int recompute(Collection<AccountDailyRollupId> keys, Instant highWater);
+
+}
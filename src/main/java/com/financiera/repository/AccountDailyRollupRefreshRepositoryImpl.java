@@ -0,0 +1,185 @@
+package com.financiera.repository;
+
+import com.financiera.model.AccountDailyRollupId;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link AccountDailyRollupRefreshRepository}.
+ * Picked up by Spring Data as a fragment of {@link AccountDailyRollupRepository} by naming convention.
+ */
+class AccountDailyRollupRefreshRepositoryImpl implements AccountDailyRollupRefreshRepository {
+
+    private static final String WATERMARK = "account_daily";
+
+    private static final String COLUMNS =
+            "(account_id, day, currency, transaction_count, credit_total, debit_total, " +
+            "pending_count, completed_count, failed_count)";
+
+    // Aggregates of the transactions selected by the FROM/WHERE clause that follows, per UTC day
+    private static final String AGGREGATES =
+            "SELECT t.account_id, (t.\"timestamp\" AT TIME ZONE 'UTC')::date, t.currency, count(*), " +
+            "coalesce(sum(t.amount) FILTER (WHERE t.type = 'CREDIT'), 0), " +
+            "coalesce(sum(t.amount) FILTER (WHERE t.type = 'DEBIT'), 0), " +
+            "count(*) FILTER (WHERE t.status = 'PENDING'), " +
+            "count(*) FILTER (WHERE t.status = 'COMPLETED'), " +
+            "count(*) FILTER (WHERE t.status = 'FAILED') ";
+
+    // The time bounds let the planner prune every partition outside the range
+    private static final String ADD_SQL =
+            "INSERT INTO skd_financiera.account_daily_rollups AS r " + COLUMNS + " " + AGGREGATES +
+            "FROM skd_financiera.transactions t WHERE t.\"timestamp\" >= ? AND t.\"timestamp\" < ? " +
+            "GROUP BY 1, 2, 3 " +
+            "ON CONFLICT (account_id, day, currency) DO UPDATE SET " +
+            "transaction_count = r.transaction_count + EXCLUDED.transaction_count, " +
+            "credit_total = r.credit_total + EXCLUDED.credit_total, " +
+            "debit_total = r.debit_total + EXCLUDED.debit_total, " +
+            "pending_count = r.pending_count + EXCLUDED.pending_count, " +
+            "completed_count = r.completed_count + EXCLUDED.completed_count, " +
+            "failed_count = r.failed_count + EXCLUDED.failed_count";
+
+    // The groups travel as three parallel arrays: a single statement shape for any number of groups
+    private static final String KEYS = "unnest(?::varchar[], ?::date[], ?::varchar[]) AS k(account_id, day, currency)";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM skd_financiera.account_daily_rollups r USING " + KEYS + " " +
+            "WHERE r.account_id = k.account_id AND r.day = k.day AND r.currency = k.currency";
+
+    // One probe of the (account_id, timestamp) index per group
+    private static final String RECOMPUTE_SQL =
+            "INSERT INTO skd_financiera.account_daily_rollups " + COLUMNS + " " + AGGREGATES +
+            "FROM " + KEYS + " JOIN skd_financiera.transactions t " +
+            "ON t.account_id = k.account_id AND t.currency = k.currency " +
+            "AND t.\"timestamp\" >= k.day::timestamp AT TIME ZONE 'UTC' " +
+            "AND t.\"timestamp\" < (k.day + 1)::timestamp AT TIME ZONE 'UTC' " +
+            "WHERE t.\"timestamp\" < ? " +
+            "GROUP BY 1, 2, 3";
+
+    private static final String MARK_SQL =
+            "INSERT INTO skd_financiera.account_daily_rollup_stale (account_id, day, currency) " +
+            "SELECT * FROM " + KEYS + " ON CONFLICT DO NOTHING";
+
+    private static final String TAKE_SQL =
+            "DELETE FROM skd_financiera.account_daily_rollup_stale s " +
+            "USING (SELECT account_id, day, currency FROM skd_financiera.account_daily_rollup_stale " +
+            "ORDER BY account_id, day, currency LIMIT ?) k " +
+            "WHERE s.account_id = k.account_id AND s.day = k.day AND s.currency = k.currency " +
+            "RETURNING s.account_id, s.day, s.currency";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param jdbcTemplate JdbcTemplate bound to the application DataSource (joins the current transaction).
+     */
+    AccountDailyRollupRefreshRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant findHighWater() {
+        return jdbcTemplate.queryForObject(
+                "SELECT high_water FROM skd_financiera.rollup_watermarks WHERE name = ?",
+                OffsetDateTime.class, WATERMARK).toInstant();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant lockHighWater() {
+        List<OffsetDateTime> highWater = jdbcTemplate.queryForList(
+                "SELECT high_water FROM skd_financiera.rollup_watermarks WHERE name = ? FOR UPDATE SKIP LOCKED",
+                OffsetDateTime.class, WATERMARK);
+        return highWater.isEmpty() ? null : highWater.get(0).toInstant();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateHighWater(Instant highWater) {
+        jdbcTemplate.update("UPDATE skd_financiera.rollup_watermarks SET high_water = ? WHERE name = ?",
+                OffsetDateTime.ofInstant(highWater, ZoneOffset.UTC), WATERMARK);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int addTransactions(Instant from, Instant to) {
+        return jdbcTemplate.update(ADD_SQL,
+                OffsetDateTime.ofInstant(from, ZoneOffset.UTC), OffsetDateTime.ofInstant(to, ZoneOffset.UTC));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markStale(Collection<AccountDailyRollupId> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(MARK_SQL);
+            bindKeys(connection, ps, keys);
+            return ps;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AccountDailyRollupId> takeStale(int limit) {
+        return jdbcTemplate.query(TAKE_SQL, (rs, rowNum) -> new AccountDailyRollupId(
+                rs.getString("account_id"), rs.getObject("day", LocalDate.class), rs.getString("currency")), limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int recompute(Collection<AccountDailyRollupId> keys, Instant highWater) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        // Delete first: the groups that lost all their transactions must disappear
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_SQL);
+            bindKeys(connection, ps, keys);
+            return ps;
+        });
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(RECOMPUTE_SQL);
+            bindKeys(connection, ps, keys);
+            ps.setObject(4, OffsetDateTime.ofInstant(highWater, ZoneOffset.UTC));
+            return ps;
+        });
+    }
+
+    /**
+     * Binds the groups as the three array parameters of {@link #KEYS}.
+     */
+    private static void bindKeys(Connection connection, PreparedStatement ps,
+                                 Collection<AccountDailyRollupId> keys) throws SQLException {
+        ps.setArray(1, connection.createArrayOf("varchar",
+                keys.stream().map(AccountDailyRollupId::getAccountId).toArray()));
+        ps.setArray(2, connection.createArrayOf("varchar",
+                keys.stream().map(key -> key.getDay().toString()).toArray()));
+        ps.setArray(3, connection.createArrayOf("varchar",
+                keys.stream().map(AccountDailyRollupId::getCurrency).toArray()));
+    }
+}
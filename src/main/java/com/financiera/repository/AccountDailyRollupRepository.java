@@ -0,0 +1,31 @@
+package com.financiera.repository;
+
+import com.financiera.model.AccountDailyRollup;
+import com.financiera.model.AccountDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for the daily per-account rollup read model.
+ */
+@Repository
+public interface AccountDailyRollupRepository extends JpaRepository<AccountDailyRollup, AccountDailyRollupId>,
+        AccountDailyRollupRefreshRepository {
+
+    /**
+     * Finds the rollups of an account over a range of days.
+     * Served by a range scan of the primary key (account_id, day, currency), so the cost is
+     * proportional to the number of days and currencies returned.
+     *
+     * @param accountId The ID of the account.
+     * @param from The first day (inclusive).
+     * @param to The last day (inclusive).
+     * @return The rollups, ordered by day and currency; days without transactions have none.
+     */
+    List<AccountDailyRollup> findByAccountIdAndDayBetweenOrderByDayAscCurrencyAsc(String accountId,
+                                                                                 LocalDate from, LocalDate to);
+
+}
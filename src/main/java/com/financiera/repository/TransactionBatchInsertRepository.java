@@ -0,0 +1,29 @@
+package com.financiera.repository;
+
+import com.financiera.model.Transaction;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for bulk inserts of transactions whose IDs are assigned by the
+ * application (write-behind ingestion).
+ * <p>Spring Data's {@code saveAll} treats an entity with a non-null ID as existing and issues a
+ * SELECT per row before merging; this fragment writes the rows with one JDBC batch instead.</p>
+ */
+public interface TransactionBatchInsertRepository {
+
+    /**
+     * Inserts the given transactions as a single JDBC batch in the current database transaction.
+     * Rows whose ID already exists (in the partition of their timestamp) are skipped, so a batch
+     * retried after an ambiguous commit, which carries the same timestamps, does not fail or
+     * duplicate data.
+     *
+     * <p>The partitioned table does not enforce the uniqueness of an ID on its own (see V7), so
+     * the IDs must come from {@code UuidV7}, never from a client.</p>
+     *
+     * @param transactions The new transactions, with ID and timestamp already assigned.
+     * @return The number of rows actually inserted.
+     */
+    int insertAll(List<Transaction> transactions);
+
+}
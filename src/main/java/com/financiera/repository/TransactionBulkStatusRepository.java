@@ -0,0 +1,55 @@
+package com.financiera.repository;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.utils.PageCursor;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for set-based status transitions of many transactions.
+ * <p>Used by bulk settlement and the settlement engine: one statement moves a whole chunk of
+ * PENDING transactions, instead of one read and one write per transaction.</p>
+ */
+public interface TransactionBulkStatusRepository {
+
+    /**
+     * Moves those of the given transactions that are still PENDING to a new status, in one
+     * statement in the current database transaction. Other IDs are left untouched.
+     *
+     * @param ids The IDs of the transactions to move.
+     * @param status The target status.
+     * @return The updated rows (new status and version); their previous status was PENDING.
+     */
+    List<Transaction> transitionPending(Collection<UUID> ids, TransactionStatus status);
+
+    /**
+     * Finds the keys of the next PENDING transactions in a time window, in
+     * {@code (timestamp, transactionId)} order, for chunked processing.
+     *
+     * @param accountId The account to restrict to, or null for all accounts.
+     * @param from Inclusive lower bound of the window.
+     * @param to Exclusive upper bound of the window.
+     * @param after The key of the last transaction of the previous chunk, or null to start at {@code from}.
+     * @param limit The maximum number of keys to return.
+     * @return The keys, in ascending order.
+     */
+    List<PageCursor> findPendingKeys(String accountId, Instant from, Instant to, PageCursor after, int limit);
+
+    /**
+     * Locks the next batch of PENDING transactions for settlement, skipping rows already locked
+     * by another worker or instance ({@code FOR UPDATE SKIP LOCKED}). The locks are held until
+     * the current database transaction ends, so concurrent workers claim disjoint batches
+     * without waiting on each other.
+     *
+     * @param createdBefore Only transactions with a timestamp before this instant are claimed.
+     * @param after The key of the last transaction claimed by the same worker in this pass, or null to start over.
+     * @param limit The maximum number of transactions to claim.
+     * @return The claimed transactions, in {@code (timestamp, transactionId)} order.
+     */
+    List<Transaction> lockPendingBatch(Instant createdBefore, PageCursor after, int limit);
+
+}
@@ -0,0 +1,114 @@
+package com.financiera.repository;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.utils.PageCursor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link TransactionBulkStatusRepository}.
+ * Picked up by Spring Data as a fragment of {@link TransactionRepository} by naming convention.
+ */
+class TransactionBulkStatusRepositoryImpl implements TransactionBulkStatusRepository {
+
+    // The IDs travel as one uuid[] parameter: a single statement shape for any chunk size
+    private static final String TRANSITION_SQL =
+            "UPDATE skd_financiera.transactions " +
+            "SET status = ?, version = version + 1 " +
+            "WHERE transaction_id = ANY (?) AND status = 'PENDING' " +
+            "RETURNING transaction_id, account_id, type, amount, currency, description, " +
+            "\"timestamp\", status, version";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param jdbcTemplate JdbcTemplate bound to the application DataSource (joins the current transaction).
+     */
+    TransactionBulkStatusRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Transaction> transitionPending(Collection<UUID> ids, TransactionStatus status) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(TRANSITION_SQL);
+            ps.setString(1, status.name());
+            ps.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        }, (rs, rowNum) -> TransactionConditionalUpdateRepositoryImpl.mapTransaction(rs));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PageCursor> findPendingKeys(String accountId, Instant from, Instant to, PageCursor after, int limit) {
+        // Separate statement shapes instead of "? IS NULL OR ..." so the planner can use the indexes:
+        // (account_id, timestamp DESC, transaction_id DESC) scanned backwards, or (timestamp, transaction_id)
+        StringBuilder sql = new StringBuilder(
+                "SELECT transaction_id, \"timestamp\" FROM skd_financiera.transactions " +
+                "WHERE \"timestamp\" >= ? AND \"timestamp\" < ? AND status = 'PENDING'");
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(OffsetDateTime.ofInstant(from, ZoneOffset.UTC));
+        parameters.add(OffsetDateTime.ofInstant(to, ZoneOffset.UTC));
+        if (accountId != null) {
+            sql.append(" AND account_id = ?");
+            parameters.add(accountId);
+        }
+        if (after != null) {
+            // The plain bound lets the planner prune earlier months; the row comparison breaks ties
+            sql.append(" AND \"timestamp\" >= ? AND (\"timestamp\", transaction_id) > (?, ?)");
+            parameters.add(OffsetDateTime.ofInstant(after.timestamp(), ZoneOffset.UTC));
+            parameters.add(OffsetDateTime.ofInstant(after.timestamp(), ZoneOffset.UTC));
+            parameters.add(after.transactionId());
+        }
+        sql.append(" ORDER BY \"timestamp\", transaction_id LIMIT ?");
+        parameters.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new PageCursor(
+                rs.getObject("timestamp", OffsetDateTime.class).toInstant(),
+                rs.getObject("transaction_id", UUID.class)), parameters.toArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Transaction> lockPendingBatch(Instant createdBefore, PageCursor after, int limit) {
+        // Served by the partial index on PENDING rows, so settled history is never scanned
+        StringBuilder sql = new StringBuilder(
+                "SELECT transaction_id, account_id, type, amount, currency, description, " +
+                "\"timestamp\", status, version FROM skd_financiera.transactions " +
+                "WHERE status = 'PENDING' AND \"timestamp\" < ?");
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(OffsetDateTime.ofInstant(createdBefore, ZoneOffset.UTC));
+        if (after != null) {
+            // The plain bound lets the planner prune earlier months; the row comparison breaks ties
+            sql.append(" AND \"timestamp\" >= ? AND (\"timestamp\", transaction_id) > (?, ?)");
+            parameters.add(OffsetDateTime.ofInstant(after.timestamp(), ZoneOffset.UTC));
+            parameters.add(OffsetDateTime.ofInstant(after.timestamp(), ZoneOffset.UTC));
+            parameters.add(after.transactionId());
+        }
+        sql.append(" ORDER BY \"timestamp\", transaction_id LIMIT ? FOR UPDATE SKIP LOCKED");
+        parameters.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> TransactionConditionalUpdateRepositoryImpl.mapTransaction(rs), parameters.toArray());
+    }
+}
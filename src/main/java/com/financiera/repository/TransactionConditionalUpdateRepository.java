@@ -0,0 +1,40 @@
+package com.financiera.repository;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment for updating or deleting a transaction in a single statement.
+ * <p>The version check, the status transition rule and the write happen in one
+ * {@code UPDATE ... RETURNING} round trip, instead of a load, a dirty check and a flush,
+ * so two writers racing on the same transaction cannot silently overwrite each other.</p>
+ */
+public interface TransactionConditionalUpdateRepository {
+
+    /**
+     * Applies a description and/or status change if the preconditions hold, in the current
+     * database transaction. Allowed status changes are PENDING to COMPLETED or FAILED, and
+     * keeping the current status. The version is incremented only when a value changes.
+     *
+     * @param id The transaction ID.
+     * @param expectedVersion The version the caller last saw, or null to skip the check.
+     * @param description The new description, or null to keep the current one.
+     * @param status The new status, or null to keep the current one.
+     * @return The updated row with its previous status, or the reason nothing was updated.
+     */
+    TransactionUpdateResult updateConditionally(UUID id, Long expectedVersion, String description,
+                                                TransactionStatus status);
+
+    /**
+     * Deletes a transaction in one {@code DELETE ... RETURNING} round trip, in the current
+     * database transaction, instead of an existence check, a load and a delete.
+     *
+     * @param id The transaction ID.
+     * @return The deleted row, or empty if no transaction has this ID.
+     */
+    Optional<Transaction> deleteReturning(UUID id);
+
+}
@@ -0,0 +1,125 @@
+package com.financiera.repository;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.model.TransactionType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link TransactionConditionalUpdateRepository}.
+ * Picked up by Spring Data as a fragment of {@link TransactionRepository} by naming convention.
+ */
+class TransactionConditionalUpdateRepositoryImpl implements TransactionConditionalUpdateRepository {
+
+    // "target" locks the row and captures its state before the update; the outer join always
+    // returns that state, so a row that was not updated still tells us why, in the same round trip
+    private static final String UPDATE_SQL =
+            "WITH target AS (" +
+            "    SELECT transaction_id, status, version FROM skd_financiera.transactions " +
+            "    WHERE transaction_id = :id FOR UPDATE" +
+            "), updated AS (" +
+            "    UPDATE skd_financiera.transactions t " +
+            "    SET description = COALESCE(:description, t.description), " +
+            "        status = COALESCE(:status, t.status), " +
+            "        version = t.version + CASE " +
+            "            WHEN t.description IS DISTINCT FROM COALESCE(:description, t.description) " +
+            "              OR t.status <> COALESCE(:status, t.status) THEN 1 ELSE 0 END " +
+            "    FROM target " +
+            "    WHERE t.transaction_id = target.transaction_id " +
+            "      AND (CAST(:expectedVersion AS bigint) IS NULL OR target.version = :expectedVersion) " +
+            "      AND (CAST(:status AS varchar) IS NULL OR target.status = :status " +
+            "           OR (target.status = 'PENDING' AND :status IN ('COMPLETED', 'FAILED'))) " +
+            "    RETURNING t.transaction_id, t.account_id, t.type, t.amount, t.currency, t.description, " +
+            "              t.\"timestamp\", t.status, t.version" +
+            ") " +
+            "SELECT target.status AS previous_status, target.version AS previous_version, updated.* " +
+            "FROM target LEFT JOIN updated ON true";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM skd_financiera.transactions WHERE transaction_id = :id " +
+            "RETURNING transaction_id, account_id, type, amount, currency, description, " +
+            "\"timestamp\", status, version";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param jdbcTemplate Template bound to the application DataSource (joins the current transaction).
+     */
+    TransactionConditionalUpdateRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionUpdateResult updateConditionally(UUID id, Long expectedVersion, String description,
+                                                       TransactionStatus status) {
+        // Explicit SQL types, so null parameters need no metadata round trip
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("expectedVersion", expectedVersion, Types.BIGINT)
+                .addValue("description", description, Types.VARCHAR)
+                .addValue("status", status == null ? null : status.name(), Types.VARCHAR);
+
+        List<TransactionUpdateResult> rows = jdbcTemplate.query(UPDATE_SQL, parameters,
+                (rs, rowNum) -> toResult(rs, expectedVersion));
+        if (rows.isEmpty()) {
+            return new TransactionUpdateResult(TransactionUpdateResult.Outcome.NOT_FOUND, null, null, null);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Transaction> deleteReturning(UUID id) {
+        List<Transaction> rows = jdbcTemplate.query(DELETE_SQL, new MapSqlParameterSource("id", id),
+                (rs, rowNum) -> mapTransaction(rs));
+        return rows.stream().findFirst();
+    }
+
+    private static TransactionUpdateResult toResult(ResultSet rs, Long expectedVersion) throws SQLException {
+        TransactionStatus previousStatus = TransactionStatus.valueOf(rs.getString("previous_status"));
+        long previousVersion = rs.getLong("previous_version");
+        if (rs.getObject("transaction_id") == null) {
+            TransactionUpdateResult.Outcome outcome = expectedVersion != null && expectedVersion != previousVersion
+                    ? TransactionUpdateResult.Outcome.VERSION_MISMATCH
+                    : TransactionUpdateResult.Outcome.INVALID_TRANSITION;
+            return new TransactionUpdateResult(outcome, null, previousStatus, previousVersion);
+        }
+        return new TransactionUpdateResult(TransactionUpdateResult.Outcome.UPDATED, mapTransaction(rs),
+                previousStatus, previousVersion);
+    }
+
+    /**
+     * Maps the columns of a transactions row to a detached entity.
+     * @param rs The result set positioned on the row.
+     * @return The transaction.
+     * @throws SQLException if a column cannot be read.
+     */
+    static Transaction mapTransaction(ResultSet rs) throws SQLException {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(rs.getObject("transaction_id", UUID.class));
+        transaction.setAccountId(rs.getString("account_id"));
+        transaction.setType(TransactionType.valueOf(rs.getString("type")));
+        transaction.setAmount(rs.getBigDecimal("amount"));
+        transaction.setCurrency(rs.getString("currency"));
+        transaction.setDescription(rs.getString("description"));
+        transaction.setTimestamp(rs.getObject("timestamp", OffsetDateTime.class).toInstant());
+        transaction.setStatus(TransactionStatus.valueOf(rs.getString("status")));
+        transaction.setVersion(rs.getLong("version"));
+        return transaction;
+    }
+}
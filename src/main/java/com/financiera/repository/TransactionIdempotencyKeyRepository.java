@@ -0,0 +1,57 @@
+package com.financiera.repository;
+
+import com.financiera.model.TransactionIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Repository interface for the durable Idempotency-Key records of transaction creation.
+ */
+@Repository
+public interface TransactionIdempotencyKeyRepository extends JpaRepository<TransactionIdempotencyKey, String> {
+
+    /**
+     * Claims an idempotency key for a transaction about to be created.
+     * <p>The primary key makes the claim atomic across instances: when another database
+     * transaction holds the same key uncommitted, this statement waits for it and then
+     * inserts nothing if it committed.</p>
+     *
+     * @param idempotencyKey The client-scoped idempotency key.
+     * @param requestHash The SHA-256 fingerprint of the request.
+     * @param transactionId The ID of the transaction that will be created.
+     * @return 1 if the key was claimed, 0 if it already belongs to an earlier request.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO skd_financiera.transaction_idempotency_keys " +
+                   "(idempotency_key, request_hash, transaction_id, created_at) " +
+                   "VALUES (:idempotencyKey, :requestHash, :transactionId, now()) " +
+                   "ON CONFLICT (idempotency_key) DO NOTHING",
+           nativeQuery = true)
+    int claim(@Param("idempotencyKey") String idempotencyKey,
+              @Param("requestHash") String requestHash,
+              @Param("transactionId") UUID transactionId);
+
+    /**
+     * Deletes up to {@code limit} keys first used before {@code cutoff}, in its own database
+     * transaction, using the {@code created_at} index.
+     *
+     * @param cutoff Keys created before this instant are deleted.
+     * @param limit The maximum number of keys deleted by this call.
+     * @return The number of keys deleted.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM skd_financiera.transaction_idempotency_keys WHERE idempotency_key IN (" +
+                   "SELECT idempotency_key FROM skd_financiera.transaction_idempotency_keys " +
+                   "WHERE created_at < :cutoff LIMIT :limit)",
+           nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+
+}
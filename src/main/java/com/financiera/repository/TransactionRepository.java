@@ -1,27 +1,122 @@
 package com.financiera.repository;
 
 import com.financiera.model.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Transaction entities.
  * Extends JpaRepository to provide standard CRUD operations, 
  * leveraging Spring Data JPA's power.
+ * <p>The table is range-partitioned by month on {@code timestamp}. Queries that know a time
+ * bound state it as a plain comparison on {@code timestamp} (row-value comparisons alone are
+ * not used for partition pruning), so the planner skips the months outside the range.</p>
  */
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>, TransactionBatchInsertRepository,
+        TransactionConditionalUpdateRepository, TransactionBulkStatusRepository {
 
     /**
-     * Finds all transactions associated with a specific account ID.
-     * This is an example of a derived query method provided by Spring Data JPA.
+     * Retrieves the first page of an account statement: the account's transactions
+     * within {@code [from, to)}, newest first.
+     * <p>Served by the {@code (account_id, timestamp DESC, transaction_id DESC)} index,
+     * so the cost depends on the page size, not on the account history or table size.</p>
      *
-     * @param accountId The ID of the account to search for.
-     * @return A list of transactions linked to the given account ID.
+     * @param accountId The ID of the account.
+     * @param from Inclusive lower bound of the transaction timestamp.
+     * @param to Exclusive upper bound of the transaction timestamp.
+     * @param limit The maximum number of rows to return.
+     * @return The newest matching transactions, up to {@code limit} rows.
      */
-    List<Transaction> findByAccountId(String accountId);
+    @Query("SELECT t FROM Transaction t " +
+           "WHERE t.accountId = :accountId AND t.timestamp >= :from AND t.timestamp < :to " +
+           "ORDER BY t.timestamp DESC, t.transactionId DESC")
+    List<Transaction> findStatementFirstPage(@Param("accountId") String accountId,
+                                             @Param("from") Instant from,
+                                             @Param("to") Instant to,
+                                             Limit limit);
+
+    /**
+     * Retrieves the account statement page that follows the given keyset position
+     * (i.e. the next older transactions).
+     *
+     * @param accountId The ID of the account.
+     * @param from Inclusive lower bound of the transaction timestamp.
+     * @param to Exclusive upper bound of the transaction timestamp.
+     * @param timestamp The timestamp of the last row already delivered.
+     * @param transactionId The ID of the last row already delivered.
+     * @param limit The maximum number of rows to return.
+     * @return The next older matching transactions, up to {@code limit} rows.
+     */
+    @Query("SELECT t FROM Transaction t " +
+           "WHERE t.accountId = :accountId AND t.timestamp >= :from AND t.timestamp < :to " +
+           "AND t.timestamp <= :timestamp " +
+           "AND (t.timestamp, t.transactionId) < (:timestamp, :transactionId) " +
+           "ORDER BY t.timestamp DESC, t.transactionId DESC")
+    List<Transaction> findStatementPageBefore(@Param("accountId") String accountId,
+                                              @Param("from") Instant from,
+                                              @Param("to") Instant to,
+                                              @Param("timestamp") Instant timestamp,
+                                              @Param("transactionId") UUID transactionId,
+                                              Limit limit);
+
+    /**
+     * Retrieves the first page of transactions in keyset order (timestamp, then ID).
+     *
+     * @param limit The maximum number of rows to return.
+     * @return The oldest transactions, up to {@code limit} rows.
+     */
+    @Query("SELECT t FROM Transaction t ORDER BY t.timestamp ASC, t.transactionId ASC")
+    List<Transaction> findFirstPage(Limit limit);
+
+    /**
+     * Retrieves the page of transactions that follows the given keyset position.
+     * <p>Uses a row-value comparison on {@code (timestamp, transactionId)} so the
+     * database can seek directly into the composite index instead of skipping rows; the
+     * redundant bound on {@code timestamp} prunes the partitions of earlier months.</p>
+     *
+     * @param timestamp The timestamp of the last row already delivered.
+     * @param transactionId The ID of the last row already delivered.
+     * @param limit The maximum number of rows to return.
+     * @return The next transactions in keyset order, up to {@code limit} rows.
+     */
+    @Query("SELECT t FROM Transaction t " +
+           "WHERE t.timestamp >= :timestamp " +
+           "AND (t.timestamp, t.transactionId) > (:timestamp, :transactionId) " +
+           "ORDER BY t.timestamp ASC, t.transactionId ASC")
+    List<Transaction> findPageAfter(@Param("timestamp") Instant timestamp,
+                                    @Param("transactionId") UUID transactionId,
+                                    Limit limit);
+
+    /**
+     * Streams all transactions created within {@code [from, to)} in keyset order.
+     * <p>Rows are pulled from a server-side cursor in chunks of the JDBC fetch size
+     * instead of being materialized as a list. The stream must be consumed inside a
+     * read-only transaction and closed afterwards (try-with-resources).</p>
+     *
+     * @param from Inclusive lower bound of the transaction timestamp.
+     * @param to Exclusive upper bound of the transaction timestamp.
+     * @return A lazily populated stream of transactions.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transaction t " +
+           "WHERE t.timestamp >= :from AND t.timestamp < :to " +
+           "ORDER BY t.timestamp ASC, t.transactionId ASC")
+    Stream<Transaction> streamByTimestampRange(@Param("from") Instant from, @Param("to") Instant to);
     
 }
\ No newline at end of file
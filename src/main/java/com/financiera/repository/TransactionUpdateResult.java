@@ -0,0 +1,26 @@
+package com.financiera.repository;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+
+/**
+ * Outcome of a conditional transaction update.
+ *
+ * @param outcome Whether the row was updated and, if not, why.
+ * @param transaction The updated row; null unless the outcome is {@link Outcome#UPDATED}.
+ * @param previousStatus The status before the update; null if the transaction does not exist.
+ * @param previousVersion The version before the update; null if the transaction does not exist.
+ */
+public record TransactionUpdateResult(Outcome outcome, Transaction transaction,
+                                      TransactionStatus previousStatus, Long previousVersion) {
+
+    /**
+     * Possible outcomes of a conditional update.
+     */
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        VERSION_MISMATCH, // The caller's expected version is stale
+        INVALID_TRANSITION // The requested status cannot follow the current one
+    }
+}
@@ -0,0 +1,48 @@
+package com.financiera.service;
+
+import com.financiera.dto.AccountBalanceResponse;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+
+import java.util.Collection;
+
+/**
+ * Interface defining the operations of the account balance read model.
+ * Balances count CREDIT as positive and DEBIT as negative, and only include
+ * COMPLETED transactions.
+ */
+public interface AccountBalanceService {
+
+    /**
+     * Retrieves the current balances of an account, one per currency.
+     * Reads the maintained projection, so the cost does not depend on the account history.
+     *
+     * @param accountId The ID of the account.
+     * @return The response DTO with the balances of the account.
+     */
+    AccountBalanceResponse getAccountBalance(String accountId);
+
+    /**
+     * Applies the effect of a transaction status change to the balance projection.
+     * Must be called inside the database transaction that writes the change, so the
+     * projection commits (or rolls back) together with it.
+     *
+     * @param transaction The transaction whose status changed (account, currency, type and amount are read).
+     * @param previousStatus The status before the change, or null if the transaction was just created.
+     * @param newStatus The status after the change, or null if the transaction was deleted.
+     */
+    void recordStatusChange(Transaction transaction, TransactionStatus previousStatus, TransactionStatus newStatus);
+
+    /**
+     * Applies the effect of the same status change of many transactions to the balance projection,
+     * with one write per affected account and currency instead of one per transaction.
+     * Must be called inside the database transaction that writes the changes.
+     *
+     * @param transactions The transactions whose status changed.
+     * @param previousStatus The status of all of them before the change.
+     * @param newStatus The status of all of them after the change.
+     */
+    void recordStatusChanges(Collection<Transaction> transactions, TransactionStatus previousStatus,
+                             TransactionStatus newStatus);
+
+}
@@ -0,0 +1,46 @@
+package com.financiera.service;
+
+import com.financiera.dto.AccountDailySummaryResponse;
+import com.financiera.model.Transaction;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Interface defining the operations of the daily rollup read model: aggregates of the
+ * transactions of each account per currency and UTC day.
+ */
+public interface DailyRollupService {
+
+    /**
+     * Retrieves the daily aggregates of an account over a range of days.
+     * Reads the maintained rollups, so the cost depends on the number of days, not of transactions.
+     *
+     * @param accountId The ID of the account.
+     * @param from The first day (inclusive, UTC).
+     * @param to The last day (inclusive, UTC).
+     * @return The response DTO with one entry per day and currency that has transactions.
+     * @throws com.financiera.exception.BadRequestException if the range is empty or too long.
+     */
+    AccountDailySummaryResponse getDailySummary(String accountId, LocalDate from, LocalDate to);
+
+    /**
+     * Marks the days of transactions that changed status or were deleted for recomputation.
+     * Must be called inside the database transaction that writes the changes, so a change is
+     * never committed without its mark. Newly created transactions use {@link #recordCreations(Collection)}.
+     *
+     * @param transactions The changed transactions (account, currency and timestamp are read).
+     */
+    void recordChanges(Collection<Transaction> transactions);
+
+    /**
+     * Marks the days of newly created transactions that may be committed after the refresh has
+     * passed their timestamp (e.g. write-behind rows delayed by a database outage). Transactions
+     * well within the refresh lateness are skipped, so the usual creation costs no statement.
+     * Must be called inside the database transaction that inserts them.
+     *
+     * @param transactions The created transactions (account, currency and timestamp are read).
+     */
+    void recordCreations(Collection<Transaction> transactions);
+
+}
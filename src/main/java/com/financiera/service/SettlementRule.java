@@ -0,0 +1,25 @@
+package com.financiera.service;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+
+/**
+ * Service Provider Interface deciding how the settlement engine settles PENDING transactions.
+ * <p>Declare a single bean implementing this interface to plug in the business rule; the
+ * application fails to start when the engine is enabled without one.</p>
+ * <p>The rule is called by several worker threads at once, while the claimed rows are locked
+ * in an open database transaction: it must be thread-safe and fast, and must not modify the
+ * transaction passed in.</p>
+ */
+@FunctionalInterface
+public interface SettlementRule {
+
+    /**
+     * Decides the outcome of one PENDING transaction.
+     *
+     * @param transaction The claimed transaction (read-only).
+     * @return COMPLETED or FAILED to settle it now, or PENDING (or null) to leave it for a later pass.
+     */
+    TransactionStatus settle(Transaction transaction);
+
+}
@@ -1,11 +1,17 @@
 package com.financiera.service;
 
+import com.financiera.dto.TransactionBatchResponse;
+import com.financiera.dto.TransactionBulkStatusRequest;
+import com.financiera.dto.TransactionBulkStatusResponse;
 import com.financiera.dto.TransactionCreateRequest;
+import com.financiera.dto.TransactionPageResponse;
 import com.financiera.dto.TransactionResponse;
 import com.financiera.dto.TransactionUpdateRequest;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Interface defining the business logic operations for Transaction entities.
@@ -22,8 +28,64 @@ public interface TransactionService {
      */
     TransactionResponse createTransaction(TransactionCreateRequest request);
 
+    /**
+     * Creates a new financial transaction at most once per Idempotency-Key of a client.
+     * A retry with a key seen before returns the original response instead of creating a
+     * duplicate; recently used keys are answered from memory without any database access.
+     *
+     * @param request The DTO containing the details for the new transaction.
+     * @param clientId The authenticated client; keys of different clients never collide.
+     * @param idempotencyKey The client-chosen key, or null to create unconditionally.
+     * @return The response DTO of the created (or previously created) transaction.
+     * @throws com.financiera.exception.UnprocessableEntityException if the key was used for a different request.
+     */
+    TransactionResponse createTransaction(TransactionCreateRequest request, String clientId, String idempotencyKey);
+
+    /**
+     * Accepts a new financial transaction for asynchronous (write-behind) persistence.
+     * Assigns the ID, timestamp and PENDING status immediately and enqueues the transaction;
+     * it becomes readable once the background flusher has committed it.
+     *
+     * @param request The DTO containing the details for the new transaction.
+     * @return The response DTO of the accepted, not yet persisted transaction.
+     * @throws com.financiera.exception.TooManyRequestsException if the ingestion queue is full.
+     */
+    TransactionResponse submitTransaction(TransactionCreateRequest request);
+
+    /**
+     * Write-behind counterpart of {@link #createTransaction(TransactionCreateRequest, String, String)}.
+     * Keys are only remembered in memory in this mode, as the transaction is not yet written.
+     *
+     * @param request The DTO containing the details for the new transaction.
+     * @param clientId The authenticated client; keys of different clients never collide.
+     * @param idempotencyKey The client-chosen key, or null to submit unconditionally.
+     * @return The response DTO of the accepted (or previously accepted) transaction.
+     * @throws com.financiera.exception.TooManyRequestsException if the ingestion queue is full.
+     * @throws com.financiera.exception.UnprocessableEntityException if the key was used for a different request.
+     */
+    TransactionResponse submitTransaction(TransactionCreateRequest request, String clientId, String idempotencyKey);
+
+    /**
+     * Indicates whether transaction creation runs in write-behind mode,
+     * i.e. whether clients should use {@link #submitTransaction(TransactionCreateRequest)}.
+     *
+     * @return True if the write-behind ingestion mode is enabled.
+     */
+    boolean isWriteBehindEnabled();
+
+    /**
+     * Creates many financial transactions in a single database transaction.
+     * Every item is validated individually; valid items are persisted with JDBC
+     * batch inserts and invalid ones are reported without failing the whole batch.
+     *
+     * @param requests The DTOs containing the details for the new transactions.
+     * @return The per-item results, in submission order, plus aggregate counters.
+     */
+    TransactionBatchResponse createTransactions(List<TransactionCreateRequest> requests);
+
     /**
      * Retrieves a transaction by its unique ID.
+     * Served from an in-process cache that is invalidated by updates and deletes made through this service.
      *
      * @param id The UUID of the transaction to retrieve.
      * @return The response DTO of the found transaction.
@@ -31,20 +93,67 @@ public interface TransactionService {
     TransactionResponse getTransactionById(UUID id);
 
     /**
-     * Retrieves all transactions available in the system.
+     * Retrieves one page of transactions ordered by timestamp, then ID.
+     * Uses keyset pagination so each page costs the same regardless of depth.
+     *
+     * @param cursor The opaque continuation token from the previous page, or null for the first page.
+     * @param limit The requested page size, or null for the default. Capped at the configured maximum.
+     * @return The page of transaction response DTOs and the cursor for the next page.
+     */
+    TransactionPageResponse getTransactions(String cursor, Integer limit);
+
+    /**
+     * Retrieves one page of an account statement: the account's transactions created
+     * within {@code [from, to)}, newest first. Uses keyset pagination over an
+     * {@code (account_id, timestamp)} index, so latency does not grow with table size.
      *
-     * @return A list of all transaction response DTOs.
+     * @param accountId The ID of the account.
+     * @param from Inclusive lower bound of the transaction timestamp.
+     * @param to Exclusive upper bound of the transaction timestamp.
+     * @param cursor The opaque continuation token from the previous page, or null for the first page.
+     * @param limit The requested page size, or null for the default. Capped at the configured maximum.
+     * @return The page of transaction response DTOs and the cursor for the next page.
      */
-    List<TransactionResponse> getAllTransactions();
+    TransactionPageResponse getAccountStatement(String accountId, Instant from, Instant to,
+                                                String cursor, Integer limit);
 
     /**
-     * Updates an existing transaction with the provided data.
+     * Streams every transaction created within {@code [from, to)} to the given sink,
+     * one record at a time and in timestamp order.
+     * Memory usage stays constant regardless of how many rows are exported.
+     *
+     * @param from Inclusive lower bound of the transaction timestamp.
+     * @param to Exclusive upper bound of the transaction timestamp.
+     * @param sink The consumer receiving each transaction response DTO as it is read.
+     * @return The number of exported transactions.
+     */
+    long exportTransactions(Instant from, Instant to, Consumer<TransactionResponse> sink);
+
+    /**
+     * Updates an existing transaction with the provided data, in a single conditional statement.
+     * Only PENDING transactions may change status, and only to COMPLETED or FAILED.
      *
      * @param id The UUID of the transaction to update.
      * @param request The DTO containing the updated transaction details.
+     * @param expectedVersion The version the client last saw (from If-Match), or null for no check.
      * @return The response DTO of the updated transaction.
+     * @throws com.financiera.exception.ResourceNotFoundException if the transaction does not exist.
+     * @throws com.financiera.exception.PreconditionFailedException if the transaction is at another version.
+     * @throws com.financiera.exception.ConflictException if the status transition is not allowed.
+     */
+    TransactionResponse updateTransaction(UUID id, TransactionUpdateRequest request, Long expectedVersion);
+
+    /**
+     * Moves many PENDING transactions to COMPLETED or FAILED, selected either by ID or by a
+     * time window (optionally restricted to one account).
+     * Works in chunks: each chunk is one set-based UPDATE and commits on its own, together with
+     * its balance changes. A chunk that fails is retried one transaction at a time, so a single
+     * problematic row only affects itself.
+     *
+     * @param request The selection and the target status.
+     * @return The number of transactions updated, skipped (missing or no longer PENDING) and failed.
      */
-    TransactionResponse updateTransaction(UUID id, TransactionUpdateRequest request);
+    TransactionBulkStatusResponse updateTransactionStatuses(TransactionBulkStatusRequest request);
 
     /**
      * Deletes a transaction by its unique ID.
@@ -0,0 +1,154 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.AccountBalanceResponse;
+import com.financiera.dto.CurrencyBalanceResponse;
+import com.financiera.model.AccountBalance;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.model.TransactionType;
+import com.financiera.repository.AccountBalanceRepository;
+import com.financiera.service.AccountBalanceService;
+import com.financiera.utils.CurrencyAccumulator;
+import com.financiera.utils.Money;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the AccountBalanceService interface.
+ * Keeps the account_balances projection in step with transaction status changes.
+ */
+@Service
+public class AccountBalanceServiceImpl implements AccountBalanceService {
+
+    private final AccountBalanceRepository accountBalanceRepository;
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param accountBalanceRepository Repository for the balance read model.
+     */
+    public AccountBalanceServiceImpl(AccountBalanceRepository accountBalanceRepository) {
+        this.accountBalanceRepository = accountBalanceRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AccountBalanceResponse getAccountBalance(String accountId) {
+        AccountBalanceResponse response = new AccountBalanceResponse();
+        response.setAccountId(accountId);
+        response.setBalances(accountBalanceRepository.findByAccountIdOrderByCurrencyAsc(accountId).stream()
+                .map(this::mapToResponseDTO)
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY) // Never commit the projection on its own
+    public void recordStatusChange(Transaction transaction, TransactionStatus previousStatus,
+                                   TransactionStatus newStatus) {
+        boolean wasSettled = previousStatus == TransactionStatus.COMPLETED;
+        boolean isSettled = newStatus == TransactionStatus.COMPLETED;
+        if (wasSettled == isSettled) {
+            // Only entering or leaving COMPLETED moves the balance
+            return;
+        }
+
+        BigDecimal delta = isSettled ? signedAmount(transaction) : signedAmount(transaction).negate();
+
+        accountBalanceRepository.applyDelta(transaction.getAccountId(), transaction.getCurrency(), delta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY) // Never commit the projection on its own
+    public void recordStatusChanges(Collection<Transaction> transactions, TransactionStatus previousStatus,
+                                    TransactionStatus newStatus) {
+        boolean wasSettled = previousStatus == TransactionStatus.COMPLETED;
+        boolean isSettled = newStatus == TransactionStatus.COMPLETED;
+        if (wasSettled == isSettled || transactions.isEmpty()) {
+            return;
+        }
+
+        // Sum per account and currency first, in fixed-point units; the sorted map (and the
+        // currency-ordered accumulators) also make concurrent settlements lock balance rows in
+        // the same order, so they cannot deadlock on each other
+        Map<String, CurrencyAccumulator> deltas = new TreeMap<>();
+        try {
+            for (Transaction transaction : transactions) {
+                long units = signedUnits(transaction);
+                deltas.computeIfAbsent(transaction.getAccountId(), account -> new CurrencyAccumulator())
+                        .add(transaction.getCurrency(), isSettled ? units : Math.negateExact(units));
+            }
+        } catch (ArithmeticException overflow) {
+            // Totals beyond the fixed-point range (about 922 trillion); rare enough to sum as decimals
+            applyDecimalDeltas(transactions, isSettled);
+            return;
+        }
+        deltas.forEach((accountId, byCurrency) -> byCurrency.forEach((currency, units) ->
+                accountBalanceRepository.applyDelta(accountId, currency, Money.toBigDecimal(units))));
+    }
+
+    /**
+     * Sums and applies the balance deltas of many transactions with {@link BigDecimal} arithmetic,
+     * in the same account and currency order as the fixed-point path.
+     * @param transactions The transactions whose status changed.
+     * @param isSettled Whether they entered (true) or left (false) COMPLETED.
+     */
+    private void applyDecimalDeltas(Collection<Transaction> transactions, boolean isSettled) {
+        Map<String, Map<String, BigDecimal>> deltas = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            BigDecimal delta = isSettled ? signedAmount(transaction) : signedAmount(transaction).negate();
+            deltas.computeIfAbsent(transaction.getAccountId(), account -> new TreeMap<>())
+                    .merge(transaction.getCurrency(), delta, BigDecimal::add);
+        }
+        deltas.forEach((accountId, byCurrency) -> byCurrency.forEach((currency, delta) ->
+                accountBalanceRepository.applyDelta(accountId, currency, delta)));
+    }
+
+    /**
+     * @param transaction The transaction.
+     * @return Its amount in {@link Money} units with the sign of its effect on the balance.
+     */
+    private long signedUnits(Transaction transaction) {
+        long units = Money.toUnits(transaction.getAmount());
+        return transaction.getType() == TransactionType.CREDIT ? units : Math.negateExact(units);
+    }
+
+    /**
+     * @param transaction The transaction.
+     * @return Its amount with the sign of its effect on the balance (CREDIT positive, DEBIT negative).
+     */
+    private BigDecimal signedAmount(Transaction transaction) {
+        return transaction.getType() == TransactionType.CREDIT
+                ? transaction.getAmount()
+                : transaction.getAmount().negate();
+    }
+
+    /**
+     * Helper method to map an AccountBalance Entity to a CurrencyBalanceResponse DTO.
+     * @param accountBalance The AccountBalance Entity.
+     * @return The corresponding CurrencyBalanceResponse DTO.
+     */
+    private CurrencyBalanceResponse mapToResponseDTO(AccountBalance accountBalance) {
+        CurrencyBalanceResponse dto = new CurrencyBalanceResponse();
+        dto.setCurrency(accountBalance.getCurrency());
+        dto.setBalance(accountBalance.getBalance());
+        dto.setUpdatedAt(accountBalance.getUpdatedAt());
+        return dto;
+    }
+}
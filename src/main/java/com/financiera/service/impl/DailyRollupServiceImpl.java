@@ -0,0 +1,241 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.AccountDailySummaryResponse;
+import com.financiera.dto.DailySummaryResponse;
+import com.financiera.exception.BadRequestException;
+import com.financiera.model.AccountDailyRollup;
+import com.financiera.model.AccountDailyRollupId;
+import com.financiera.model.Transaction;
+import com.financiera.repository.AccountDailyRollupRepository;
+import com.financiera.service.DailyRollupService;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the DailyRollupService interface.
+ * <p>Refreshes the rollups on a fixed delay, without recomputing them: each step aggregates
+ * the transactions between the high-water mark and {@code now - latenessMs} (at most one UTC
+ * day per database transaction) and advances the mark, then the groups marked stale by status
+ * changes and deletions are recomputed in chunks. Transactions committed more than
+ * {@code latenessMs} after their timestamp are not counted until their day is marked stale;
+ * creation paths mark the days of transactions older than half of {@code latenessMs} when
+ * inserting them ({@link #recordCreations(Collection)}).</p>
+ * <p>Every step locks the high-water mark row without waiting, so only one instance of a
+ * cluster refreshes at a time; the others skip the run.</p>
+ */
+@Slf4j
+@Service
+public class DailyRollupServiceImpl implements DailyRollupService {
+
+    private static final Comparator<AccountDailyRollupId> KEY_ORDER = Comparator
+            .comparing(AccountDailyRollupId::getAccountId)
+            .thenComparing(AccountDailyRollupId::getDay)
+            .thenComparing(AccountDailyRollupId::getCurrency);
+
+    private final AccountDailyRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long latenessMs;
+    private final int staleChunkSize;
+    private final int maxDays;
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param rollupRepository Repository for the rollup read model and its refresh.
+     * @param transactionManager Transaction manager used for one database transaction per refresh step.
+     * @param enabled Whether this instance refreshes the rollups.
+     * @param latenessMs How long after its timestamp a transaction is counted, so late commits are not missed.
+     * @param staleChunkSize Number of stale groups recomputed per database transaction.
+     * @param maxDays Maximum number of days of a summary request.
+     */
+    public DailyRollupServiceImpl(AccountDailyRollupRepository rollupRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.rollups.enabled:true}") boolean enabled,
+                                  @Value("${app.rollups.latenessMs:60000}") long latenessMs,
+                                  @Value("${app.rollups.staleChunkSize:1000}") int staleChunkSize,
+                                  @Value("${app.rollups.maxDays:366}") int maxDays) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.latenessMs = latenessMs;
+        this.staleChunkSize = staleChunkSize;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AccountDailySummaryResponse getDailySummary(String accountId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("Daily summary requires 'from' not after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new BadRequestException("Daily summary cannot span more than " + maxDays + " days");
+        }
+
+        AccountDailySummaryResponse response = new AccountDailySummaryResponse();
+        response.setAccountId(accountId);
+        response.setFrom(from);
+        response.setTo(to);
+        response.setAsOf(rollupRepository.findHighWater());
+        response.setDays(rollupRepository.findByAccountIdAndDayBetweenOrderByDayAscCurrencyAsc(accountId, from, to)
+                .stream()
+                .map(this::mapToResponseDTO)
+                .collect(Collectors.toList()));
+        return response;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY) // Never commit a mark without its change
+    public void recordChanges(Collection<Transaction> transactions) {
+        markStale(transactions, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY) // Never commit a late row without its mark
+    public void recordCreations(Collection<Transaction> transactions) {
+        // A refresh never passes now - latenessMs; half of it is left as margin for the commit
+        markStale(transactions, Instant.now().minusMillis(latenessMs / 2));
+    }
+
+    /**
+     * Marks the groups of the given transactions stale, one mark per group.
+     * @param transactions The transactions whose groups are marked.
+     * @param before Only transactions with an earlier timestamp are marked; null marks all of them.
+     */
+    private void markStale(Collection<Transaction> transactions, Instant before) {
+        // The sorted set also makes concurrent markers insert in the same order
+        TreeSet<AccountDailyRollupId> keys = new TreeSet<>(KEY_ORDER);
+        for (Transaction transaction : transactions) {
+            if (before == null || transaction.getTimestamp().isBefore(before)) {
+                keys.add(new AccountDailyRollupId(transaction.getAccountId(),
+                        LocalDate.ofInstant(transaction.getTimestamp(), ZoneOffset.UTC), transaction.getCurrency()));
+            }
+        }
+        if (!keys.isEmpty()) {
+            rollupRepository.markStale(keys);
+        }
+    }
+
+    /**
+     * Refreshes the rollups up to {@code now - latenessMs}, on schedule.
+     */
+    @Scheduled(fixedDelayString = "${app.rollups.refreshIntervalMs:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh(Instant.now().minusMillis(latenessMs));
+        } catch (DataAccessException e) {
+            log.error("Refreshing the daily rollups failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the transactions up to the given instant to the rollups, then recomputes the stale groups.
+     * @param upTo The new high-water mark; an earlier one leaves the mark where it is.
+     * @return The number of rollup rows written, or -1 if another instance is refreshing.
+     */
+    public int refresh(Instant upTo) {
+        int written = 0;
+        // 1. New transactions, one UTC day per database transaction
+        Step step;
+        do {
+            step = transactionTemplate.execute(status -> addNextDay(upTo));
+            if (step == null) {
+                log.debug("Daily rollups are being refreshed by another instance");
+                return -1;
+            }
+            written += step.rows();
+        } while (step.more());
+
+        // 2. Groups whose transactions changed after they were counted
+        do {
+            step = transactionTemplate.execute(status -> {
+                Instant highWater = rollupRepository.lockHighWater();
+                if (highWater == null) {
+                    return null;
+                }
+                List<AccountDailyRollupId> keys = rollupRepository.takeStale(staleChunkSize);
+                return new Step(rollupRepository.recompute(keys, highWater), keys.size() == staleChunkSize);
+            });
+            if (step == null) {
+                return -1;
+            }
+            written += step.rows();
+        } while (step.more());
+        return written;
+    }
+
+    /**
+     * Adds the transactions from the high-water mark to the end of its UTC day, or to
+     * {@code upTo} if earlier, and advances the mark. Runs inside the step's database transaction.
+     * @param upTo The target high-water mark.
+     * @return The rows written and whether the mark is still before {@code upTo}, or null if it is locked.
+     */
+    private Step addNextDay(Instant upTo) {
+        Instant highWater = rollupRepository.lockHighWater();
+        if (highWater == null) {
+            return null;
+        }
+        if (!highWater.isBefore(upTo)) {
+            return new Step(0, false);
+        }
+        Instant next = LocalDate.ofInstant(highWater, ZoneOffset.UTC).plusDays(1)
+                .atStartOfDay(ZoneOffset.UTC).toInstant();
+        if (next.isAfter(upTo)) {
+            next = upTo;
+        }
+        int rows = rollupRepository.addTransactions(highWater, next);
+        rollupRepository.updateHighWater(next);
+        return new Step(rows, next.isBefore(upTo));
+    }
+
+    private record Step(int rows, boolean more) {
+    }
+
+    /**
+     * Helper method to map an AccountDailyRollup Entity to a DailySummaryResponse DTO.
+     * @param rollup The AccountDailyRollup Entity.
+     * @return The corresponding DailySummaryResponse DTO.
+     */
+    private DailySummaryResponse mapToResponseDTO(AccountDailyRollup rollup) {
+        DailySummaryResponse dto = new DailySummaryResponse();
+        dto.setDay(rollup.getDay());
+        dto.setCurrency(rollup.getCurrency());
+        dto.setTransactionCount(rollup.getTransactionCount());
+        dto.setCreditTotal(rollup.getCreditTotal());
+        dto.setDebitTotal(rollup.getDebitTotal());
+        dto.setPendingCount(rollup.getPendingCount());
+        dto.setCompletedCount(rollup.getCompletedCount());
+        dto.setFailedCount(rollup.getFailedCount());
+        return dto;
+    }
+}
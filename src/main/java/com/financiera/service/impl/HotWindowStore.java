@@ -0,0 +1,674 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.HotWindowStatsResponse;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.model.TransactionType;
+import com.financiera.repository.TransactionRepository;
+import com.financiera.utils.Money;
+import com.financiera.utils.PageCursor;
+import com.financiera.utils.StringDictionary;
+import com.financiera.utils.UuidLongMap;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory copy of the transactions of the last {@code windowMs} (24 hours by default), which
+ * serves ID lookups, account statements and keyset pages of that window without a database
+ * round trip or connection.
+ * <p>Rows are held column-wise in fixed-size segments of primitive arrays, in arrival order:
+ * the ID as two longs, the timestamp in epoch microseconds (the column precision), the amount
+ * as {@link Money} units, the type and status as enum ordinals and the account and currency as
+ * {@link StringDictionary} codes; about 50 bytes per row plus the description, against several
+ * hundred for an entity. A primitive hash index maps IDs to their row. Range queries skip the
+ * segments whose timestamp range does not overlap and keep the best {@code limit} rows of the
+ * others in a bounded heap, in the order of the database queries (timestamp, then ID compared
+ * as unsigned bytes like PostgreSQL's {@code uuid}).</p>
+ * <p>Writers feed the store after their database transaction commits: inserts and status
+ * changes with the written row (the highest version wins), deletions with a tombstone. Every
+ * committed transaction with a timestamp at or after the <em>floor</em> is held, so a read is
+ * served only when its range starts at or after the floor, and goes to the database otherwise.
+ * On startup the window is loaded from the database (or, without warm-up, the floor starts at
+ * the startup time); eviction drops whole segments once they are older than the window, or
+ * while the store holds more than {@code maxRows}, and raises the floor past them.</p>
+ * <p>Only writes made through this instance are seen, so the store must stay disabled when
+ * several instances write to the same database.</p>
+ */
+@Slf4j
+@Component
+public class HotWindowStore {
+
+    // Status of a deleted transaction; later writes of its ID are ignored
+    private static final byte DELETED = -1;
+    // Amount that does not fit in Money units; the exact value is in Segment.largeAmounts
+    private static final long LARGE_AMOUNT = Long.MIN_VALUE;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+    // Rows applied per write lock while warming up, so feeds are not blocked for the whole load
+    private static final int WARM_UP_CHUNK = 1_000;
+
+    private final TransactionRepository transactionRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTemplate;
+    private final boolean enabled;
+    private final long windowMicros;
+    private final int segmentSize;
+    private final long maxRows;
+    private final boolean warmUp;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock; segments are ordered by arrival, the first one has sequence number firstSeq
+    private final List<Segment> segments = new ArrayList<>();
+    private final UuidLongMap index;
+    private final StringDictionary accounts = new StringDictionary();
+    private final StringDictionary currencies = new StringDictionary();
+    private long firstSeq;
+    private long rows;
+    private long floorMicros = Long.MAX_VALUE;
+    private boolean accepting;
+    private volatile boolean ready;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param transactionRepository Repository streaming the window from the database on warm-up.
+     * @param entityManager Shared JPA entity manager, used to detach the streamed entities.
+     * @param transactionManager Transaction manager for the read-only warm-up transaction.
+     * @param enabled Whether reads of the window are served from memory.
+     * @param windowMs Age of the oldest transactions kept, in milliseconds.
+     * @param segmentSize Number of rows per column segment (the unit of eviction).
+     * @param maxRows Maximum number of rows held; older segments are evicted early beyond it.
+     * @param warmUp Whether the window is loaded from the database on startup.
+     */
+    public HotWindowStore(TransactionRepository transactionRepository, EntityManager entityManager,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.hotWindow.enabled:false}") boolean enabled,
+                          @Value("${app.hotWindow.windowMs:86400000}") long windowMs,
+                          @Value("${app.hotWindow.segmentSize:8192}") int segmentSize,
+                          @Value("${app.hotWindow.maxRows:5000000}") long maxRows,
+                          @Value("${app.hotWindow.warmUp:true}") boolean warmUp) {
+        this.transactionRepository = transactionRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.windowMicros = Math.multiplyExact(windowMs, 1_000L);
+        this.segmentSize = segmentSize;
+        this.maxRows = maxRows;
+        this.warmUp = warmUp;
+        this.index = new UuidLongMap(enabled ? segmentSize : 1);
+    }
+
+    /**
+     * @return True once the store serves reads.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Starts accepting writes and loads the window, on startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            start(Instant.now());
+        }
+    }
+
+    /**
+     * Starts accepting writes at the given time and, with warm-up, loads the window before it.
+     * @param now The current time.
+     */
+    void start(Instant now) {
+        long startMicros = floorMicros(now);
+        long floor = warmUp ? startMicros - windowMicros : startMicros + 1;
+        lock.writeLock().lock();
+        try {
+            // Commits seen after this point are fed; the ones before are in the warm-up snapshot
+            accepting = true;
+            floorMicros = floor;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (warmUp) {
+            try {
+                long loaded = load(toInstant(floor), now.plus(Duration.ofMinutes(1)));
+                log.info("Hot window store loaded {} transactions since {}", loaded, toInstant(floor));
+            } catch (DataAccessException e) {
+                // Whatever was loaded stays; the transactions before the startup are read from the database
+                raiseFloor(startMicros + 1);
+                log.error("Loading the hot window store failed, serving transactions since startup: {}",
+                        e.getMessage());
+            }
+        }
+        ready = true;
+    }
+
+    /**
+     * Records a created or updated transaction once the surrounding database transaction commits.
+     * @param transaction The transaction as written, with its version.
+     */
+    public void put(Transaction transaction) {
+        putAll(List.of(transaction));
+    }
+
+    /**
+     * Records created or updated transactions once the surrounding database transaction commits.
+     * @param transactions The transactions as written, with their versions.
+     */
+    public void putAll(Collection<Transaction> transactions) {
+        if (!enabled || transactions.isEmpty()) {
+            return;
+        }
+        List<Transaction> written = List.copyOf(transactions);
+        afterCommit(() -> apply(written));
+    }
+
+    /**
+     * Records a deleted transaction once the surrounding database transaction commits.
+     * @param transaction The deleted transaction.
+     */
+    public void remove(Transaction transaction) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (accepting) {
+                    tombstone(transaction);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * @param id The transaction ID.
+     * @return The transaction, or empty if it is not held (not in the window, deleted or unknown).
+     */
+    public Optional<Transaction> find(UUID id) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            long ref = index.get(id);
+            if (ref == UuidLongMap.MISSING || segment(ref).statuses[offset(ref)] == DELETED) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(segment(ref).materialize(offset(ref)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Equivalent of {@link TransactionRepository#findStatementFirstPage} and
+     * {@link TransactionRepository#findStatementPageBefore}: the account's transactions within
+     * {@code [from, to)} and before the cursor, newest first.
+     * @param accountId The ID of the account.
+     * @param from Inclusive lower bound of the transaction timestamp.
+     * @param to Exclusive upper bound of the transaction timestamp.
+     * @param before The key of the last row already delivered, or null for the first page.
+     * @param limit The maximum number of rows to return.
+     * @return The page, or empty if the range starts before the window held.
+     */
+    public Optional<List<Transaction>> findStatementPage(String accountId, Instant from, Instant to,
+                                                         PageCursor before, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        long fromMicros = ceilMicros(from);
+        // (ts, id) < (ceil(to), nil UUID) holds exactly for ts < to
+        Candidate upper = new Candidate(ceilMicros(to), 0, 0, null, 0);
+        if (before != null) {
+            upper = min(upper, descendingBound(before));
+        }
+        lock.readLock().lock();
+        try {
+            if (fromMicros < floorMicros) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            int account = accounts.find(accountId);
+            if (account == StringDictionary.MISSING) {
+                return Optional.of(List.of());
+            }
+            // (ts, id) > (from - 1us, max UUID) holds exactly for ts >= from
+            Candidate lower = new Candidate(fromMicros - 1, -1, -1, null, 0);
+            return Optional.of(scan(account, lower, upper, limit, true));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Equivalent of {@link TransactionRepository#findPageAfter}: the transactions after the
+     * cursor in keyset order.
+     * @param after The key of the last row already delivered.
+     * @param limit The maximum number of rows to return.
+     * @return The page, or empty if the cursor is before the window held.
+     */
+    public Optional<List<Transaction>> findPageAfter(PageCursor after, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Candidate lower = ascendingBound(after);
+        lock.readLock().lock();
+        try {
+            if (lower.timestamp() < floorMicros) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            Candidate upper = new Candidate(Long.MAX_VALUE, 0, 0, null, 0);
+            return Optional.of(scan(StringDictionary.MISSING, lower, upper, limit, false));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Evicts the segments that left the window, on schedule.
+     */
+    @Scheduled(fixedDelayString = "${app.hotWindow.evictIntervalMs:60000}")
+    public void evict() {
+        if (ready) {
+            evict(Instant.now());
+        }
+    }
+
+    /**
+     * Evicts the oldest segments while all their rows are older than the window, or while the
+     * store holds more than {@code maxRows}, and raises the floor past the evicted rows.
+     * @param now The current time.
+     * @return The number of rows evicted.
+     */
+    long evict(Instant now) {
+        long cutoff = floorMicros(now) - windowMicros;
+        long evictedRows = 0;
+        lock.writeLock().lock();
+        try {
+            while (!segments.isEmpty()) {
+                Segment head = segments.get(0);
+                if (head.maxTimestamp >= cutoff && rows <= maxRows) {
+                    break;
+                }
+                for (int i = 0; i < head.size; i++) {
+                    index.remove(head.idHi[i], head.idLo[i]);
+                }
+                if (head.size > 0) {
+                    floorMicros = Math.max(floorMicros, head.maxTimestamp + 1);
+                }
+                rows -= head.size;
+                evictedRows += head.size;
+                segments.remove(0);
+                firstSeq++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        evicted.addAndGet(evictedRows);
+        return evictedRows;
+    }
+
+    /**
+     * @return A snapshot of the store size and read counters.
+     */
+    public HotWindowStatsResponse stats() {
+        HotWindowStatsResponse response = new HotWindowStatsResponse();
+        response.setEnabled(enabled);
+        response.setReady(ready);
+        lock.readLock().lock();
+        try {
+            response.setFloor(floorMicros == Long.MAX_VALUE ? null : toInstant(floorMicros));
+            response.setSegments(segments.size());
+            response.setRows(rows);
+            response.setAccounts(accounts.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        response.setHits(hits.get());
+        response.setMisses(misses.get());
+        response.setEvicted(evicted.get());
+        return response;
+    }
+
+    /**
+     * Streams the committed transactions of {@code [from, to)} into the store.
+     * @return The number of transactions read.
+     */
+    private long load(Instant from, Instant to) {
+        Long loaded = readOnlyTemplate.execute(status -> {
+            long count = 0;
+            List<Transaction> chunk = new ArrayList<>(WARM_UP_CHUNK);
+            try (Stream<Transaction> transactions = transactionRepository.streamByTimestampRange(from, to)) {
+                for (Transaction transaction : (Iterable<Transaction>) transactions::iterator) {
+                    entityManager.detach(transaction);
+                    chunk.add(transaction);
+                    if (chunk.size() == WARM_UP_CHUNK) {
+                        count += chunk.size();
+                        apply(chunk);
+                        chunk.clear();
+                    }
+                }
+            }
+            apply(chunk);
+            return count + chunk.size();
+        });
+        return loaded == null ? 0 : loaded;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private void apply(List<Transaction> transactions) {
+        lock.writeLock().lock();
+        try {
+            if (!accepting) {
+                return;
+            }
+            for (Transaction transaction : transactions) {
+                upsert(transaction);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void raiseFloor(long micros) {
+        lock.writeLock().lock();
+        try {
+            floorMicros = Math.max(floorMicros, micros);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a transaction over its row, unless the row is newer or deleted, or appends it.
+     */
+    private void upsert(Transaction transaction) {
+        UUID id = transaction.getTransactionId();
+        long ref = index.get(id);
+        if (ref != UuidLongMap.MISSING) {
+            Segment segment = segment(ref);
+            int offset = offset(ref);
+            if (segment.statuses[offset] != DELETED && segment.versions[offset] < transaction.getVersion()) {
+                segment.statuses[offset] = (byte) transaction.getStatus().ordinal();
+                segment.descriptions[offset] = transaction.getDescription();
+                segment.versions[offset] = transaction.getVersion();
+            }
+            return;
+        }
+        long timestamp = floorMicros(transaction.getTimestamp());
+        if (timestamp >= floorMicros) {
+            append(transaction, timestamp, (byte) transaction.getStatus().ordinal());
+        }
+    }
+
+    /**
+     * Marks a transaction as deleted, appending a tombstone if it is not held yet (a warm-up
+     * load may still deliver it).
+     */
+    private void tombstone(Transaction transaction) {
+        long ref = index.get(transaction.getTransactionId());
+        if (ref != UuidLongMap.MISSING) {
+            segment(ref).statuses[offset(ref)] = DELETED;
+            segment(ref).descriptions[offset(ref)] = null;
+            return;
+        }
+        long timestamp = floorMicros(transaction.getTimestamp());
+        if (timestamp >= floorMicros) {
+            append(transaction, timestamp, DELETED);
+        }
+    }
+
+    private void append(Transaction transaction, long timestamp, byte status) {
+        Segment tail = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (tail == null || tail.size == segmentSize) {
+            tail = new Segment(segmentSize);
+            segments.add(tail);
+        }
+        int offset = tail.size++;
+        UUID id = transaction.getTransactionId();
+        tail.idHi[offset] = id.getMostSignificantBits();
+        tail.idLo[offset] = id.getLeastSignificantBits();
+        tail.timestamps[offset] = timestamp;
+        try {
+            tail.amounts[offset] = Money.toUnits(transaction.getAmount());
+        } catch (ArithmeticException e) {
+            tail.amounts[offset] = LARGE_AMOUNT;
+            tail.largeAmounts.put(offset, transaction.getAmount());
+        }
+        tail.accounts[offset] = accounts.encode(transaction.getAccountId());
+        tail.currencies[offset] = (short) currencies.encode(transaction.getCurrency());
+        tail.types[offset] = (byte) transaction.getType().ordinal();
+        tail.statuses[offset] = status;
+        tail.versions[offset] = transaction.getVersion();
+        tail.descriptions[offset] = status == DELETED ? null : transaction.getDescription();
+        tail.minTimestamp = Math.min(tail.minTimestamp, timestamp);
+        tail.maxTimestamp = Math.max(tail.maxTimestamp, timestamp);
+        rows++;
+        index.put(id.getMostSignificantBits(), id.getLeastSignificantBits(),
+                (firstSeq + segments.size() - 1) * segmentSize + offset);
+    }
+
+    /**
+     * Finds the {@code limit} rows of an account (or of all accounts) strictly between two keys,
+     * closest to {@code upper} when descending and to {@code lower} otherwise.
+     * @param account The account code, or {@link StringDictionary#MISSING} for all accounts.
+     * @return The rows in page order.
+     */
+    private List<Transaction> scan(int account, Candidate lower, Candidate upper, int limit, boolean descending) {
+        // The head of the heap is the row that would leave the page first
+        Comparator<Candidate> pageOrder = descending ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, pageOrder);
+        for (int s = segments.size() - 1; s >= 0; s--) {
+            Segment segment = segments.get(s);
+            if (segment.size == 0 || segment.maxTimestamp < lower.timestamp()
+                    || segment.minTimestamp > upper.timestamp()) {
+                continue;
+            }
+            if (best.size() == limit && (descending
+                    ? segment.maxTimestamp < best.peek().timestamp()
+                    : segment.minTimestamp > best.peek().timestamp())) {
+                continue;
+            }
+            for (int i = 0; i < segment.size; i++) {
+                if ((account != StringDictionary.MISSING && segment.accounts[i] != account)
+                        || segment.statuses[i] == DELETED) {
+                    continue;
+                }
+                long timestamp = segment.timestamps[i];
+                if (timestamp < lower.timestamp() || timestamp > upper.timestamp()) {
+                    continue;
+                }
+                Candidate candidate = new Candidate(timestamp, segment.idHi[i], segment.idLo[i], segment, i);
+                if (candidate.compareTo(lower) <= 0 || candidate.compareTo(upper) >= 0) {
+                    continue;
+                }
+                if (best.size() == limit) {
+                    if (pageOrder.compare(candidate, best.peek()) <= 0) {
+                        continue;
+                    }
+                    best.poll();
+                }
+                best.add(candidate);
+            }
+        }
+        Transaction[] page = new Transaction[best.size()];
+        for (int i = page.length - 1; i >= 0; i--) {
+            Candidate candidate = best.poll();
+            page[i] = candidate.segment().materialize(candidate.offset());
+        }
+        return List.of(page);
+    }
+
+    private Segment segment(long ref) {
+        return segments.get((int) (ref / segmentSize - firstSeq));
+    }
+
+    private int offset(long ref) {
+        return (int) (ref % segmentSize);
+    }
+
+    /**
+     * Converts a statement cursor to the bound {@code (ts, id) < bound} in microseconds.
+     */
+    private static Candidate descendingBound(PageCursor cursor) {
+        long micros = floorMicros(cursor.timestamp());
+        if (cursor.timestamp().getNano() % 1_000 != 0) {
+            // Every row up to the truncated microsecond is before the cursor
+            return new Candidate(micros + 1, 0, 0, null, 0);
+        }
+        return new Candidate(micros, cursor.transactionId().getMostSignificantBits(),
+                cursor.transactionId().getLeastSignificantBits(), null, 0);
+    }
+
+    /**
+     * Converts a keyset cursor to the bound {@code (ts, id) > bound} in microseconds.
+     */
+    private static Candidate ascendingBound(PageCursor cursor) {
+        long micros = floorMicros(cursor.timestamp());
+        if (cursor.timestamp().getNano() % 1_000 != 0) {
+            // Every row of the truncated microsecond is before the cursor
+            return new Candidate(micros, -1, -1, null, 0);
+        }
+        return new Candidate(micros, cursor.transactionId().getMostSignificantBits(),
+                cursor.transactionId().getLeastSignificantBits(), null, 0);
+    }
+
+    private static Candidate min(Candidate a, Candidate b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    static long floorMicros(Instant instant) {
+        try {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+        } catch (ArithmeticException e) {
+            // Far outside the window either way
+            return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static long ceilMicros(Instant instant) {
+        long micros = floorMicros(instant);
+        return instant.getNano() % 1_000 == 0 || micros == Long.MAX_VALUE ? micros : micros + 1;
+    }
+
+    private static Instant toInstant(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    /**
+     * Sort key (timestamp, then ID as unsigned bytes) of a row, or a bound between rows.
+     */
+    private record Candidate(long timestamp, long idHi, long idLo, Segment segment, int offset)
+            implements Comparable<Candidate> {
+
+        @Override
+        public int compareTo(Candidate other) {
+            int result = Long.compare(timestamp, other.timestamp);
+            if (result == 0) {
+                result = Long.compareUnsigned(idHi, other.idHi);
+            }
+            return result != 0 ? result : Long.compareUnsigned(idLo, other.idLo);
+        }
+    }
+
+    /**
+     * A block of rows, one primitive array per column.
+     */
+    private final class Segment {
+
+        final long[] idHi;
+        final long[] idLo;
+        final long[] timestamps;
+        final long[] amounts;
+        final long[] versions;
+        final int[] accounts;
+        final short[] currencies;
+        final byte[] types;
+        final byte[] statuses;
+        final String[] descriptions;
+        final Map<Integer, BigDecimal> largeAmounts = new HashMap<>(0);
+        int size;
+        long minTimestamp = Long.MAX_VALUE;
+        long maxTimestamp = Long.MIN_VALUE;
+
+        Segment(int capacity) {
+            idHi = new long[capacity];
+            idLo = new long[capacity];
+            timestamps = new long[capacity];
+            amounts = new long[capacity];
+            versions = new long[capacity];
+            accounts = new int[capacity];
+            currencies = new short[capacity];
+            types = new byte[capacity];
+            statuses = new byte[capacity];
+            descriptions = new String[capacity];
+        }
+
+        Transaction materialize(int offset) {
+            Transaction transaction = new Transaction();
+            transaction.setTransactionId(new UUID(idHi[offset], idLo[offset]));
+            transaction.setAccountId(HotWindowStore.this.accounts.decode(accounts[offset]));
+            transaction.setType(TYPES[types[offset]]);
+            transaction.setAmount(amounts[offset] == LARGE_AMOUNT
+                    ? largeAmounts.get(offset) : Money.toBigDecimal(amounts[offset]));
+            transaction.setCurrency(HotWindowStore.this.currencies.decode(currencies[offset]));
+            transaction.setDescription(descriptions[offset]);
+            transaction.setTimestamp(toInstant(timestamps[offset]));
+            transaction.setStatus(STATUSES[statuses[offset]]);
+            transaction.setVersion(versions[offset]);
+            return transaction;
+        }
+    }
+}
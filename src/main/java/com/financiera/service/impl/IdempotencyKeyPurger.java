@@ -0,0 +1,75 @@
+package com.financiera.service.impl;
+
+import com.financiera.repository.TransactionIdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Purges the durable Idempotency-Key records once they are older than the retention period.
+ * <p>Keys are deleted by age through the {@code created_at} index, in batches of their own
+ * database transaction, so a large backlog never holds locks for long. A retry that arrives
+ * after its key was purged creates a new transaction: the retention must be longer than the
+ * window in which clients retry. Deleting is idempotent, so every instance may run the job.</p>
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyPurger {
+
+    private final TransactionIdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration retention;
+    private final int batchSize;
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param idempotencyKeyRepository Repository of the durable Idempotency-Key records.
+     * @param retentionHours How long a key is kept in the database; 0 keeps every key.
+     * @param batchSize Maximum number of keys deleted per database transaction.
+     */
+    public IdempotencyKeyPurger(TransactionIdempotencyKeyRepository idempotencyKeyRepository,
+                                @Value("${app.idempotency.retentionHours:168}") long retentionHours,
+                                @Value("${app.idempotency.purgeBatchSize:10000}") int batchSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.retention = Duration.ofHours(retentionHours);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Deletes the expired keys, on schedule.
+     */
+    @Scheduled(cron = "${app.idempotency.purgeCron:0 30 3 * * *}", zone = "UTC")
+    public void purge() {
+        if (retention.isZero()) {
+            return;
+        }
+        try {
+            long purged = purge(Instant.now().minus(retention));
+            if (purged > 0) {
+                log.info("Purged {} idempotency keys older than {}", purged, retention);
+            }
+        } catch (DataAccessException e) {
+            log.error("Purging idempotency keys failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes every key first used before the cutoff, one batch at a time.
+     * @param cutoff Keys created before this instant are deleted.
+     * @return The number of keys deleted.
+     */
+    public long purge(Instant cutoff) {
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = idempotencyKeyRepository.deleteCreatedBefore(cutoff, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+}
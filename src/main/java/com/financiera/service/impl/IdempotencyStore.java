@@ -0,0 +1,207 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.CacheStatsResponse;
+import com.financiera.dto.TransactionResponse;
+import com.financiera.exception.UnprocessableEntityException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory record of recently used Idempotency-Keys and the responses they produced.
+ * <p>Keys are spread over a fixed number of stripes, each a small insertion-ordered map
+ * behind its own lock, so unrelated keys rarely contend and a lock is only held for a
+ * map operation, never while the request runs. Every stripe is bounded in size and drops
+ * entries older than the TTL from its head, oldest first.</p>
+ * <p>Entries hold futures: the first request with a key runs the action; retries with the
+ * same key, including ones arriving while it still runs, wait for and share its response.
+ * A failed action removes its entry so the client can retry. Responses are shared and must
+ * not be modified.</p>
+ */
+@Component
+public class IdempotencyStore {
+
+    static final String NAME = "idempotency-keys";
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int maxEntriesPerStripe;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Builds the store from the application properties.
+     * @param maxEntries Maximum number of remembered keys, spread evenly over the stripes.
+     * @param ttlMs How long a key is remembered in memory, in milliseconds.
+     * @param stripeCount Number of independently locked stripes; rounded up to a power of two.
+     */
+    public IdempotencyStore(@Value("${app.idempotency.maxEntries:100000}") int maxEntries,
+                            @Value("${app.idempotency.ttlMs:3600000}") long ttlMs,
+                            @Value("${app.idempotency.stripes:64}") int stripeCount) {
+        int stripesPowerOfTwo = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Stripe[stripesPowerOfTwo];
+        for (int i = 0; i < stripesPowerOfTwo; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripesPowerOfTwo - 1;
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / stripesPowerOfTwo);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    /**
+     * Runs an action at most once per remembered key and returns its response.
+     * @param key The client-scoped idempotency key.
+     * @param fingerprint The hash of the request body, to detect a key reused for another request.
+     * @param action Produces the response; only called by the first request with the key.
+     * @return The response of the first request with this key.
+     * @throws UnprocessableEntityException if the key was first used with a different request body.
+     */
+    public TransactionResponse execute(String key, String fingerprint, Supplier<TransactionResponse> action) {
+        Stripe stripe = stripes[spread(key.hashCode()) & stripeMask];
+        Entry entry;
+        boolean owner;
+        stripe.lock.lock();
+        try {
+            long now = System.nanoTime();
+            stripe.purgeExpired(now);
+            entry = stripe.entries.get(key);
+            owner = entry == null;
+            if (owner) {
+                entry = new Entry(fingerprint, now);
+                stripe.entries.put(key, entry);
+                stripe.evictOverflow();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (!owner) {
+            hits.increment();
+            if (!entry.fingerprint.equals(fingerprint)) {
+                throw new UnprocessableEntityException("Idempotency-Key was already used for a different request");
+            }
+            return join(entry.result);
+        }
+
+        misses.increment();
+        try {
+            TransactionResponse response = action.get();
+            entry.result.complete(response);
+            return response;
+        } catch (Throwable e) {
+            failures.increment();
+            stripe.remove(key, entry);
+            // Waiters get the same error; later retries run the action again
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return A snapshot of the number of remembered keys and the replay counters.
+     */
+    public CacheStatsResponse stats() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+
+        CacheStatsResponse response = new CacheStatsResponse();
+        response.setName(NAME);
+        response.setEstimatedSize(size);
+        response.setHitCount(hitCount);
+        response.setMissCount(misses.sum());
+        response.setHitRate(requestCount == 0 ? 1.0 : (double) hitCount / requestCount);
+        response.setEvictionCount(evictions.sum());
+        response.setLoadFailureCount(failures.sum());
+        return response;
+    }
+
+    private static TransactionResponse join(CompletableFuture<TransactionResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16); // Mix the high bits into the stripe index
+    }
+
+    /**
+     * A remembered key: the fingerprint of its first request and that request's eventual response.
+     */
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final long createdAt;
+        private final CompletableFuture<TransactionResponse> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long createdAt) {
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * One lock and the keys hashed to it, in insertion (and therefore age) order.
+     */
+    private final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+        /** Drops expired entries from the head; they are the oldest. Caller holds the lock. */
+        private void purgeExpired(long now) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext() && now - iterator.next().createdAt >= ttlNanos) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        /** Drops the oldest entry when the stripe is over its bound. Caller holds the lock. */
+        private void evictOverflow() {
+            if (entries.size() > maxEntriesPerStripe) {
+                Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        private void remove(String key, Entry entry) {
+            lock.lock();
+            try {
+                entries.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
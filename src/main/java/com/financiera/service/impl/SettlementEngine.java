@@ -0,0 +1,291 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.SettlementStatsResponse;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.repository.TransactionRepository;
+import com.financiera.service.AccountBalanceService;
+import com.financiera.service.DailyRollupService;
+import com.financiera.service.SettlementRule;
+import com.financiera.utils.PageCursor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Settles PENDING transactions in the background with a pluggable {@link SettlementRule}.
+ * <p>Each worker thread repeatedly claims the oldest PENDING transactions with
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}, asks the rule for each outcome and moves the batch
+ * with one UPDATE per target status and one commit, together with the aggregated balance
+ * changes. Rows locked by another worker, on this or any other instance, are skipped rather
+ * than waited on, so workers never queue behind each other on transaction rows and throughput
+ * grows with the number of workers (up to the connection pool and the contention on the
+ * balance rows of very hot accounts).</p>
+ * <p>A worker walks the backlog by keyset; transactions the rule leaves PENDING are revisited
+ * on the next pass, after {@code pollIntervalMs}. A batch failing with a database error is
+ * rolled back and retried on the next pass.</p>
+ */
+@Slf4j
+@Component
+public class SettlementEngine implements SmartLifecycle {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountBalanceService accountBalanceService;
+    private final DailyRollupService dailyRollupService;
+    private final TransactionCache transactionCache;
+    private final HotWindowStore hotWindowStore;
+    private final TransactionTemplate transactionTemplate;
+    private final SettlementRule rule;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final long minAgeMs;
+    private final long shutdownTimeoutMs;
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deferred = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private volatile boolean running;
+    private final List<Thread> workers = new ArrayList<>();
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param transactionRepository Repository whose bulk status fragment claims and moves the batches.
+     * @param accountBalanceService Service applying the balance changes of settled transactions.
+     * @param dailyRollupService Service marking the days of settled transactions for rollup recomputation.
+     * @param transactionCache The single-transaction cache, invalidated for every settled transaction.
+     * @param hotWindowStore In-memory copy of the recent transactions, fed with every settled transaction.
+     * @param transactionManager Transaction manager used for one database transaction per batch.
+     * @param rules The declared settlement rule; required when the engine is enabled.
+     * @param enabled Whether this instance runs settlement workers.
+     * @param workerCount Number of worker threads.
+     * @param batchSize Maximum number of transactions claimed per batch.
+     * @param pollIntervalMs Pause between passes once a worker has drained the backlog.
+     * @param minAgeMs Minimum age of a transaction before it is settled.
+     * @param shutdownTimeoutMs Maximum time to wait for the workers' current batches on shutdown.
+     * @throws IllegalStateException If the engine is enabled and no SettlementRule bean is declared.
+     */
+    public SettlementEngine(TransactionRepository transactionRepository,
+                            AccountBalanceService accountBalanceService,
+                            DailyRollupService dailyRollupService,
+                            TransactionCache transactionCache,
+                            HotWindowStore hotWindowStore,
+                            PlatformTransactionManager transactionManager,
+                            ObjectProvider<SettlementRule> rules,
+                            @Value("${app.settlement.enabled:false}") boolean enabled,
+                            @Value("${app.settlement.workers:4}") int workerCount,
+                            @Value("${app.settlement.batchSize:500}") int batchSize,
+                            @Value("${app.settlement.pollIntervalMs:1000}") long pollIntervalMs,
+                            @Value("${app.settlement.minAgeMs:0}") long minAgeMs,
+                            @Value("${app.settlement.shutdownTimeoutMs:30000}") long shutdownTimeoutMs) {
+        this.transactionRepository = transactionRepository;
+        this.accountBalanceService = accountBalanceService;
+        this.dailyRollupService = dailyRollupService;
+        this.transactionCache = transactionCache;
+        this.hotWindowStore = hotWindowStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rule = rules.getIfAvailable();
+        // Settling without a business rule would move every PENDING transaction blindly
+        if (enabled && rule == null) {
+            throw new IllegalStateException(
+                    "app.settlement.enabled is true but no SettlementRule bean is declared");
+        }
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMs);
+        this.minAgeMs = minAgeMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    /**
+     * @return A snapshot of the settlement counters.
+     */
+    public SettlementStatsResponse stats() {
+        SettlementStatsResponse response = new SettlementStatsResponse();
+        response.setEnabled(enabled);
+        response.setWorkers(enabled ? workerCount : 0);
+        response.setBatchSize(batchSize);
+        response.setBatches(batches.get());
+        response.setClaimed(claimed.get());
+        response.setCompleted(completed.get());
+        response.setFailed(failed.get());
+        response.setDeferred(deferred.get());
+        response.setErrors(errors.get());
+        return response;
+    }
+
+    /**
+     * Starts the worker threads when the engine is enabled.
+     */
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread thread = new Thread(this::runWorker, "settlement-worker-" + i);
+            thread.setDaemon(true);
+            workers.add(thread);
+            thread.start();
+        }
+        log.info("Settlement engine started ({} workers, batch size {}, rule {})",
+                workerCount, batchSize, rule.getClass().getName());
+    }
+
+    /**
+     * Stops the workers after their current batch; uncommitted claims are released by the rollback.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        for (Thread thread : workers) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (thread.isAlive()) {
+                log.error("Settlement worker {} did not stop within {} ms", thread.getName(), shutdownTimeoutMs);
+            }
+        }
+        workers.clear();
+        log.info("Settlement engine stopped: {} completed, {} failed", completed.get(), failed.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts after and stops before the write-behind flusher, and like it outlives the web server.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    /**
+     * Worker loop: settle batches along the keyset until the backlog is drained, then pause.
+     */
+    private void runWorker() {
+        PageCursor after = null;
+        while (running) {
+            try {
+                after = settleBatch(after);
+            } catch (DataAccessException | CannotCreateTransactionException e) {
+                errors.incrementAndGet();
+                log.warn("Settlement batch failed and was rolled back: {}", e.getMessage());
+                after = null;
+            } catch (RuntimeException e) {
+                // Commit failures and bugs in the projections: the worker must outlive them too
+                errors.incrementAndGet();
+                log.error("Settlement batch failed unexpectedly", e);
+                after = null;
+            }
+            if (after == null && running) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * Claims, decides and moves one batch in a single database transaction.
+     * @param after The key of the last transaction this worker claimed in the current pass, or null.
+     * @return The key to continue the pass from, or null once the backlog is drained.
+     */
+    private PageCursor settleBatch(PageCursor after) {
+        BatchOutcome outcome = transactionTemplate.execute(status -> {
+            Instant cutoff = Instant.now().minusMillis(minAgeMs);
+            List<Transaction> batch = transactionRepository.lockPendingBatch(cutoff, after, batchSize);
+            if (batch.isEmpty()) {
+                return new BatchOutcome(0, 0, 0, null);
+            }
+
+            Map<TransactionStatus, List<UUID>> decisions = new EnumMap<>(TransactionStatus.class);
+            for (Transaction transaction : batch) {
+                TransactionStatus target = decide(transaction);
+                if (target == TransactionStatus.COMPLETED || target == TransactionStatus.FAILED) {
+                    decisions.computeIfAbsent(target, key -> new ArrayList<>()).add(transaction.getTransactionId());
+                }
+            }
+
+            Map<TransactionStatus, Integer> moved = new EnumMap<>(TransactionStatus.class);
+            decisions.forEach((target, ids) -> {
+                // The claimed rows are locked by this transaction, so all of them are still PENDING
+                List<Transaction> updated = transactionRepository.transitionPending(ids, target);
+                accountBalanceService.recordStatusChanges(updated, TransactionStatus.PENDING, target);
+                dailyRollupService.recordChanges(updated);
+                hotWindowStore.putAll(updated);
+                updated.forEach(transaction -> transactionCache.invalidate(transaction.getTransactionId()));
+                moved.put(target, updated.size());
+            });
+
+            Transaction last = batch.get(batch.size() - 1);
+            return new BatchOutcome(batch.size(), moved.getOrDefault(TransactionStatus.COMPLETED, 0),
+                    moved.getOrDefault(TransactionStatus.FAILED, 0),
+                    new PageCursor(last.getTimestamp(), last.getTransactionId()));
+        });
+
+        // Counted after the commit, so rolled back batches never show up as settled
+        if (outcome.claimed() > 0) {
+            batches.incrementAndGet();
+            claimed.addAndGet(outcome.claimed());
+            completed.addAndGet(outcome.completed());
+            failed.addAndGet(outcome.failed());
+            deferred.addAndGet(outcome.claimed() - outcome.completed() - outcome.failed());
+        }
+        return outcome.claimed() < batchSize ? null : outcome.last();
+    }
+
+    /**
+     * Applies the rule to one transaction; a rule error leaves the transaction PENDING.
+     * @param transaction The claimed transaction.
+     * @return The target status returned by the rule, or null.
+     */
+    private TransactionStatus decide(Transaction transaction) {
+        try {
+            return rule.settle(transaction);
+        } catch (RuntimeException e) {
+            log.error("Settlement rule failed for transaction {}; left PENDING: {}",
+                    transaction.getTransactionId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Result of one committed batch.
+     */
+    private record BatchOutcome(int claimed, int completed, int failed, PageCursor last) {
+    }
+}
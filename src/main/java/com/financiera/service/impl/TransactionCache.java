@@ -0,0 +1,146 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.CacheStatsResponse;
+import com.financiera.dto.TransactionResponse;
+import com.financiera.model.TransactionStatus;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * In-process read-through cache for single-transaction lookups.
+ * <p>Entries are bounded by count and expire per entry: PENDING transactions, which clients
+ * poll while waiting for settlement, get a short TTL; COMPLETED and FAILED transactions are
+ * effectively immutable and are kept much longer.</p>
+ * <p>Entries are futures: the first reader of a missing ID installs one and loads the row
+ * outside of any map lock (no carrier pinning under virtual threads), while concurrent readers
+ * of the same ID wait on it. Writers call {@link #invalidate(UUID)}, which evicts the entry
+ * immediately and again once the surrounding database transaction completes; a load that
+ * read the old row before the commit then completes a future that is no longer cached.
+ * Cached responses are shared and must not be modified.</p>
+ */
+@Component
+public class TransactionCache {
+
+    static final String NAME = "transactions";
+
+    private final AsyncCache<UUID, TransactionResponse> cache;
+
+    /**
+     * Builds the cache from the application properties.
+     * @param maxSize Maximum number of cached transactions.
+     * @param pendingTtlMs Time to live of a cached non-terminal (PENDING) transaction, in milliseconds.
+     * @param terminalTtlMs Time to live of a cached COMPLETED or FAILED transaction, in milliseconds.
+     */
+    public TransactionCache(@Value("${app.cache.transactions.maxSize:10000}") long maxSize,
+                            @Value("${app.cache.transactions.pendingTtlMs:30000}") long pendingTtlMs,
+                            @Value("${app.cache.transactions.terminalTtlMs:600000}") long terminalTtlMs) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new StatusExpiry(Duration.ofMillis(pendingTtlMs), Duration.ofMillis(terminalTtlMs)))
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Returns the cached transaction, loading and caching it on a miss.
+     * Concurrent misses for the same ID share a single load. Exceptions thrown by the
+     * loader (e.g. not found) propagate and nothing is cached.
+     * @param id The transaction ID.
+     * @param loader Loads the transaction from the database.
+     * @return The cached or freshly loaded transaction.
+     */
+    public TransactionResponse get(UUID id, Function<UUID, TransactionResponse> loader) {
+        CompletableFuture<TransactionResponse> load = new CompletableFuture<>();
+        // The mapping function only installs the future; the database call happens below, unlocked
+        CompletableFuture<TransactionResponse> entry = cache.get(id, (key, executor) -> load);
+        if (entry == load) {
+            try {
+                load.complete(loader.apply(id));
+            } catch (Throwable e) {
+                // Never leave waiters hanging; failed futures are removed and counted as load failures
+                load.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Evicts a transaction now and, when called inside a database transaction, again after it
+     * completes, so no reader can re-cache the pre-commit state.
+     * @param id The ID of the transaction being modified or deleted.
+     */
+    public void invalidate(UUID id) {
+        cache.synchronous().invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.synchronous().invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return A snapshot of the cache size and hit/miss/eviction counters.
+     */
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.synchronous().stats();
+        CacheStatsResponse response = new CacheStatsResponse();
+        response.setName(NAME);
+        response.setEstimatedSize(cache.synchronous().estimatedSize());
+        response.setHitCount(stats.hitCount());
+        response.setMissCount(stats.missCount());
+        response.setHitRate(stats.hitRate());
+        response.setEvictionCount(stats.evictionCount());
+        response.setLoadFailureCount(stats.loadFailureCount());
+        return response;
+    }
+
+    /**
+     * Per-entry expiry based on the transaction status; reads do not extend the lifetime.
+     */
+    private record StatusExpiry(Duration pendingTtl, Duration terminalTtl)
+            implements Expiry<UUID, TransactionResponse> {
+
+        @Override
+        public long expireAfterCreate(UUID id, TransactionResponse transaction, long currentTime) {
+            TransactionStatus status = transaction.getStatus();
+            boolean terminal = status == TransactionStatus.COMPLETED || status == TransactionStatus.FAILED;
+            return (terminal ? terminalTtl : pendingTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID id, TransactionResponse transaction, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(id, transaction, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID id, TransactionResponse transaction, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.financiera.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly range partitions of {@code skd_financiera.transactions}.
+ * <p>On startup and then daily, it creates the partitions of the current and the next
+ * {@code premakeMonths} months, so inserts never fall into the default partition, and applies
+ * the retention policy: partitions older than {@code retentionMonths} full months are detached
+ * (kept as standalone tables for archiving) or dropped. Account balances are a projection and
+ * are not changed by retention.</p>
+ * <p>Every step runs in its own database transaction under a PostgreSQL advisory lock, so
+ * only one instance of a cluster does the work at a time, and with a short lock timeout, so
+ * DDL waiting for a busy table gives up instead of queueing all queries behind it; the step
+ * is retried on the next run.</p>
+ */
+@Slf4j
+@Component
+public class TransactionPartitionManager {
+
+    /**
+     * What happens to a partition once it is older than the retention period.
+     */
+    public enum RetentionMode {
+        /** Detach the partition; its rows stay available as a standalone table. */
+        DETACH,
+        /** Drop the partition and its rows. */
+        DROP
+    }
+
+    static final String SCHEMA = "skd_financiera";
+    static final String PARENT_TABLE = SCHEMA + ".transactions";
+
+    // Shared by every instance; the value is arbitrary but must not be reused for other locks
+    private static final long ADVISORY_LOCK_KEY = 0x5452585041525449L;
+    private static final Pattern PARTITION_NAME = Pattern.compile("transactions_p(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final RetentionMode retentionMode;
+    private final long lockTimeoutMs;
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param jdbcTemplate JdbcTemplate bound to the application DataSource.
+     * @param transactionManager Transaction manager used for one database transaction per step.
+     * @param enabled Whether this instance maintains the partitions.
+     * @param premakeMonths Number of months after the current one to create partitions for.
+     * @param retentionMonths Number of full months kept before the current one; 0 keeps everything.
+     * @param retentionMode Whether expired partitions are detached or dropped.
+     * @param lockTimeoutMs Maximum time a DDL statement waits for its table lock.
+     */
+    public TransactionPartitionManager(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${app.partitions.enabled:true}") boolean enabled,
+                                       @Value("${app.partitions.premakeMonths:3}") int premakeMonths,
+                                       @Value("${app.partitions.retentionMonths:0}") int retentionMonths,
+                                       @Value("${app.partitions.retentionMode:DETACH}") RetentionMode retentionMode,
+                                       @Value("${app.partitions.lockTimeoutMs:5000}") long lockTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.retentionMode = retentionMode;
+        this.lockTimeoutMs = lockTimeoutMs;
+    }
+
+    /**
+     * Runs the partition maintenance for the current UTC month, on startup and on schedule.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.cron:0 0 3 * * *}", zone = "UTC")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        try {
+            List<String> created = createPartitions(currentMonth);
+            if (!created.isEmpty()) {
+                log.info("Created transaction partitions {}", created);
+            }
+        } catch (DataAccessException e) {
+            log.error("Creating transaction partitions failed: {}", e.getMessage());
+        }
+        try {
+            List<String> expired = applyRetention(currentMonth);
+            if (!expired.isEmpty()) {
+                log.info("Retention ({}) applied to transaction partitions {}", retentionMode, expired);
+            }
+        } catch (DataAccessException e) {
+            log.error("Applying transaction partition retention failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the missing partitions from the given month to {@code premakeMonths} months later.
+     * @param currentMonth The current month (UTC).
+     * @return The names of the partitions created by this call.
+     */
+    public List<String> createPartitions(YearMonth currentMonth) {
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            String name = partitionName(month);
+            boolean done = withMaintenanceLock(() -> {
+                if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                        SCHEMA + "." + name)) {
+                    return false;
+                }
+                jdbcTemplate.execute("CREATE TABLE " + SCHEMA + "." + name + " PARTITION OF " + PARENT_TABLE
+                        + " FOR VALUES FROM ('" + lowerBound(month) + "') TO ('" + lowerBound(month.plusMonths(1)) + "')");
+                return true;
+            });
+            if (done) {
+                created.add(name);
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Detaches or drops the partitions that ended before the retention period.
+     * @param currentMonth The current month (UTC).
+     * @return The names of the partitions detached or dropped by this call.
+     */
+    public List<String> applyRetention(YearMonth currentMonth) {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        List<String> expired = new ArrayList<>();
+        for (String name : listPartitions()) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (!matcher.matches() || !YearMonth.parse(matcher.group(1), SUFFIX).isBefore(oldestKept)) {
+                continue;
+            }
+            String sql = retentionMode == RetentionMode.DROP
+                    ? "DROP TABLE " + SCHEMA + "." + name
+                    : "ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + SCHEMA + "." + name;
+            boolean done = withMaintenanceLock(() -> {
+                jdbcTemplate.execute(sql);
+                return true;
+            });
+            if (done) {
+                expired.add(name);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return The names of the current partitions of the transactions table.
+     */
+    public List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname", String.class, PARENT_TABLE);
+    }
+
+    /**
+     * Runs one maintenance step in its own database transaction if no other instance holds the lock.
+     * @param step The step; returns whether it changed anything.
+     * @return The result of the step, or false if another instance is maintaining the partitions.
+     */
+    private boolean withMaintenanceLock(Supplier<Boolean> step) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            // Released automatically at commit or rollback
+            if (!jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY)) {
+                log.debug("Transaction partitions are being maintained by another instance");
+                return false;
+            }
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + lockTimeoutMs);
+            return step.get();
+        }));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "transactions_p" + month.format(SUFFIX);
+    }
+
+    private static String lowerBound(YearMonth month) {
+        return month.atDay(1) + " 00:00:00+00";
+    }
+}
@@ -1,39 +1,145 @@
 package com.financiera.service.impl;
 
+import com.financiera.dto.BatchItemStatus;
+import com.financiera.dto.TransactionBatchItemResult;
+import com.financiera.dto.TransactionBatchResponse;
+import com.financiera.dto.TransactionBulkStatusRequest;
+import com.financiera.dto.TransactionBulkStatusResponse;
 import com.financiera.dto.TransactionCreateRequest;
+import com.financiera.dto.TransactionPageResponse;
 import com.financiera.dto.TransactionResponse;
 import com.financiera.dto.TransactionUpdateRequest;
+import com.financiera.exception.BadRequestException;
+import com.financiera.exception.ConflictException;
+import com.financiera.exception.PreconditionFailedException;
 import com.financiera.exception.ResourceNotFoundException; 
+import com.financiera.exception.TooManyRequestsException;
+import com.financiera.exception.UnprocessableEntityException;
 import com.financiera.model.Transaction;
+import com.financiera.model.TransactionIdempotencyKey;
 import com.financiera.model.TransactionStatus;
+import com.financiera.repository.TransactionIdempotencyKeyRepository;
 import com.financiera.repository.TransactionRepository;
+import com.financiera.repository.TransactionUpdateResult;
+import com.financiera.service.AccountBalanceService;
+import com.financiera.service.DailyRollupService;
 import com.financiera.service.TransactionService;
+import com.financiera.utils.Digests;
+import com.financiera.utils.PageCursor;
+import com.financiera.utils.UuidV7;
+import io.micrometer.core.annotation.Timed;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional; 
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the TransactionService interface.
  * Contains the core business logic for transaction management.
+ * Every public method is timed as {@code financiera.transaction.service}, tagged by method.
  */
+@Slf4j
 @Service
+@Timed(value = "financiera.transaction.service", description = "Latency of TransactionService methods")
 public class TransactionServiceImpl implements TransactionService {
 
 	@Autowired
     private final TransactionRepository transactionRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final AccountBalanceService accountBalanceService;
+    private final DailyRollupService dailyRollupService;
+    private final TransactionCache transactionCache;
+    private final HotWindowStore hotWindowStore;
+    private final TransactionWriteBehindQueue writeBehindQueue;
+    private final TransactionIdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+
+    // Longest Idempotency-Key accepted; leaves room for the client prefix in the key column
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    // Page size applied when the client does not request one
+    @Value("${app.pagination.defaultLimit:50}")
+    private int defaultPageLimit;
+
+    // Upper bound for the page size, protecting heap and response time
+    @Value("${app.pagination.maxLimit:500}")
+    private int maxPageLimit;
+
+    // Maximum number of items accepted by a single batch creation request
+    @Value("${app.batch.maxSize:1000}")
+    private int maxBatchSize;
+
+    // Transactions moved per statement (and commit) by bulk status transitions
+    @Value("${app.batch.statusChunkSize:1000}")
+    private int statusChunkSize;
+
+    // Maximum number of IDs accepted by a single bulk status request
+    @Value("${app.batch.maxStatusIds:50000}")
+    private int maxStatusIds;
+
+    // Rows persisted between flushes; kept equal to Hibernate's JDBC batch size
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int jdbcBatchSize;
 
     /**
      * Constructor for Dependency Injection.
      * @param transactionRepository Repository for transaction data access.
+     * @param entityManager Shared JPA entity manager, used to detach streamed entities.
+     * @param validator Bean Validation engine, used to validate batch items one by one.
+     * @param accountBalanceService Balance read model, updated in the same database transaction.
+     * @param dailyRollupService Daily rollup read model, told about status changes in the same database transaction.
+     * @param transactionCache Read-through cache for single-transaction lookups.
+     * @param hotWindowStore In-memory copy of the recent transactions, fed after every commit.
+     * @param writeBehindQueue Buffer for asynchronous (write-behind) transaction creation.
+     * @param idempotencyKeyRepository Durable record of the Idempotency-Keys already used.
+     * @param idempotencyStore In-memory record of recently used Idempotency-Keys and their responses.
+     * @param transactionManager Transaction manager for creations that must not hold a connection while waiting.
      */
-    public TransactionServiceImpl(TransactionRepository transactionRepository) {
+    public TransactionServiceImpl(TransactionRepository transactionRepository, EntityManager entityManager,
+                                  Validator validator, AccountBalanceService accountBalanceService,
+                                  DailyRollupService dailyRollupService,
+                                  TransactionCache transactionCache, HotWindowStore hotWindowStore,
+                                  TransactionWriteBehindQueue writeBehindQueue,
+                                  TransactionIdempotencyKeyRepository idempotencyKeyRepository,
+                                  IdempotencyStore idempotencyStore, PlatformTransactionManager transactionManager) {
         this.transactionRepository = transactionRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.accountBalanceService = accountBalanceService;
+        this.dailyRollupService = dailyRollupService;
+        this.transactionCache = transactionCache;
+        this.hotWindowStore = hotWindowStore;
+        this.writeBehindQueue = writeBehindQueue;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.idempotencyStore = idempotencyStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -42,23 +148,16 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     @Transactional // Ensures the operation is atomic
     public TransactionResponse createTransaction(TransactionCreateRequest request) {
-        // 1. Convert DTO to Entity
-        Transaction transaction = new Transaction();
-        transaction.setAccountId(request.getAccountId());
-        transaction.setType(request.getType());
-        transaction.setAmount(request.getAmount());
-        transaction.setCurrency(request.getCurrency());
-        transaction.setDescription(request.getDescription()); 
-
-        // 2. Apply Financial Business Rules: Set system-controlled values
-        transaction.setTimestamp(Instant.now());
-        // All new transactions start as PENDING
-        transaction.setStatus(TransactionStatus.PENDING); 
+        // 1. Convert DTO to Entity, applying the system-controlled values (timestamp, PENDING status)
+        Transaction transaction = toNewEntity(request, now());
 
-        // 3. Save to Database
+        // 2. Save to Database
         Transaction savedTransaction = transactionRepository.save(transaction);
+        accountBalanceService.recordStatusChange(savedTransaction, null, savedTransaction.getStatus());
+        dailyRollupService.recordCreations(List.of(savedTransaction));
+        hotWindowStore.put(savedTransaction);
 
-        // 4. Convert Entity back to Response DTO
+        // 3. Convert Entity back to Response DTO
         return mapToResponseDTO(savedTransaction);
     }
 
@@ -66,11 +165,46 @@ public class TransactionServiceImpl implements TransactionService {
      * {@inheritDoc}
      */
     @Override
-    public TransactionResponse getTransactionById(UUID id) {
-        // Find the transaction or throw a 404 (handled by ResourceNotFoundException)
-        Transaction transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found with ID: " + id));
-        
+    public TransactionResponse createTransaction(TransactionCreateRequest request, String clientId,
+                                                 String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return transactionTemplate.execute(status -> createTransaction(request));
+        }
+        String scopedKey = scopeIdempotencyKey(clientId, idempotencyKey);
+        String fingerprint = fingerprint(request);
+        // Checked in memory first, outside any database transaction: a replay never takes a connection
+        return idempotencyStore.execute(scopedKey, fingerprint,
+                () -> transactionTemplate.execute(status -> createOnce(request, scopedKey, fingerprint)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionResponse submitTransaction(TransactionCreateRequest request, String clientId,
+                                                 String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return submitTransaction(request);
+        }
+        return idempotencyStore.execute(scopeIdempotencyKey(clientId, idempotencyKey), fingerprint(request),
+                () -> submitTransaction(request));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionResponse submitTransaction(TransactionCreateRequest request) {
+        // No database work here: the ID is assigned up front so the client can track the transaction.
+        // New transactions are PENDING, so the balance projection is unaffected until they settle.
+        Transaction transaction = toNewEntity(request, now());
+        transaction.setTransactionId(UuidV7.next());
+        transaction.setVersion(0L);
+
+        if (!writeBehindQueue.offer(transaction)) {
+            throw new TooManyRequestsException("Transaction ingestion queue is full, please retry later",
+                    writeBehindQueue.getRetryAfterSeconds());
+        }
         return mapToResponseDTO(transaction);
     }
 
@@ -78,33 +212,171 @@ public class TransactionServiceImpl implements TransactionService {
      * {@inheritDoc}
      */
     @Override
-    public List<TransactionResponse> getAllTransactions() {
-        // Use Java 8 Stream API (Collectors) to map the list of Entities to DTOs
-        return transactionRepository.findAll().stream()
-                .map(this::mapToResponseDTO) // Method reference usage
-                .collect(Collectors.toList());
+    public boolean isWriteBehindEnabled() {
+        return writeBehindQueue.isEnabled();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @Transactional
-    public TransactionResponse updateTransaction(UUID id, TransactionUpdateRequest request) {
-        // 1. Find the existing entity
-        Transaction transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found with ID: " + id));
+    @Transactional // One commit for the whole batch
+    public TransactionBatchResponse createTransactions(List<TransactionCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one transaction");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new BadRequestException("Batch cannot contain more than " + maxBatchSize + " transactions");
+        }
+
+        Instant now = now();
+        List<TransactionBatchItemResult> results = new ArrayList<>(requests.size());
+        List<Transaction> pending = new ArrayList<>(jdbcBatchSize);
+        List<TransactionBatchItemResult> pendingResults = new ArrayList<>(jdbcBatchSize);
+        int created = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            TransactionCreateRequest request = requests.get(index);
+            TransactionBatchItemResult result = new TransactionBatchItemResult();
+            result.setIndex(index);
+            results.add(result);
+
+            Map<String, String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                result.setStatus(BatchItemStatus.REJECTED);
+                result.setErrors(errors);
+                continue;
+            }
+
+            result.setStatus(BatchItemStatus.CREATED);
+            pending.add(toNewEntity(request, now));
+            pendingResults.add(result);
+            created++;
+
+            if (pending.size() == jdbcBatchSize) {
+                persistChunk(pending, pendingResults);
+            }
+        }
+        persistChunk(pending, pendingResults);
+
+        TransactionBatchResponse response = new TransactionBatchResponse();
+        response.setCreated(created);
+        response.setRejected(requests.size() - created);
+        response.setResults(results);
+        return response;
+    }
 
-        // 2. Apply updates for allowed fields
-        if (request.getDescription() != null) {
-            transaction.setDescription(request.getDescription());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionResponse getTransactionById(UUID id) {
+        Optional<Transaction> recent = hotWindowStore.find(id);
+        if (recent.isPresent()) {
+            return mapToResponseDTO(recent.get());
         }
-        if (request.getStatus() != null) {
-            transaction.setStatus(request.getStatus());
+        // Served from the cache; on a miss, find the transaction or throw a 404 (nothing is cached then)
+        return transactionCache.get(id, key -> transactionRepository.findById(key)
+                .map(this::mapToResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found with ID: " + key)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionPageResponse getTransactions(String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+
+        // Fetch one extra row to know whether another page exists without a COUNT query.
+        // Pages within the hot window are read from memory; each repository query runs in its own read-only transaction.
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<Transaction> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findFirstPage(fetchLimit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = hotWindowStore.findPageAfter(after, pageSize + 1).orElseGet(() ->
+                    transactionRepository.findPageAfter(after.timestamp(), after.transactionId(), fetchLimit));
+        }
+
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TransactionPageResponse getAccountStatement(String accountId, Instant from, Instant to,
+                                                       String cursor, Integer limit) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Statement range is empty: 'from' must be before 'to'");
+        }
+        int pageSize = resolvePageSize(limit);
+
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        PageCursor before = cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+        List<Transaction> rows = hotWindowStore.findStatementPage(accountId, from, to, before, pageSize + 1)
+                .orElseGet(() -> before == null
+                        ? transactionRepository.findStatementFirstPage(accountId, from, to, fetchLimit)
+                        : transactionRepository.findStatementPageBefore(accountId, from, to,
+                                before.timestamp(), before.transactionId(), fetchLimit));
+
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true) // Keeps the server-side cursor open while streaming
+    public long exportTransactions(Instant from, Instant to, Consumer<TransactionResponse> sink) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Export range is empty: 'from' must be before 'to'");
+        }
+
+        AtomicLong exported = new AtomicLong();
+        try (Stream<Transaction> transactions = transactionRepository.streamByTimestampRange(from, to)) {
+            transactions.forEach(transaction -> {
+                sink.accept(mapToResponseDTO(transaction));
+                // Evict the entity right away so the persistence context does not grow with the export
+                entityManager.detach(transaction);
+                exported.incrementAndGet();
+            });
+        }
+        return exported.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public TransactionResponse updateTransaction(UUID id, TransactionUpdateRequest request, Long expectedVersion) {
+        // 1. Check the version and the status transition and write, all in one statement
+        TransactionUpdateResult result = transactionRepository.updateConditionally(
+                id, expectedVersion, request.getDescription(), request.getStatus());
+
+        // 2. Explain a row that was not updated
+        switch (result.outcome()) {
+            case NOT_FOUND -> throw new ResourceNotFoundException("Transaction not found with ID: " + id);
+            case VERSION_MISMATCH -> throw new PreconditionFailedException("Transaction " + id
+                    + " has been modified: expected version " + expectedVersion
+                    + " but found " + result.previousVersion());
+            case INVALID_TRANSITION -> throw new ConflictException("Transaction " + id + " cannot change status from "
+                    + result.previousStatus() + " to " + request.getStatus());
+            case UPDATED -> { }
         }
 
-        // 3. Save and return
-        Transaction updatedTransaction = transactionRepository.save(transaction);
+        // 3. Keep the read models and the lookup cache in step, and return
+        Transaction updatedTransaction = result.transaction();
+        accountBalanceService.recordStatusChange(updatedTransaction, result.previousStatus(),
+                updatedTransaction.getStatus());
+        if (result.previousStatus() != updatedTransaction.getStatus()) {
+            dailyRollupService.recordChanges(List.of(updatedTransaction));
+        }
+        hotWindowStore.put(updatedTransaction);
+        transactionCache.invalidate(id);
         return mapToResponseDTO(updatedTransaction);
     }
 
@@ -112,11 +384,285 @@ public class TransactionServiceImpl implements TransactionService {
      * {@inheritDoc}
      */
     @Override
+    public TransactionBulkStatusResponse updateTransactionStatuses(TransactionBulkStatusRequest request) {
+        TransactionStatus status = request.getStatus();
+        if (status != TransactionStatus.COMPLETED && status != TransactionStatus.FAILED) {
+            throw new BadRequestException("Bulk status target must be COMPLETED or FAILED");
+        }
+        boolean byIds = request.getTransactionIds() != null;
+        boolean byWindow = request.getFrom() != null || request.getTo() != null || request.getAccountId() != null;
+        if (byIds == byWindow) {
+            throw new BadRequestException("Select transactions either by 'transactionIds' or by a 'from'/'to' window");
+        }
+
+        TransactionBulkStatusResponse response = new TransactionBulkStatusResponse();
+        response.setStatus(status);
+        if (byIds) {
+            // Duplicates would be counted as skipped; drop them up front
+            List<UUID> ids = request.getTransactionIds().stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new))
+                    .stream().toList();
+            if (ids.size() > maxStatusIds) {
+                throw new BadRequestException("Bulk status request cannot contain more than " + maxStatusIds + " IDs");
+            }
+            for (int start = 0; start < ids.size(); start += statusChunkSize) {
+                applyStatusChunk(ids.subList(start, Math.min(start + statusChunkSize, ids.size())), status, response);
+            }
+            return response;
+        }
+
+        if (request.getFrom() == null || request.getTo() == null || !request.getFrom().isBefore(request.getTo())) {
+            throw new BadRequestException("Status window requires 'from' before 'to'");
+        }
+        // Keyset walk over the window: transactions left PENDING by a failed chunk are not revisited
+        PageCursor after = null;
+        List<PageCursor> keys;
+        do {
+            keys = transactionRepository.findPendingKeys(request.getAccountId(), request.getFrom(), request.getTo(),
+                    after, statusChunkSize);
+            if (keys.isEmpty()) {
+                break;
+            }
+            applyStatusChunk(keys.stream().map(PageCursor::transactionId).toList(), status, response);
+            after = keys.get(keys.size() - 1);
+        } while (keys.size() == statusChunkSize);
+        return response;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
     public void deleteTransaction(UUID id) {
-        if (!transactionRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Transaction not found with ID: " + id);
+        // One DELETE ... RETURNING: the deleted row feeds the balance and rollup updates below
+        Transaction transaction = transactionRepository.deleteReturning(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Transaction not found with ID: " + id));
+
+        // Deleting a COMPLETED transaction takes its amount out of the balance
+        accountBalanceService.recordStatusChange(transaction, transaction.getStatus(), null);
+        dailyRollupService.recordChanges(List.of(transaction));
+        hotWindowStore.remove(transaction);
+        transactionCache.invalidate(id);
+    }
+
+    /**
+     * Creates a transaction under an idempotency key the in-memory store did not know,
+     * or replays the one recorded in the database for it. Runs in one database transaction,
+     * so the key row and the transaction row are committed together.
+     * @param request The DTO with the client-provided fields.
+     * @param scopedKey The client-scoped idempotency key.
+     * @param fingerprint The request fingerprint stored with the key.
+     * @return The response DTO of the new or recorded transaction.
+     */
+    private TransactionResponse createOnce(TransactionCreateRequest request, String scopedKey, String fingerprint) {
+        // The ID is assigned up front so the key can be claimed before the transaction is written
+        UUID transactionId = UuidV7.next();
+        if (idempotencyKeyRepository.claim(scopedKey, fingerprint, transactionId) == 0) {
+            // Evicted from memory, or used on another instance: return what the first request created
+            TransactionIdempotencyKey recorded = idempotencyKeyRepository.findById(scopedKey)
+                    .orElseThrow(() -> new IllegalStateException("Idempotency key disappeared: " + scopedKey));
+            if (!recorded.getRequestHash().equals(fingerprint)) {
+                throw new UnprocessableEntityException("Idempotency-Key was already used for a different request");
+            }
+            return getTransactionById(recorded.getTransactionId());
+        }
+
+        Transaction transaction = toNewEntity(request, now());
+        transaction.setTransactionId(transactionId);
+        transaction.setVersion(0L);
+        // Plain insert: save() would first SELECT the pre-assigned ID to decide between persist and merge
+        transactionRepository.insertAll(List.of(transaction));
+        accountBalanceService.recordStatusChange(transaction, null, transaction.getStatus());
+        dailyRollupService.recordCreations(List.of(transaction));
+        hotWindowStore.put(transaction);
+        return mapToResponseDTO(transaction);
+    }
+
+    /**
+     * Validates an Idempotency-Key and prefixes it with the client, so clients cannot collide.
+     * @param clientId The authenticated client.
+     * @param idempotencyKey The key sent by the client.
+     * @return The client-scoped key.
+     */
+    private String scopeIdempotencyKey(String clientId, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key must be between 1 and "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return clientId + ":" + idempotencyKey;
+    }
+
+    /**
+     * Hashes the client-provided fields of a creation request, so a key reused for another
+     * request can be told apart from a retry. Amounts are normalized (10.5 equals 10.50).
+     * @param request The creation request.
+     * @return The SHA-256 hex digest of the request fields.
+     */
+    private String fingerprint(TransactionCreateRequest request) {
+        String amount = request.getAmount() == null ? "" : request.getAmount().stripTrailingZeros().toPlainString();
+        return Digests.sha256Hex(String.join("\n",
+                String.valueOf(request.getAccountId()),
+                String.valueOf(request.getType()),
+                amount,
+                String.valueOf(request.getCurrency()),
+                String.valueOf(request.getDescription())));
+    }
+
+    /**
+     * Moves one chunk of PENDING transactions with a single statement and commit; falls back
+     * to one commit per transaction when the chunk fails (e.g. a deadlock with another writer).
+     * @param ids The IDs of the chunk.
+     * @param status The target status.
+     * @param response The counters to add the outcome to.
+     */
+    private void applyStatusChunk(List<UUID> ids, TransactionStatus status, TransactionBulkStatusResponse response) {
+        try {
+            int updated = transitionPending(ids, status);
+            response.setUpdated(response.getUpdated() + updated);
+            response.setSkipped(response.getSkipped() + ids.size() - updated);
+        } catch (DataAccessException e) {
+            log.warn("Bulk status chunk of {} transactions failed, retrying one by one: {}", ids.size(), e.getMessage());
+            for (UUID id : ids) {
+                try {
+                    if (transitionPending(List.of(id), status) == 1) {
+                        response.setUpdated(response.getUpdated() + 1);
+                    } else {
+                        response.setSkipped(response.getSkipped() + 1);
+                    }
+                } catch (DataAccessException rowError) {
+                    response.setFailed(response.getFailed() + 1);
+                    log.error("Bulk status change of transaction {} to {} failed: {}", id, status, rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the still PENDING transactions among the given IDs to a status, together with their
+     * balance changes, in a database transaction of its own.
+     * @param ids The IDs to move.
+     * @param status The target status.
+     * @return The number of transactions moved.
+     */
+    private int transitionPending(List<UUID> ids, TransactionStatus status) {
+        return transactionTemplate.execute(tx -> {
+            List<Transaction> updated = transactionRepository.transitionPending(ids, status);
+            accountBalanceService.recordStatusChanges(updated, TransactionStatus.PENDING, status);
+            dailyRollupService.recordChanges(updated);
+            hotWindowStore.putAll(updated);
+            updated.forEach(transaction -> transactionCache.invalidate(transaction.getTransactionId()));
+            return updated.size();
+        });
+    }
+
+    /**
+     * Persists one chunk of new transactions as a single JDBC batch, then clears the
+     * persistence context so memory stays bounded for large batches.
+     * @param chunk The new entities to insert; emptied on return.
+     * @param chunkResults The batch results to fill with the created transactions; emptied on return.
+     */
+    private void persistChunk(List<Transaction> chunk, List<TransactionBatchItemResult> chunkResults) {
+        if (chunk.isEmpty()) {
+            return;
         }
-        transactionRepository.deleteById(id);
+        transactionRepository.saveAll(chunk);
+        for (Transaction transaction : chunk) {
+            accountBalanceService.recordStatusChange(transaction, null, transaction.getStatus());
+        }
+        dailyRollupService.recordCreations(chunk);
+        hotWindowStore.putAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            chunkResults.get(i).setTransaction(mapToResponseDTO(chunk.get(i)));
+        }
+        chunk.clear();
+        chunkResults.clear();
+    }
+
+    /**
+     * Validates a single creation request against its Bean Validation constraints.
+     * @param request The request to validate (may be null for a JSON null item).
+     * @return The field errors keyed by property path; empty when the request is valid.
+     */
+    private Map<String, String> validate(TransactionCreateRequest request) {
+        if (request == null) {
+            return Map.of("request", "Transaction cannot be null");
+        }
+        Set<ConstraintViolation<TransactionCreateRequest>> violations = validator.validate(request);
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<TransactionCreateRequest> violation : violations) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    /**
+     * Builds a new, not yet persisted Transaction entity from a creation request.
+     * All new transactions start as PENDING; the ID is generated on persist.
+     * @param request The DTO with the client-provided fields.
+     * @param timestamp The creation timestamp to assign.
+     * @return The new Transaction entity.
+     */
+    private Transaction toNewEntity(TransactionCreateRequest request, Instant timestamp) {
+        Transaction transaction = new Transaction();
+        transaction.setAccountId(request.getAccountId());
+        transaction.setType(request.getType());
+        transaction.setAmount(request.getAmount());
+        transaction.setCurrency(request.getCurrency());
+        transaction.setDescription(request.getDescription());
+        transaction.setTimestamp(timestamp);
+        transaction.setStatus(TransactionStatus.PENDING);
+        return transaction;
+    }
+
+    /**
+     * Builds a page response from rows fetched with one extra row beyond the page size.
+     * The extra row only signals that a next page exists; the cursor points at the last row kept.
+     * @param rows The fetched rows, in page order (at most {@code pageSize + 1}).
+     * @param pageSize The effective page size.
+     * @return The page response DTO.
+     */
+    private TransactionPageResponse toPage(List<Transaction> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<Transaction> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        TransactionPageResponse response = new TransactionPageResponse();
+        response.setItems(page.stream()
+                .map(this::mapToResponseDTO) // Method reference usage
+                .collect(Collectors.toList()));
+        response.setLimit(pageSize);
+        if (hasMore) {
+            Transaction last = page.get(page.size() - 1);
+            response.setNextCursor(new PageCursor(last.getTimestamp(), last.getTransactionId()).encode());
+        }
+        return response;
+    }
+
+    /**
+     * Resolves the effective page size: the default when absent, capped at the maximum.
+     * @param limit The page size requested by the client (may be null).
+     * @return The page size to apply.
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return Math.min(defaultPageLimit, maxPageLimit);
+        }
+        if (limit < 1) {
+            throw new BadRequestException("Page limit must be greater than 0");
+        }
+        return Math.min(limit, maxPageLimit);
+    }
+
+    /**
+     * @return The current time at the precision of the timestamp column (microseconds), so a
+     * transaction reads back exactly as it was created, from the database or the hot window.
+     */
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     /**
@@ -134,6 +680,7 @@ public class TransactionServiceImpl implements TransactionService {
         dto.setDescription(transaction.getDescription());
         dto.setTimestamp(transaction.getTimestamp());
         dto.setStatus(transaction.getStatus());
+        dto.setVersion(transaction.getVersion());
         return dto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,369 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.IngestionStatsResponse;
+import com.financiera.model.Transaction;
+import com.financiera.repository.TransactionRepository;
+import com.financiera.service.DailyRollupService;
+import com.financiera.utils.MpscRingBuffer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind buffer for transaction creation.
+ * <p>Request threads {@link #offer(Transaction)} fully built transactions (ID and timestamp
+ * assigned) into a lock-free ring buffer and return immediately. A single flusher thread drains
+ * the buffer in batches and writes each batch with one JDBC batch insert and one commit.</p>
+ * <p>Failure handling: connection-level errors retry the same batch with exponential backoff
+ * (the buffer then fills up and clients get 429); any other error falls back to inserting the
+ * batch row by row, so a single bad row cannot block or sink its neighbours. Rows that still fail
+ * are logged at ERROR and counted as failed; no failure stops the flusher while the queue is
+ * accepting.</p>
+ * <p>As a {@link SmartLifecycle} in a low phase, the flusher starts before and stops after the
+ * web server, so a graceful shutdown drains every acknowledged transaction before the
+ * DataSource is closed.</p>
+ */
+@Slf4j
+@Component
+public class TransactionWriteBehindQueue implements SmartLifecycle {
+
+    private static final long MAX_RETRY_BACKOFF_MS = 5_000;
+
+    private final TransactionRepository transactionRepository;
+    private final HotWindowStore hotWindowStore;
+    private final DailyRollupService dailyRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retryAfterSeconds;
+    private final long shutdownTimeoutMs;
+    private final MpscRingBuffer<Transaction> buffer;
+
+    // Producers between the "accepting" check and the end of their offer; the flusher only
+    // exits once this is zero, so no transaction is enqueued after the final drain
+    private final AtomicInteger activeProducers = new AtomicInteger();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile int maxBatchSize;
+
+    // Size of every committed batch; null until the metrics are bound
+    private volatile DistributionSummary batchSizes;
+
+    private volatile boolean accepting;
+    private volatile Thread flusher;
+
+    /**
+     * Constructor for Dependency Injection.
+     * @param transactionRepository Repository whose batch insert fragment writes the batches.
+     * @param hotWindowStore In-memory copy of the recent transactions, fed with every written batch.
+     * @param dailyRollupService Daily rollup read model, told about rows written after their refresh.
+     * @param transactionManager Transaction manager used for one commit per batch.
+     * @param enabled Whether the write-behind mode is active.
+     * @param queueCapacity Maximum number of acknowledged but unwritten transactions.
+     * @param batchSize Maximum number of transactions written per commit.
+     * @param flushIntervalMs How long the flusher waits for a partial batch to fill up.
+     * @param retryAfterSeconds Retry-After value returned with 429 responses.
+     * @param shutdownTimeoutMs Maximum time to wait for the final drain on shutdown.
+     */
+    public TransactionWriteBehindQueue(TransactionRepository transactionRepository,
+                                      HotWindowStore hotWindowStore,
+                                      DailyRollupService dailyRollupService,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.ingestion.writeBehind.enabled:false}") boolean enabled,
+                                      @Value("${app.ingestion.writeBehind.queueCapacity:65536}") int queueCapacity,
+                                      @Value("${app.ingestion.writeBehind.batchSize:500}") int batchSize,
+                                      @Value("${app.ingestion.writeBehind.flushIntervalMs:50}") long flushIntervalMs,
+                                      @Value("${app.ingestion.writeBehind.retryAfterSeconds:1}") long retryAfterSeconds,
+                                      @Value("${app.ingestion.writeBehind.shutdownTimeoutMs:30000}") long shutdownTimeoutMs) {
+        this.transactionRepository = transactionRepository;
+        this.hotWindowStore = hotWindowStore;
+        this.dailyRollupService = dailyRollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        // No memory is reserved for the ring when the mode is off
+        this.buffer = new MpscRingBuffer<>(enabled ? queueCapacity : 1);
+    }
+
+    /**
+     * @return True if transaction creation is acknowledged before the database commit.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The Retry-After value, in seconds, for rejected submissions.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Enqueues a new transaction for writing. Never blocks.
+     * @param transaction The fully built transaction (ID, timestamp and status assigned).
+     * @return True if accepted; false if the queue is full or the application is shutting down.
+     */
+    public boolean offer(Transaction transaction) {
+        activeProducers.incrementAndGet();
+        try {
+            if (accepting && buffer.offer(transaction)) {
+                accepted.incrementAndGet();
+                return true;
+            }
+            rejected.incrementAndGet();
+            return false;
+        } finally {
+            activeProducers.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return A snapshot of the queue depth and the flush counters.
+     */
+    public IngestionStatsResponse stats() {
+        IngestionStatsResponse response = new IngestionStatsResponse();
+        response.setEnabled(enabled);
+        response.setQueueDepth(buffer.size());
+        response.setQueueCapacity(enabled ? buffer.capacity() : 0);
+        response.setAccepted(accepted.get());
+        response.setRejected(rejected.get());
+        response.setPersisted(persisted.get());
+        response.setFailed(failed.get());
+        long batchCount = batches.get();
+        response.setBatches(batchCount);
+        response.setLastBatchSize(lastBatchSize);
+        response.setMaxBatchSize(maxBatchSize);
+        response.setAverageBatchSize(batchCount == 0 ? 0 : (double) persisted.get() / batchCount);
+        return response;
+    }
+
+    /**
+     * Registers the queue metrics: buffer depth and capacity, the size of every committed batch
+     * and the transactions accepted, rejected, persisted and failed.
+     * @param registry The registry the meters are registered in.
+     */
+    public void bindMetrics(MeterRegistry registry) {
+        Gauge.builder("financiera.ingestion.queue.depth", buffer, MpscRingBuffer::size)
+                .description("Transactions accepted but not yet written")
+                .baseUnit("transactions")
+                .register(registry);
+        Gauge.builder("financiera.ingestion.queue.capacity", this, q -> q.enabled ? q.buffer.capacity() : 0)
+                .description("Maximum number of accepted but unwritten transactions")
+                .baseUnit("transactions")
+                .register(registry);
+        Map<String, AtomicLong> outcomes = Map.of(
+                "accepted", accepted, "rejected", rejected, "persisted", persisted, "failed", failed);
+        outcomes.forEach((outcome, count) ->
+                FunctionCounter.builder("financiera.ingestion.transactions", count, AtomicLong::get)
+                        .description("Write-behind transactions by outcome")
+                        .tag("outcome", outcome)
+                        .register(registry));
+        batchSizes = DistributionSummary.builder("financiera.ingestion.batch.size")
+                .description("Transactions written per committed write-behind batch")
+                .baseUnit("transactions")
+                .register(registry);
+    }
+
+    /**
+     * Starts the flusher thread when the write-behind mode is enabled.
+     */
+    @Override
+    public void start() {
+        if (!enabled || flusher != null) {
+            return;
+        }
+        accepting = true;
+        Thread thread = new Thread(this::runFlusher, "transaction-flusher");
+        thread.setDaemon(true);
+        flusher = thread;
+        thread.start();
+        log.info("Write-behind ingestion started (capacity {}, batch size {})", buffer.capacity(), batchSize);
+    }
+
+    /**
+     * Stops accepting transactions and waits for the flusher to write everything already accepted.
+     */
+    @Override
+    public void stop() {
+        Thread thread = flusher;
+        if (thread == null) {
+            return;
+        }
+        accepting = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.error("Write-behind flush did not finish within {} ms; {} transactions not written",
+                    shutdownTimeoutMs, buffer.size());
+        }
+        flusher = null;
+        log.info("Write-behind ingestion stopped: {} persisted, {} failed", persisted.get(), failed.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    /**
+     * Starts before and stops after the embedded web server, so requests stop arriving first.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Flusher loop: drain up to a batch, write it, and linger briefly when the batch was not full.
+     */
+    private void runFlusher() {
+        List<Transaction> batch = new ArrayList<>(batchSize);
+        while (true) {
+            buffer.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                try {
+                    flush(batch);
+                } catch (RuntimeException e) {
+                    // Last resort: this is the only writer, it must outlive any failure
+                    failed.addAndGet(batch.size());
+                    log.error("Write-behind dropped a batch of {} transactions", batch.size(), e);
+                }
+                batch.clear();
+            }
+            if (!accepting && activeProducers.get() == 0 && buffer.isEmpty()) {
+                return; // Shutdown requested and everything accepted has been written
+            }
+            if (accepting && buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            } else if (!accepting && buffer.isEmpty()) {
+                // A producer is mid-publish during shutdown; wait for it without burning the CPU
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Writes one batch in a single database transaction, retrying connection failures.
+     * @param batch The transactions to write.
+     */
+    private void flush(List<Transaction> batch) {
+        long backoffMs = 100;
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    transactionRepository.insertAll(batch);
+                    // Rows delayed by retries may already be behind the rollup refresh
+                    dailyRollupService.recordCreations(batch);
+                    hotWindowStore.putAll(batch);
+                });
+                recordBatch(batch.size());
+                return;
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+                if (!accepting && backoffMs > MAX_RETRY_BACKOFF_MS) {
+                    // Shutting down and the database stays unreachable: give up rather than hang
+                    dropBatch(batch, e);
+                    return;
+                }
+                log.warn("Write-behind batch of {} failed, retrying in {} ms: {}",
+                        batch.size(), backoffMs, e.getMessage());
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(backoffMs));
+                backoffMs *= 2;
+                if (accepting) {
+                    backoffMs = Math.min(backoffMs, MAX_RETRY_BACKOFF_MS);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Write-behind batch of {} rejected, writing rows individually: {}",
+                        batch.size(), e.getMessage());
+                flushIndividually(batch);
+                return;
+            } catch (RuntimeException e) {
+                // Commit failures (TransactionSystemException) and bugs: isolate the offending rows
+                log.error("Write-behind batch of {} failed, writing rows individually", batch.size(), e);
+                flushIndividually(batch);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes each transaction in its own database transaction, dropping (and logging) the ones that fail.
+     * @param batch The transactions to write.
+     */
+    private void flushIndividually(List<Transaction> batch) {
+        int written = 0;
+        for (Transaction transaction : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    transactionRepository.insertAll(List.of(transaction));
+                    dailyRollupService.recordCreations(List.of(transaction));
+                    hotWindowStore.put(transaction);
+                });
+                written++;
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.error("Write-behind dropped transaction {} for Account ID {}: {}",
+                        transaction.getTransactionId(), transaction.getAccountId(), e.getMessage());
+            }
+        }
+        if (written > 0) {
+            recordBatch(written);
+        }
+    }
+
+    private void dropBatch(List<Transaction> batch, RuntimeException cause) {
+        failed.addAndGet(batch.size());
+        for (Transaction transaction : batch) {
+            log.error("Write-behind dropped transaction {} for Account ID {} at shutdown: {}",
+                    transaction.getTransactionId(), transaction.getAccountId(), cause.getMessage());
+        }
+    }
+
+    private void recordBatch(int size) {
+        persisted.addAndGet(size);
+        batches.incrementAndGet();
+        lastBatchSize = size;
+        DistributionSummary summary = batchSizes;
+        if (summary != null) {
+            summary.record(size);
+        }
+        if (size > maxBatchSize) {
+            maxBatchSize = size; // Single writer (the flusher thread)
+        }
+    }
+}
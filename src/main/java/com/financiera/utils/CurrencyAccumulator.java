@@ -0,0 +1,101 @@
+package com.financiera.utils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Running totals per currency, held as {@link Money} units in primitive arrays.
+ * <p>Adding to a currency already present allocates nothing: no boxed values, no map
+ * entries and no intermediate {@link BigDecimal}s. Currencies are kept sorted, so a
+ * transaction rarely involves more than a handful and lookups are a short binary search;
+ * {@link #forEach} visits them in code order. Not thread-safe.</p>
+ */
+public final class CurrencyAccumulator {
+
+    private String[] currencies = new String[4];
+    private long[] totals = new long[4];
+    private int size;
+
+    /**
+     * Adds an amount to the total of its currency.
+     * @param currency The ISO 4217 currency code.
+     * @param units The amount in 1/10,000 units (negative to subtract).
+     * @throws ArithmeticException if the total leaves the long range.
+     */
+    public void add(String currency, long units) {
+        int index = indexOf(currency);
+        if (index < 0) {
+            index = insert(-index - 1, currency);
+        }
+        totals[index] = Math.addExact(totals[index], units);
+    }
+
+    /**
+     * Adds a decimal amount to the total of its currency.
+     * @param currency The ISO 4217 currency code.
+     * @param amount The amount; at most {@link Money#SCALE} decimal places.
+     * @throws ArithmeticException if the amount has more decimal places or the total leaves the long range.
+     */
+    public void add(String currency, BigDecimal amount) {
+        add(currency, Money.toUnits(amount));
+    }
+
+    /**
+     * @param currency The ISO 4217 currency code.
+     * @return The total of the currency in 1/10,000 units; 0 if nothing was added to it.
+     */
+    public long units(String currency) {
+        int index = indexOf(currency);
+        return index < 0 ? 0 : totals[index];
+    }
+
+    /**
+     * @param currency The ISO 4217 currency code.
+     * @return The total of the currency; zero if nothing was added to it.
+     */
+    public Money get(String currency) {
+        return new Money(units(currency), currency);
+    }
+
+    /**
+     * @return The number of currencies added to.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Whether nothing was added yet.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Visits the totals in currency code order, without boxing them.
+     * @param action Receives each currency and its total in 1/10,000 units.
+     */
+    public void forEach(ObjLongConsumer<String> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(currencies[i], totals[i]);
+        }
+    }
+
+    private int indexOf(String currency) {
+        return Arrays.binarySearch(currencies, 0, size, currency);
+    }
+
+    private int insert(int index, String currency) {
+        if (size == currencies.length) {
+            currencies = Arrays.copyOf(currencies, size * 2);
+            totals = Arrays.copyOf(totals, size * 2);
+        }
+        System.arraycopy(currencies, index, currencies, index + 1, size - index);
+        System.arraycopy(totals, index, totals, index + 1, size - index);
+        currencies[index] = currency;
+        totals[index] = 0;
+        size++;
+        return index;
+    }
+}
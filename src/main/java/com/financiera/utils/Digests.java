@@ -0,0 +1,31 @@
+package com.financiera.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashing helpers for cache keys and request fingerprints.
+ */
+public final class Digests {
+
+    private Digests() {
+    }
+
+    /**
+     * Computes the SHA-256 digest of a string's UTF-8 bytes.
+     * @param value The value to hash.
+     * @return The lowercase hex-encoded digest (64 characters).
+     */
+    public static String sha256Hex(String value) {
+        try {
+            // MessageDigest instances are not thread-safe; creating one is cheap
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
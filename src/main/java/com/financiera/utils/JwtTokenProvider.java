@@ -1,24 +1,54 @@
 package com.financiera.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for generating, validating, and extracting user information from JWTs.
+ * <p>Tokens are verified with a single, thread-safe parser built at startup. Successfully
+ * verified tokens are remembered (keyed by their SHA-256 digest, never the raw token) until
+ * their {@code exp}, so repeat requests from the same client skip the signature check.</p>
+ * <p>Every verification is counted in {@code financiera.jwt.validations}, tagged with its
+ * outcome (cached, verified, expired, bad_signature, malformed, unsupported, invalid).</p>
  */
+@Slf4j
 @Component
 public class JwtTokenProvider {
 
+    /** Claim holding the granted authority names (e.g. ROLE_ADMIN) of the token subject. */
+    public static final String ROLES_CLAIM = "roles";
+
+    /** Counter of token verifications, tagged by outcome. */
+    public static final String VALIDATIONS_METRIC = "financiera.jwt.validations";
+
     // Key is loaded from application.properties
     @Value("${app.jwtSecret}")
     private String jwtSecret;
@@ -27,17 +57,60 @@ public class JwtTokenProvider {
     @Value("${app.jwtExpirationMs}")
     private int jwtExpirationMs;
 
+    // Maximum number of verified tokens remembered
+    @Value("${app.jwtVerifiedCacheSize:10000}")
+    private long verifiedCacheSize;
+
     // The key used for signing and verification
     private Key key;
 
+    // Reused for every verification; JwtParser instances are immutable and thread-safe
+    private JwtParser jwtParser;
+
+    // Claims of recently verified tokens, keyed by token digest
+    private Cache<String, Claims> verifiedTokens;
+
+    // Registry for the validation outcome counters
+    private final MeterRegistry meterRegistry;
+
+    // Validation outcome counters, registered once at startup
+    private Counter cachedCount;
+    private Counter verifiedCount;
+    private Counter expiredCount;
+    private Counter badSignatureCount;
+    private Counter malformedCount;
+    private Counter unsupportedCount;
+    private Counter invalidCount;
+
     /**
-     * Initializes the signing key after the dependency injection has set the jwtSecret value.
+     * Constructor for Dependency Injection.
+     * @param meterRegistry The registry the validation outcome counters are registered in.
+     */
+    public JwtTokenProvider(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Initializes the signing key, the parser and the verified-token cache after the
+     * dependency injection has set the property values.
      * This is the clean way to handle initialization of properties loaded via @Value.
      */
     @PostConstruct
     public void init() {
         // Derives a secure key from the secret string provided in application.properties
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.cachedCount = validationCounter("cached");
+        this.verifiedCount = validationCounter("verified");
+        this.expiredCount = validationCounter("expired");
+        this.badSignatureCount = validationCounter("bad_signature");
+        this.malformedCount = validationCounter("malformed");
+        this.unsupportedCount = validationCounter("unsupported");
+        this.invalidCount = validationCounter("invalid");
     }
 
     /**
@@ -51,27 +124,112 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
         return Jwts.builder()
                 .setSubject(userDetails.getUsername()) // Subject: The principal/username
-                .setIssuedAt(now) 
-                .setExpiration(expiryDate) 
+                .claim(ROLES_CLAIM, roles) // Authorities, so requests can be authorized without a user lookup
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256) // Sign the token with the secret key and algorithm
                 .compact();
     }
 
+    /**
+     * Verifies a JWT once and returns its claims.
+     * <p>A token seen before is answered from the verified-token cache without checking the
+     * signature again; its entry never outlives the token's expiration.</p>
+     * @param token The JWT string.
+     * @return The verified claims, or empty if the token is invalid or expired.
+     */
+    public Optional<Claims> getVerifiedClaims(String token) {
+        // Keyed by digest so raw bearer tokens are not kept in memory
+        String digest = Digests.sha256Hex(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            cachedCount.increment();
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                // Tokens without exp are accepted but not cached, as nothing would bound the entry
+                verifiedTokens.put(digest, claims);
+            }
+            verifiedCount.increment();
+            return Optional.of(claims);
+        } catch (Exception e) {
+            // All JWT related exceptions (Security, Malformed, Expired, Unsupported, IllegalArgument)
+            log.warn("JWT Validation Error: {}", e.getMessage());
+            failureCounter(e).increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Registers (or looks up) the validation counter of one outcome.
+     * @param outcome The value of the {@code outcome} tag.
+     * @return The counter, registered in the injected registry.
+     */
+    private Counter validationCounter(String outcome) {
+        return Counter.builder(VALIDATIONS_METRIC)
+                .description("JWT verifications by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Picks the outcome counter of a failed verification from the exception type.
+     * @param e The exception thrown by the parser.
+     * @return The matching counter, or the {@code invalid} one for any other exception.
+     */
+    private Counter failureCounter(Exception e) {
+        if (e instanceof ExpiredJwtException) {
+            return expiredCount;
+        }
+        if (e instanceof SignatureException) {
+            return badSignatureCount;
+        }
+        if (e instanceof MalformedJwtException) {
+            return malformedCount;
+        }
+        if (e instanceof UnsupportedJwtException) {
+            return unsupportedCount;
+        }
+        return invalidCount;
+    }
+
+    /**
+     * Builds the authenticated principal straight from verified claims, without a user-store lookup.
+     * @param claims The claims returned by {@link #getVerifiedClaims(String)}.
+     * @return The principal with the authorities of the roles claim, or empty if the token
+     *         predates the roles claim.
+     */
+    public Optional<UserDetails> getUserDetailsFromClaims(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof Collection<?> roleNames)) {
+            return Optional.empty();
+        }
+        List<SimpleGrantedAuthority> authorities = roleNames.stream()
+                .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+        // The password is never needed once the token has been verified
+        return Optional.of(new User(claims.getSubject(), "", authorities));
+    }
+
     /**
      * Extracts the username (subject) from a JWT.
      * @param token The JWT string.
      * @return The username (String).
+     * @throws IllegalArgumentException if the token is invalid or expired.
      */
     public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key) 
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return getVerifiedClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid JWT"));
     }
 
     /**
@@ -80,14 +238,28 @@ public class JwtTokenProvider {
      * @return True if the token is valid, false otherwise.
      */
     public boolean validateToken(String authToken) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
-            return true;
-        } catch (Exception e) {
-            // Logs all JWT related exceptions (Security, Malformed, Expired, Unsupported, IllegalArgument)
-            // In a real app, we would use a logging framework (e.g., SLF4J) here
-            System.err.println("JWT Validation Error: " + e.getMessage());
+        return getVerifiedClaims(authToken).isPresent();
+    }
+
+    /**
+     * Expires each verified token at its own {@code exp} claim.
+     */
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
-}
\ No newline at end of file
+}
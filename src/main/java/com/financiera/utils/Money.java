@@ -0,0 +1,127 @@
+package com.financiera.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Fixed-point monetary amount in one currency, stored as a {@code long} count of
+ * 1/10,000 units (scale 4, the scale of the {@code amount} column).
+ * <p>Arithmetic is exact and allocation-free on the primitive side: sums that leave the
+ * {@code long} range (about ±922 trillion) throw {@link ArithmeticException} instead of
+ * wrapping. Amounts enter as {@link BigDecimal} from the entities and leave as
+ * {@link BigDecimal} at the API and SQL boundaries; aggregation in between should work on
+ * the units, with {@link CurrencyAccumulator} for totals per currency.</p>
+ *
+ * @param units The amount in 1/10,000 of the currency unit.
+ * @param currency The ISO 4217 currency code.
+ */
+public record Money(long units, String currency) implements Comparable<Money> {
+
+    /** Number of decimal places represented by the units. */
+    public static final int SCALE = 4;
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+    }
+
+    /**
+     * @param amount The amount; at most {@link #SCALE} decimal places.
+     * @param currency The ISO 4217 currency code.
+     * @return The amount as Money.
+     * @throws ArithmeticException if the amount has more decimal places or does not fit.
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        return new Money(toUnits(amount), currency);
+    }
+
+    /**
+     * @param currency The ISO 4217 currency code.
+     * @return Zero in the currency.
+     */
+    public static Money zero(String currency) {
+        return new Money(0, currency);
+    }
+
+    /**
+     * Converts a decimal amount to units without going through {@link java.math.BigInteger}.
+     * @param amount The amount; at most {@link #SCALE} decimal places.
+     * @return The amount in 1/10,000 units.
+     * @throws ArithmeticException if the amount has more decimal places or does not fit in a long.
+     */
+    public static long toUnits(BigDecimal amount) {
+        BigDecimal scaled = amount.scale() == SCALE ? amount : amount.setScale(SCALE, RoundingMode.UNNECESSARY);
+        // Scale 0 with the same compact unscaled value: longValueExact returns it directly
+        return scaled.scaleByPowerOfTen(SCALE).longValueExact();
+    }
+
+    /**
+     * @param units An amount in 1/10,000 units.
+     * @return The amount as a decimal with scale {@link #SCALE}.
+     */
+    public static BigDecimal toBigDecimal(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    /**
+     * @param other An amount in the same currency.
+     * @return The sum.
+     * @throws ArithmeticException on overflow.
+     * @throws IllegalArgumentException if the currencies differ.
+     */
+    public Money plus(Money other) {
+        return new Money(Math.addExact(units, sameCurrency(other).units), currency);
+    }
+
+    /**
+     * @param other An amount in the same currency.
+     * @return The difference.
+     * @throws ArithmeticException on overflow.
+     * @throws IllegalArgumentException if the currencies differ.
+     */
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(units, sameCurrency(other).units), currency);
+    }
+
+    /**
+     * @return The amount with the opposite sign.
+     * @throws ArithmeticException for {@code Long.MIN_VALUE} units.
+     */
+    public Money negate() {
+        return new Money(Math.negateExact(units), currency);
+    }
+
+    /**
+     * @return -1, 0 or 1 as the amount is negative, zero or positive.
+     */
+    public int signum() {
+        return Long.signum(units);
+    }
+
+    /**
+     * @return The amount as a decimal with scale {@link #SCALE}.
+     */
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(units);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the currencies differ.
+     */
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(units, sameCurrency(other).units);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+
+    private Money sameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+        return other;
+    }
+}
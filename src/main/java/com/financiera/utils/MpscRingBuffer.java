@@ -0,0 +1,128 @@
+package com.financiera.utils;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring buffer.
+ * <p>Each slot carries a sequence number (after D. Vyukov's bounded queue): producers claim a
+ * slot with a single CAS on the tail and publish the element by advancing the slot sequence;
+ * the one consumer reads published slots in order and hands them back to producers one lap
+ * later. Producers never block: {@link #offer(Object)} fails fast when the buffer is full,
+ * which callers turn into backpressure.</p>
+ * <p>Only one thread may call {@link #poll()} or {@link #drainTo(Collection, int)}.</p>
+ *
+ * @param <E> The element type.
+ */
+public final class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    // Written by the consumer only; volatile so producers and size() see its progress
+    private volatile long head;
+
+    /**
+     * @param requestedCapacity The minimum capacity; rounded up to the next power of two.
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + requestedCapacity);
+        }
+        this.capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Appends an element if there is room. Safe to call from any number of threads.
+     * @param element The element to append (not null).
+     * @return True if the element was enqueued, false if the buffer is full.
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                // The slot is free for this lap; claim it
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1); // Publish to the consumer
+                    return true;
+                }
+            } else if (difference < 0) {
+                // The consumer has not released this slot yet: a full lap is pending
+                return false;
+            }
+            // Another producer claimed the slot first; retry with the new tail
+        }
+    }
+
+    /**
+     * Removes the oldest published element. Consumer thread only.
+     * @return The element, or null if none is available.
+     */
+    public E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null; // Empty, or the next producer has claimed but not yet published
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.lazySet(index, position + capacity); // Hand the slot back for the next lap
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Moves up to {@code maxElements} published elements into a collection. Consumer thread only.
+     * @param target The collection to add the elements to, in FIFO order.
+     * @param maxElements The maximum number of elements to move.
+     * @return The number of elements moved.
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * @return The approximate number of enqueued elements (exact when producers are idle).
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * @return True if no element is enqueued or being published.
+     */
+    public boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    /**
+     * @return The fixed capacity (a power of two).
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
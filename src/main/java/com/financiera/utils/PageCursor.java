@@ -0,0 +1,64 @@
+package com.financiera.utils;
+
+import com.financiera.exception.BadRequestException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token for keyset (seek) pagination.
+ * <p>A cursor captures the sort key of the last row delivered to the client,
+ * i.e. the {@code (timestamp, transactionId)} pair. The next page is fetched with
+ * a range predicate on that key instead of an OFFSET, so every page costs the same
+ * index seek regardless of how deep the client has paged.</p>
+ * <p>The token is a URL-safe Base64 encoding of a small binary record. Clients must
+ * treat it as opaque; the leading format byte allows the layout to evolve.</p>
+ *
+ * @param timestamp The timestamp of the last row of the previous page.
+ * @param transactionId The ID of the last row of the previous page (tie-breaker).
+ */
+public record PageCursor(Instant timestamp, UUID transactionId) {
+
+    private static final byte FORMAT_V1 = 1;
+
+    // format byte + epoch seconds + nanos + UUID (two longs)
+    private static final int ENCODED_LENGTH = 1 + Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    /**
+     * Encodes this cursor into its opaque string representation.
+     * @return The URL-safe continuation token.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .put(FORMAT_V1)
+                .putLong(timestamp.getEpochSecond())
+                .putInt(timestamp.getNano())
+                .putLong(transactionId.getMostSignificantBits())
+                .putLong(transactionId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a continuation token previously produced by {@link #encode()}.
+     * @param token The opaque token received from the client.
+     * @return The decoded cursor.
+     * @throws BadRequestException if the token is malformed or was tampered with.
+     */
+    public static PageCursor decode(String token) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            if (buffer.remaining() != ENCODED_LENGTH || buffer.get() != FORMAT_V1) {
+                throw new BadRequestException("Invalid page cursor");
+            }
+            Instant timestamp = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            UUID transactionId = new UUID(buffer.getLong(), buffer.getLong());
+            return new PageCursor(timestamp, transactionId);
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.financiera.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding of strings as dense {@code int} codes (0, 1, 2, ... in first-seen order).
+ * <p>Lets columnar stores keep a repeated string, such as an account ID, as a 4-byte code per
+ * row and compare codes instead of strings; each distinct string is held once. Codes are never
+ * reassigned, so the dictionary grows with the number of distinct strings seen. Not
+ * thread-safe.</p>
+ */
+public final class StringDictionary {
+
+    /** Returned by {@link #find(String)} for a string that has no code. */
+    public static final int MISSING = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[16];
+
+    /**
+     * @param value The string.
+     * @return The code of the string, assigned now if it had none.
+     */
+    public int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        int next = codes.size();
+        if (next == values.length) {
+            values = Arrays.copyOf(values, next * 2);
+        }
+        values[next] = value;
+        codes.put(value, next);
+        return next;
+    }
+
+    /**
+     * @param value The string.
+     * @return The code of the string, or {@link #MISSING} if it was never encoded.
+     */
+    public int find(String value) {
+        Integer code = codes.get(value);
+        return code == null ? MISSING : code;
+    }
+
+    /**
+     * @param code A code returned by {@link #encode(String)}.
+     * @return The string of the code.
+     */
+    public String decode(int code) {
+        if (code < 0 || code >= codes.size()) {
+            throw new IllegalArgumentException("Unknown code: " + code);
+        }
+        return values[code];
+    }
+
+    /**
+     * @return The number of distinct strings encoded.
+     */
+    public int size() {
+        return codes.size();
+    }
+}
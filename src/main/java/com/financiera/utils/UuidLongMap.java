@@ -0,0 +1,179 @@
+package com.financiera.utils;
+
+import java.util.UUID;
+
+/**
+ * Open-addressing hash map from UUIDs, held as their two {@code long} halves, to non-negative
+ * {@code long} values.
+ * <p>Keys and values live in parallel primitive arrays (linear probing, load factor at most
+ * 1/2), so an entry costs 25 bytes of array space and no object, instead of the ~100 bytes of
+ * a {@code HashMap<UUID, Long>} entry with its boxed key and value. Removal shifts the
+ * following entries back (no tombstones), so the table never degrades under churn. Not
+ * thread-safe.</p>
+ */
+public final class UuidLongMap {
+
+    /** Returned by {@link #get(long, long)} for an absent key. */
+    public static final long MISSING = -1;
+
+    private long[] mostBits;
+    private long[] leastBits;
+    private long[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    /**
+     * @param expectedSize The number of entries to size the table for.
+     */
+    public UuidLongMap(int expectedSize) {
+        allocate(Math.max(16, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1));
+    }
+
+    /**
+     * @param key The UUID.
+     * @return The value mapped to the key, or {@link #MISSING}.
+     */
+    public long get(UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * @param most The most significant bits of the UUID.
+     * @param least The least significant bits of the UUID.
+     * @return The value mapped to the key, or {@link #MISSING}.
+     */
+    public long get(long most, long least) {
+        for (int slot = slot(most, least); used[slot]; slot = (slot + 1) & mask) {
+            if (mostBits[slot] == most && leastBits[slot] == least) {
+                return values[slot];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Maps a key to a value, replacing any previous value.
+     * @param most The most significant bits of the UUID.
+     * @param least The least significant bits of the UUID.
+     * @param value The value; must not be negative.
+     */
+    public void put(long most, long least, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Values must not be negative: " + value);
+        }
+        int slot = slot(most, least);
+        while (used[slot]) {
+            if (mostBits[slot] == most && leastBits[slot] == least) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        mostBits[slot] = most;
+        leastBits[slot] = least;
+        values[slot] = value;
+        if (++size * 2 > used.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Removes a key.
+     * @param most The most significant bits of the UUID.
+     * @param least The least significant bits of the UUID.
+     * @return Whether the key was present.
+     */
+    public boolean remove(long most, long least) {
+        int slot = slot(most, least);
+        while (used[slot]) {
+            if (mostBits[slot] == most && leastBits[slot] == least) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The bytes held by the table arrays.
+     */
+    public long footprintBytes() {
+        return (long) used.length * (3 * Long.BYTES + 1);
+    }
+
+    /**
+     * Fills the gap left at {@code free} with the next entries of its probe run that may move
+     * there (their home slot is not cyclically between the gap and their position).
+     */
+    private void shiftBack(int free) {
+        int slot = free;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (!used[slot]) {
+                used[free] = false;
+                return;
+            }
+            int home = slot(mostBits[slot], leastBits[slot]);
+            boolean movable = free <= slot ? (home <= free || home > slot) : (home <= free && home > slot);
+            if (movable) {
+                mostBits[free] = mostBits[slot];
+                leastBits[free] = leastBits[slot];
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+    }
+
+    private void resize() {
+        long[] oldMost = mostBits;
+        long[] oldLeast = leastBits;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(oldUsed.length * 2);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                int slot = slot(oldMost[i], oldLeast[i]);
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                used[slot] = true;
+                mostBits[slot] = oldMost[i];
+                leastBits[slot] = oldLeast[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostBits = new long[capacity];
+        leastBits = new long[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long most, long least) {
+        // Time-ordered IDs share their high bits: mix both halves (murmur3 finalizer)
+        long hash = most * 0x9E3779B97F4A7C15L ^ least;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    @Override
+    public String toString() {
+        return "UuidLongMap[size=" + size + ", capacity=" + used.length + "]";
+    }
+}
@@ -0,0 +1,16 @@
+-- Baseline: the transactions table as originally created for the service.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate),
+-- so this script only runs against an empty schema.
+CREATE TABLE IF NOT EXISTS skd_financiera.transactions (
+    transaction_id uuid           NOT NULL,
+    account_id     varchar(50)    NOT NULL,
+    type           varchar(255)   NOT NULL,
+    amount         numeric(19, 4) NOT NULL,
+    currency       varchar(3)     NOT NULL,
+    description    varchar(255),
+    "timestamp"    timestamp(6) with time zone NOT NULL,
+    status         varchar(255)   NOT NULL,
+    CONSTRAINT transactions_pkey PRIMARY KEY (transaction_id),
+    CONSTRAINT transactions_type_check CHECK (type IN ('DEBIT', 'CREDIT')),
+    CONSTRAINT transactions_status_check CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED'))
+);
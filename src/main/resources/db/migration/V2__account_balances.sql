@@ -0,0 +1,20 @@
+-- Read model: settled balance per account and currency.
+-- Maintained by the service in the same database transaction as the transaction writes:
+-- CREDIT adds, DEBIT subtracts, and only COMPLETED transactions are counted.
+CREATE TABLE skd_financiera.account_balances (
+    account_id varchar(50)    NOT NULL,
+    currency   varchar(3)     NOT NULL,
+    balance    numeric(38, 4) NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL,
+    CONSTRAINT account_balances_pkey PRIMARY KEY (account_id, currency)
+);
+
+-- Backfill from the transactions already COMPLETED before the projection existed
+INSERT INTO skd_financiera.account_balances (account_id, currency, balance, updated_at)
+SELECT account_id,
+       currency,
+       SUM(CASE WHEN type = 'CREDIT' THEN amount ELSE -amount END),
+       now()
+FROM skd_financiera.transactions
+WHERE status = 'COMPLETED'
+GROUP BY account_id, currency;
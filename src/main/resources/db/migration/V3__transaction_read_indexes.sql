@@ -0,0 +1,14 @@
+-- Read-path indexes for the transactions table.
+-- Built inside the migration transaction: Flyway holds a second connection open while
+-- migrating, which CREATE INDEX CONCURRENTLY would wait on indefinitely. On large
+-- existing tables, pre-create these indexes CONCURRENTLY by hand; IF NOT EXISTS makes
+-- this script a no-op afterwards.
+
+-- Account statements: equality on account_id, range and DESC order on timestamp,
+-- transaction_id as the keyset tie-breaker. Serves findStatement* without a sort.
+CREATE INDEX IF NOT EXISTS idx_transactions_account_timestamp
+    ON skd_financiera.transactions (account_id, "timestamp" DESC, transaction_id DESC);
+
+-- Global keyset pagination and date-range exports ordered by (timestamp, transaction_id).
+CREATE INDEX IF NOT EXISTS idx_transactions_timestamp_id
+    ON skd_financiera.transactions ("timestamp", transaction_id);
@@ -0,0 +1,17 @@
+-- Idempotency keys of POST /api/v1/transactions, scoped per client.
+-- The durable fallback behind the in-memory store: the key row is inserted in the same
+-- database transaction as the transaction it created, so a retry that arrives after the
+-- key has been evicted from memory (or on another instance) finds it here.
+-- Deliberately a separate table without a foreign key: a unique constraint on the
+-- transactions table itself would have to include its future partition key.
+CREATE TABLE skd_financiera.transaction_idempotency_keys (
+    idempotency_key varchar(320) NOT NULL,
+    request_hash    varchar(64)  NOT NULL,
+    transaction_id  uuid         NOT NULL,
+    created_at      timestamp(6) with time zone NOT NULL,
+    CONSTRAINT transaction_idempotency_keys_pkey PRIMARY KEY (idempotency_key)
+);
+
+-- Lets old keys be purged by age without a full scan
+CREATE INDEX idx_transaction_idempotency_keys_created_at
+    ON skd_financiera.transaction_idempotency_keys (created_at);
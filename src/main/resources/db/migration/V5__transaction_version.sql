@@ -0,0 +1,5 @@
+-- Optimistic-locking version of each transaction, incremented on every update.
+-- Also identifies a transaction's state for HTTP caching (ETag).
+-- A constant default is stored in the catalog (PostgreSQL 11+): no table rewrite.
+ALTER TABLE skd_financiera.transactions
+    ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- Settlement engine: workers claim the oldest PENDING transactions with
+-- SELECT ... ORDER BY "timestamp", transaction_id FOR UPDATE SKIP LOCKED.
+-- A partial index keeps that scan proportional to the PENDING backlog, not to the
+-- settled history. Built inside the migration transaction (see V3); pre-create it
+-- CONCURRENTLY by hand on large existing tables.
+CREATE INDEX IF NOT EXISTS idx_transactions_pending_timestamp_id
+    ON skd_financiera.transactions ("timestamp", transaction_id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,85 @@
+-- Monthly range partitioning of the transactions table on "timestamp".
+-- Each partition is a table of its own (transactions_pYYYYMM, UTC month boundaries), so
+-- vacuum and index maintenance work per month, time-range queries only touch the months in
+-- range, and expired months are detached or dropped instead of deleted row by row.
+-- Future partitions and retention are handled at runtime by TransactionPartitionManager.
+--
+-- PostgreSQL cannot partition an existing table in place: the rows are copied into the new
+-- table inside this migration. On large tables, run it in a maintenance window.
+--
+-- Constraints of a partitioned table must include the partition key, so the primary key
+-- becomes (transaction_id, "timestamp"). The database no longer checks that transaction_id
+-- alone is unique: two rows with the same ID and different timestamps would both be accepted.
+-- Uniqueness rests on the application: every transaction ID is generated by UuidV7 in the
+-- service (TransactionServiceImpl, or UuidV7Generator for entities saved through JPA), and no
+-- path inserts an ID supplied by a client (TransactionCreateRequest has no ID field). findById,
+-- the idempotency keys and the write-behind ON CONFLICT (transaction_id, "timestamp") all rely
+-- on this. Lookups by ID alone probe the ID index of every partition.
+
+ALTER TABLE skd_financiera.transactions RENAME TO transactions_unpartitioned;
+ALTER TABLE skd_financiera.transactions_unpartitioned
+    RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+DROP INDEX IF EXISTS skd_financiera.idx_transactions_account_timestamp;
+DROP INDEX IF EXISTS skd_financiera.idx_transactions_timestamp_id;
+DROP INDEX IF EXISTS skd_financiera.idx_transactions_pending_timestamp_id;
+
+CREATE TABLE skd_financiera.transactions (
+    transaction_id uuid           NOT NULL,
+    account_id     varchar(50)    NOT NULL,
+    type           varchar(255)   NOT NULL,
+    amount         numeric(19, 4) NOT NULL,
+    currency       varchar(3)     NOT NULL,
+    description    varchar(255),
+    "timestamp"    timestamp(6) with time zone NOT NULL,
+    status         varchar(255)   NOT NULL,
+    version        bigint         NOT NULL DEFAULT 0,
+    CONSTRAINT transactions_pkey PRIMARY KEY (transaction_id, "timestamp"),
+    CONSTRAINT transactions_type_check CHECK (type IN ('DEBIT', 'CREDIT')),
+    CONSTRAINT transactions_status_check CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED'))
+) PARTITION BY RANGE ("timestamp");
+
+-- Catches rows outside every monthly partition (e.g. far back-dated imports) instead of
+-- rejecting them; expected to stay empty.
+CREATE TABLE skd_financiera.transactions_default
+    PARTITION OF skd_financiera.transactions DEFAULT;
+
+-- One partition per month that already holds rows, plus the current and the next three months
+DO $$
+DECLARE
+    month_start timestamp;
+BEGIN
+    FOR month_start IN
+        SELECT DISTINCT date_trunc('month', "timestamp" AT TIME ZONE 'UTC')
+        FROM skd_financiera.transactions_unpartitioned
+        UNION
+        SELECT date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => m)
+        FROM generate_series(0, 3) AS m
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE skd_financiera.%I PARTITION OF skd_financiera.transactions '
+                || 'FOR VALUES FROM (%L) TO (%L)',
+            'transactions_p' || to_char(month_start, 'YYYYMM'),
+            month_start::text || '+00',
+            (month_start + interval '1 month')::text || '+00');
+    END LOOP;
+END
+$$;
+
+INSERT INTO skd_financiera.transactions
+    (transaction_id, account_id, type, amount, currency, description, "timestamp", status, version)
+SELECT transaction_id, account_id, type, amount, currency, description, "timestamp", status, version
+FROM skd_financiera.transactions_unpartitioned;
+
+DROP TABLE skd_financiera.transactions_unpartitioned;
+
+-- Indexes are declared on the parent and created on every partition, present and future.
+-- Built after the copy, which is much faster than maintaining them row by row.
+CREATE INDEX idx_transactions_account_timestamp
+    ON skd_financiera.transactions (account_id, "timestamp" DESC, transaction_id DESC);
+CREATE INDEX idx_transactions_timestamp_id
+    ON skd_financiera.transactions ("timestamp", transaction_id);
+CREATE INDEX idx_transactions_pending_timestamp_id
+    ON skd_financiera.transactions ("timestamp", transaction_id)
+    WHERE status = 'PENDING';
+
+ANALYZE skd_financiera.transactions;
@@ -0,0 +1,60 @@
+-- Read model: daily aggregates per account and currency (UTC days), for dashboards and
+-- GET /api/v1/accounts/{accountId}/daily-summary. Reading N days reads at most N rows per
+-- currency through the primary key, whatever the number of transactions behind them.
+--
+-- Maintained by DailyRollupServiceImpl:
+--   * New transactions are added incrementally: each refresh aggregates only the rows with a
+--     "timestamp" between the high-water mark and (now - lateness), adds them to the rollups
+--     and advances the mark, in one database transaction.
+--   * Status changes and deletions of existing transactions mark their (account, currency, day)
+--     as stale in the same database transaction as the change; the refresh recomputes those
+--     groups from the rows below the high-water mark.
+-- Totals and counts include every status; completed_count etc. split the count by status.
+-- Rollups are kept when old transaction partitions are detached or dropped.
+CREATE TABLE skd_financiera.account_daily_rollups (
+    account_id        varchar(50)    NOT NULL,
+    day               date           NOT NULL,
+    currency          varchar(3)     NOT NULL,
+    transaction_count bigint         NOT NULL,
+    credit_total      numeric(38, 4) NOT NULL,
+    debit_total       numeric(38, 4) NOT NULL,
+    pending_count     bigint         NOT NULL,
+    completed_count   bigint         NOT NULL,
+    failed_count      bigint         NOT NULL,
+    CONSTRAINT account_daily_rollups_pkey PRIMARY KEY (account_id, day, currency)
+);
+
+-- Groups whose rollup must be recomputed; written by status changes, drained by the refresh
+CREATE TABLE skd_financiera.account_daily_rollup_stale (
+    account_id varchar(50) NOT NULL,
+    day        date        NOT NULL,
+    currency   varchar(3)  NOT NULL,
+    CONSTRAINT account_daily_rollup_stale_pkey PRIMARY KEY (account_id, day, currency)
+);
+
+-- Transactions with a "timestamp" below high_water are included in the rollups
+CREATE TABLE skd_financiera.rollup_watermarks (
+    name       varchar(64) NOT NULL,
+    high_water timestamp(6) with time zone NOT NULL,
+    CONSTRAINT rollup_watermarks_pkey PRIMARY KEY (name)
+);
+
+-- Backfill from the existing transactions and start the incremental refresh from here
+INSERT INTO skd_financiera.rollup_watermarks (name, high_water)
+VALUES ('account_daily', now());
+
+INSERT INTO skd_financiera.account_daily_rollups
+    (account_id, day, currency, transaction_count, credit_total, debit_total,
+     pending_count, completed_count, failed_count)
+SELECT account_id,
+       ("timestamp" AT TIME ZONE 'UTC')::date,
+       currency,
+       count(*),
+       coalesce(sum(amount) FILTER (WHERE type = 'CREDIT'), 0),
+       coalesce(sum(amount) FILTER (WHERE type = 'DEBIT'), 0),
+       count(*) FILTER (WHERE status = 'PENDING'),
+       count(*) FILTER (WHERE status = 'COMPLETED'),
+       count(*) FILTER (WHERE status = 'FAILED')
+FROM skd_financiera.transactions
+WHERE "timestamp" < now()
+GROUP BY 1, 2, 3;
@@ -0,0 +1,63 @@
+package com.financiera.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Runs JMH benchmark classes from the benchmark-tagged JUnit tests.
+ * <p>Every run uses one fork and the GC profiler, so each result comes with its allocation per
+ * operation ({@code gc.alloc.rate.norm}), and writes the results as JSON to
+ * {@code target/jmh/<benchmark class>.json}, for comparison between releases (e.g. with
+ * jmh.morethan.io). Iterations and the result directory can be tuned with
+ * {@code -Dbenchmark.iterations}, {@code -Dbenchmark.seconds} and {@code -Dbenchmark.resultDir}.</p>
+ */
+final class JmhBenchmarks {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 5);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 2);
+    private static final String RESULT_DIR = System.getProperty("benchmark.resultDir", "target/jmh");
+
+    private JmhBenchmarks() {
+    }
+
+    /**
+     * Runs all benchmark methods of a class.
+     * @param benchmark The JMH benchmark class.
+     * @return The results, one per benchmark method and parameter combination.
+     */
+    static Collection<RunResult> run(Class<?> benchmark) throws RunnerException, IOException {
+        Path result = resultFile(benchmark);
+        Files.createDirectories(result.getParent());
+        Options options = new OptionsBuilder()
+                .include(benchmark.getName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(ITERATIONS)
+                .warmupTime(TimeValue.seconds(SECONDS))
+                .measurementIterations(ITERATIONS)
+                .measurementTime(TimeValue.seconds(SECONDS))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        return new Runner(options).run();
+    }
+
+    /**
+     * @param benchmark The JMH benchmark class.
+     * @return The JSON file the results of the class are written to.
+     */
+    static Path resultFile(Class<?> benchmark) {
+        return Path.of(RESULT_DIR, benchmark.getSimpleName() + ".json");
+    }
+}
@@ -0,0 +1,270 @@
+package com.financiera.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financiera.test.EmbeddedPostgresSupport;
+import com.financiera.test.TestApplication;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test of the whole application under a mixed workload.
+ * <p>Boots the full application on a random port against an embedded PostgreSQL with the
+ * {@code skd_financiera} schema, logs in through the real authentication endpoint and drives
+ * create/get/list/update/delete traffic through the JWT filter chain from closed-loop clients
+ * in the same JVM. Prints throughput and latency percentiles per endpoint. Excluded from the
+ * regular build; run with {@code mvn -Pbenchmark test -Dtest=MixedWorkloadLoadTest}. Client
+ * count and requests per client can be tuned with {@code -Dbenchmark.clients} and
+ * {@code -Dbenchmark.requests}.</p>
+ */
+@Tag("benchmark")
+class MixedWorkloadLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 32);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 500);
+    private static final int WARM_UP_REQUESTS_PER_CLIENT = 100;
+    private static final int ACCOUNTS = 200;
+
+    /** Endpoints of the mix with their share of the traffic, in percent. */
+    private enum Operation {
+        CREATE("POST   /transactions", 20),
+        GET("GET    /transactions/{id}", 40),
+        LIST("GET    /transactions", 20),
+        UPDATE("PUT    /transactions/{id}", 10),
+        DELETE("DELETE /transactions/{id}", 10);
+
+        private final String label;
+        private final int weight;
+
+        Operation(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        static Operation pick(int percent) {
+            for (Operation operation : values()) {
+                percent -= operation.weight;
+                if (percent < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Percent out of range: " + percent);
+        }
+    }
+
+    @BeforeAll
+    static void loadData() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(EmbeddedPostgresSupport.dataSource());
+        jdbcTemplate.update("""
+                INSERT INTO skd_financiera.transactions
+                    (transaction_id, account_id, type, amount, currency, description, "timestamp", status)
+                SELECT gen_random_uuid(), 'ACC' || lpad((i % ?)::text, 10, '0'), 'CREDIT', 10.00, 'USD',
+                       'load test', now() - i * interval '1 minute', 'COMPLETED'
+                FROM generate_series(1, 50000) AS i
+                """, ACCOUNTS);
+        jdbcTemplate.execute("ANALYZE skd_financiera.transactions");
+    }
+
+    @Test
+    @DisplayName("Benchmark - Throughput and latency per endpoint under a mixed workload")
+    void measureMixedWorkload() throws Exception {
+        String[] args = {
+                "--spring.datasource.url=" + EmbeddedPostgresSupport.jdbcUrl(),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--app.jwtSecret=f8D9sQ2ZK7vR3MLwA6XcP0nHeJYB4mtUF5aBenchmarkSecretKeyForLoadTests",
+                "--server.port=0",
+                "--logging.level.com.financiera=WARN",
+                "--logging.file.name=target/benchmark.log"
+        };
+
+        Map<Operation, Samples> samples;
+        long elapsed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestApplication.class).run(args)) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+            LoadClient load = new LoadClient(client, objectMapper, "http://localhost:" + port + "/api/v1");
+            load.login("admin", "password");
+
+            // Warm-up: JIT, connection pool, Hibernate query plans
+            load.drive(WARM_UP_REQUESTS_PER_CLIENT);
+
+            long start = System.nanoTime();
+            samples = load.drive(REQUESTS_PER_CLIENT);
+            elapsed = System.nanoTime() - start;
+        }
+
+        double seconds = elapsed / 1e9;
+        System.out.printf("%n%-27s %8s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors");
+        long total = 0;
+        int errors = 0;
+        for (Map.Entry<Operation, Samples> entry : samples.entrySet()) {
+            long[] sorted = entry.getValue().sortedLatencies();
+            total += sorted.length;
+            errors += entry.getValue().errors().get();
+            System.out.printf("%-27s %8d %9.0f %9.1f %9.1f %9.1f %9.1f %7d%n", entry.getKey().label,
+                    sorted.length, sorted.length / seconds, percentileMs(sorted, 0.50), percentileMs(sorted, 0.90),
+                    percentileMs(sorted, 0.99), percentileMs(sorted, 1.0), entry.getValue().errors().get());
+        }
+        System.out.printf("%-27s %8d %9.0f (%d clients, %.1f s)%n", "total", total, total / seconds, CLIENTS, seconds);
+
+        assertEquals((long) CLIENTS * REQUESTS_PER_CLIENT, total);
+        assertEquals(0, errors);
+    }
+
+    private static double percentileMs(long[] sortedLatenciesNanos, double percentile) {
+        if (sortedLatenciesNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatenciesNanos.length) - 1;
+        return sortedLatenciesNanos[Math.max(index, 0)] / 1e6;
+    }
+
+    /** Latencies and unexpected responses of one endpoint. */
+    private record Samples(ConcurrentLinkedQueue<Long> latencies, AtomicInteger errors) {
+
+        long[] sortedLatencies() {
+            return latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+    }
+
+    /**
+     * Closed-loop load generator: every client sends its next request as soon as the previous
+     * one is answered. Clients only read, update and delete the transactions they created.
+     */
+    private static final class LoadClient {
+
+        private final HttpClient client;
+        private final ObjectMapper objectMapper;
+        private final String baseUrl;
+        private String token;
+
+        LoadClient(HttpClient client, ObjectMapper objectMapper, String baseUrl) {
+            this.client = client;
+            this.objectMapper = objectMapper;
+            this.baseUrl = baseUrl;
+        }
+
+        void login(String username, String password) throws Exception {
+            String body = objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode(), response.body());
+            token = objectMapper.readTree(response.body()).get("accessToken").asText();
+        }
+
+        Map<Operation, Samples> drive(int requestsPerClient) throws Exception {
+            Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                samples.put(operation, new Samples(new ConcurrentLinkedQueue<>(), new AtomicInteger()));
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+            try {
+                List<Future<?>> clients = new ArrayList<>(CLIENTS);
+                for (int i = 0; i < CLIENTS; i++) {
+                    clients.add(executor.submit(() -> {
+                        runClient(requestsPerClient, samples);
+                        return null;
+                    }));
+                }
+                for (Future<?> running : clients) {
+                    running.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            return samples;
+        }
+
+        private void runClient(int requests, Map<Operation, Samples> samples) throws Exception {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Deque<UUID> owned = new ArrayDeque<>();
+            List<UUID> readable = new ArrayList<>();
+            for (int r = 0; r < requests; r++) {
+                Operation operation = Operation.pick(random.nextInt(100));
+                if (operation != Operation.CREATE && operation != Operation.LIST && owned.isEmpty()) {
+                    operation = Operation.CREATE;
+                }
+                UUID target = switch (operation) {
+                    case GET, UPDATE -> readable.get(random.nextInt(readable.size()));
+                    case DELETE -> owned.pollFirst();
+                    default -> null;
+                };
+                if (operation == Operation.DELETE) {
+                    readable.remove(target);
+                }
+
+                HttpRequest request = request(operation, target, random);
+                long sent = System.nanoTime();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                Samples endpoint = samples.get(operation);
+                endpoint.latencies().add(System.nanoTime() - sent);
+                if (response.statusCode() != expectedStatus(operation)) {
+                    endpoint.errors().incrementAndGet();
+                } else if (operation == Operation.CREATE) {
+                    UUID id = UUID.fromString(objectMapper.readTree(response.body()).get("transactionId").asText());
+                    owned.addLast(id);
+                    readable.add(id);
+                }
+            }
+        }
+
+        private HttpRequest request(Operation operation, UUID target, ThreadLocalRandom random) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder()
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofMinutes(2));
+            return switch (operation) {
+                case CREATE -> builder.uri(URI.create(baseUrl + "/transactions"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("""
+                                {"accountId":"ACC%010d","type":"CREDIT","amount":%d.25,"currency":"USD","description":"load test"}"""
+                                .formatted(random.nextInt(ACCOUNTS), 1 + random.nextInt(1_000))))
+                        .build();
+                case GET -> builder.uri(URI.create(baseUrl + "/transactions/" + target)).GET().build();
+                case LIST -> builder.uri(URI.create(baseUrl + "/transactions?limit=20")).GET().build();
+                case UPDATE -> builder.uri(URI.create(baseUrl + "/transactions/" + target))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString("{\"description\":\"load test update\"}"))
+                        .build();
+                case DELETE -> builder.uri(URI.create(baseUrl + "/transactions/" + target)).DELETE().build();
+            };
+        }
+
+        private static int expectedStatus(Operation operation) {
+            return switch (operation) {
+                case CREATE -> 201;
+                case GET, LIST, UPDATE -> 200;
+                case DELETE -> 204;
+            };
+        }
+    }
+}
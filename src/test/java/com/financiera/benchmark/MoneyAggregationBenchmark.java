@@ -0,0 +1,117 @@
+package com.financiera.benchmark;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionType;
+import com.financiera.utils.CurrencyAccumulator;
+import com.financiera.utils.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of summing transaction amounts per currency, and per account and currency as
+ * the balance projection does, with {@link BigDecimal} and with {@link Money} units in a
+ * {@link CurrencyAccumulator}. One operation aggregates a whole batch of transactions.
+ * Run through {@link MoneyAggregationBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyAggregationBenchmark {
+
+    private static final String[] CURRENCIES = {"EUR", "GBP", "USD"};
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private List<Transaction> batch;
+    private long[] units;
+    private String[] currencies;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        batch = new ArrayList<>(batchSize);
+        units = new long[batchSize];
+        currencies = new String[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setAccountId("ACC" + random.nextInt(50));
+            transaction.setCurrency(CURRENCIES[random.nextInt(CURRENCIES.length)]);
+            transaction.setType(random.nextBoolean() ? TransactionType.CREDIT : TransactionType.DEBIT);
+            // Scale 4, as read from the amount column
+            transaction.setAmount(BigDecimal.valueOf(random.nextLong(1, 100_000_000), Money.SCALE));
+            batch.add(transaction);
+            units[i] = Money.toUnits(transaction.getAmount());
+            currencies[i] = transaction.getCurrency();
+        }
+    }
+
+    @Benchmark
+    public Map<String, BigDecimal> perCurrencyBigDecimal() {
+        Map<String, BigDecimal> totals = new HashMap<>();
+        for (Transaction transaction : batch) {
+            totals.merge(transaction.getCurrency(), transaction.getAmount(), BigDecimal::add);
+        }
+        return totals;
+    }
+
+    @Benchmark
+    public CurrencyAccumulator perCurrencyMoney() {
+        CurrencyAccumulator totals = new CurrencyAccumulator();
+        for (Transaction transaction : batch) {
+            totals.add(transaction.getCurrency(), transaction.getAmount());
+        }
+        return totals;
+    }
+
+    /** Amounts already held as units, e.g. in a columnar in-memory store: no conversion at all. */
+    @Benchmark
+    public CurrencyAccumulator perCurrencyMoneyUnits() {
+        CurrencyAccumulator totals = new CurrencyAccumulator();
+        for (int i = 0; i < units.length; i++) {
+            totals.add(currencies[i], units[i]);
+        }
+        return totals;
+    }
+
+    /** The previous balance projection aggregation. */
+    @Benchmark
+    public Map<String, Map<String, BigDecimal>> perAccountBigDecimal() {
+        Map<String, Map<String, BigDecimal>> deltas = new TreeMap<>();
+        for (Transaction transaction : batch) {
+            BigDecimal delta = transaction.getType() == TransactionType.CREDIT
+                    ? transaction.getAmount() : transaction.getAmount().negate();
+            deltas.computeIfAbsent(transaction.getAccountId(), account -> new TreeMap<>())
+                    .merge(transaction.getCurrency(), delta, BigDecimal::add);
+        }
+        return deltas;
+    }
+
+    /** The balance projection aggregation of AccountBalanceServiceImpl. */
+    @Benchmark
+    public Map<String, CurrencyAccumulator> perAccountMoney() {
+        Map<String, CurrencyAccumulator> deltas = new TreeMap<>();
+        for (Transaction transaction : batch) {
+            long amount = Money.toUnits(transaction.getAmount());
+            deltas.computeIfAbsent(transaction.getAccountId(), account -> new CurrencyAccumulator())
+                    .add(transaction.getCurrency(),
+                            transaction.getType() == TransactionType.CREDIT ? amount : -amount);
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,28 @@
+package com.financiera.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@link MoneyAggregationBenchmark} through {@link JmhBenchmarks}, so every result comes
+ * with its allocation per operation (bytes per aggregated batch).
+ * Excluded from the regular build; run with
+ * {@code mvn -Pbenchmark test -Dtest=MoneyAggregationBenchmarkTest}.
+ */
+@Tag("benchmark")
+class MoneyAggregationBenchmarkTest {
+
+    @Test
+    @DisplayName("Benchmark - Throughput and allocation of BigDecimal vs fixed-point aggregation")
+    void compareAggregations() throws Exception {
+        Collection<RunResult> results = JmhBenchmarks.run(MoneyAggregationBenchmark.class);
+
+        assertEquals(5, results.size());
+    }
+}
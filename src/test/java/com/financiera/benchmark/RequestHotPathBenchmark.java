@@ -0,0 +1,237 @@
+package com.financiera.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.financiera.config.jwt.JwtAuthenticationFilter;
+import com.financiera.dto.TransactionCreateRequest;
+import com.financiera.dto.TransactionPageResponse;
+import com.financiera.dto.TransactionResponse;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.model.TransactionType;
+import com.financiera.service.impl.CustomUserDetailsService;
+import com.financiera.service.impl.TransactionServiceImpl;
+import com.financiera.utils.JwtTokenProvider;
+import com.financiera.utils.PageCursor;
+import com.financiera.utils.UuidV7;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.security.Key;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the in-process work of a request, without the database: mapping entities
+ * to response DTOs, serializing a page with the application's Jackson settings, issuing and
+ * verifying JWTs (from the verified-token cache and with a full signature check), the JWT
+ * filter, and Bean Validation of a creation request.
+ * Run through {@link RequestHotPathBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestHotPathBenchmark {
+
+    private static final String SECRET = "f8D9sQ2ZK7vR3MLwA6XcP0nHeJYB4mtUF5aBenchmarkSecretKeyValue";
+
+    // Distinct tokens cycled through by validateTokenUncached, so none is ever seen twice in a row
+    private static final int UNCACHED_TOKENS = 4096;
+
+    // mapToResponseDTO is private; it uses no service state, so any instance will do
+    private static final MethodHandle MAP_TO_RESPONSE;
+
+    static {
+        try {
+            MAP_TO_RESPONSE = MethodHandles.privateLookupIn(TransactionServiceImpl.class, MethodHandles.lookup())
+                    .findVirtual(TransactionServiceImpl.class, "mapToResponseDTO",
+                            MethodType.methodType(TransactionResponse.class, Transaction.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"50"})
+    public int pageSize;
+
+    private TransactionServiceImpl transactionService;
+    private List<Transaction> transactions;
+    private TransactionPageResponse page;
+    private ObjectMapper objectMapper;
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+    private JwtTokenProvider uncachedTokenProvider;
+    private String[] uncachedTokens;
+    private int nextUncachedToken;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+    private Validator validator;
+    private TransactionCreateRequest validRequest;
+    private TransactionCreateRequest invalidRequest;
+
+    @Setup
+    public void setUp() throws Throwable {
+        transactionService = new TransactionServiceImpl(null, null, null, null, null, null, null, null, null, null, null);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        transactions = new ArrayList<>(pageSize);
+        List<TransactionResponse> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setTransactionId(UuidV7.next());
+            transaction.setAccountId("ACC0000000001");
+            transaction.setType(i % 2 == 0 ? TransactionType.CREDIT : TransactionType.DEBIT);
+            transaction.setAmount(BigDecimal.valueOf(1_000_000L + i, 4));
+            transaction.setCurrency("USD");
+            transaction.setDescription("Invoice " + i);
+            transaction.setTimestamp(now.minusSeconds(i));
+            transaction.setStatus(TransactionStatus.COMPLETED);
+            transaction.setVersion(1L);
+            transactions.add(transaction);
+            items.add((TransactionResponse) MAP_TO_RESPONSE.invoke(transactionService, transaction));
+        }
+        page = new TransactionPageResponse();
+        page.setItems(items);
+        page.setLimit(pageSize);
+        Transaction last = transactions.get(pageSize - 1);
+        page.setNextCursor(new PageCursor(last.getTimestamp(), last.getTransactionId()).encode());
+
+        // Spring Boot's defaults: ISO-8601 dates instead of timestamps
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        tokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheSize", 10_000L);
+        tokenProvider.init();
+        UserDetails admin = new CustomUserDetailsService().loadUserByUsername("admin");
+        authentication = new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities());
+        token = tokenProvider.generateToken(authentication);
+
+        // A provider that remembers no verified token, fed with tokens that differ by their ID
+        uncachedTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(uncachedTokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(uncachedTokenProvider, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.setField(uncachedTokenProvider, "verifiedCacheSize", 0L);
+        uncachedTokenProvider.init();
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Date expiry = new Date(System.currentTimeMillis() + 3_600_000);
+        uncachedTokens = new String[UNCACHED_TOKENS];
+        for (int i = 0; i < UNCACHED_TOKENS; i++) {
+            uncachedTokens[i] = Jwts.builder()
+                    .setSubject(admin.getUsername())
+                    .claim(JwtTokenProvider.ROLES_CLAIM, List.of("ROLE_ADMIN"))
+                    .setId(Integer.toString(i))
+                    .setIssuedAt(new Date())
+                    .setExpiration(expiry)
+                    .signWith(key, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+
+        filter = new JwtAuthenticationFilter(tokenProvider, new CustomUserDetailsService(), true);
+        request = new MockHttpServletRequest("GET", "/api/v1/transactions");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+        chain = (servletRequest, servletResponse) -> { };
+
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        validRequest = new TransactionCreateRequest();
+        validRequest.setAccountId("ACC0000000001");
+        validRequest.setType(TransactionType.CREDIT);
+        validRequest.setAmount(new BigDecimal("150.25"));
+        validRequest.setCurrency("USD");
+        validRequest.setDescription("Invoice 42");
+        invalidRequest = new TransactionCreateRequest();
+        invalidRequest.setAccountId("");
+        invalidRequest.setAmount(new BigDecimal("0.001"));
+        invalidRequest.setCurrency("US");
+    }
+
+    /** TransactionServiceImpl.mapToResponseDTO over a page of entities. */
+    @Benchmark
+    public List<TransactionResponse> mapPageToResponses() throws Throwable {
+        List<TransactionResponse> responses = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            responses.add((TransactionResponse) MAP_TO_RESPONSE.invoke(transactionService, transaction));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    /** Steady state: the token was verified before and is answered from the verified-token cache. */
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    /** Cache miss: every call verifies the HMAC signature and parses the claims of a new token. */
+    @Benchmark
+    public boolean validateTokenUncached() {
+        String next = uncachedTokens[nextUncachedToken];
+        nextUncachedToken = (nextUncachedToken + 1) % UNCACHED_TOKENS;
+        return uncachedTokenProvider.validateToken(next);
+    }
+
+    /** JwtAuthenticationFilter.doFilterInternal for a known token, with a no-op chain. */
+    @Benchmark
+    public Authentication authenticationFilter() throws Exception {
+        filter.doFilter(request, response, chain);
+        Authentication result = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return result;
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TransactionCreateRequest>> validateValidRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TransactionCreateRequest>> validateInvalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+}
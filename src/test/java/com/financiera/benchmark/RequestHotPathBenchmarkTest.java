@@ -0,0 +1,30 @@
+package com.financiera.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+
+import java.nio.file.Files;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@link RequestHotPathBenchmark} through {@link JmhBenchmarks}; the results are written to
+ * {@code target/jmh/RequestHotPathBenchmark.json}.
+ * Excluded from the regular build; run with
+ * {@code mvn -Pbenchmark test -Dtest=RequestHotPathBenchmarkTest}.
+ */
+@Tag("benchmark")
+class RequestHotPathBenchmarkTest {
+
+    @Test
+    @DisplayName("Benchmark - Mapping, serialization, JWT and validation costs of a request")
+    void measureRequestHotPath() throws Exception {
+        Collection<RunResult> results = JmhBenchmarks.run(RequestHotPathBenchmark.class);
+
+        assertEquals(8, results.size());
+        assertTrue(Files.size(JmhBenchmarks.resultFile(RequestHotPathBenchmark.class)) > 0);
+    }
+}
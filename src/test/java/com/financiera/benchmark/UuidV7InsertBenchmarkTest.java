@@ -0,0 +1,136 @@
+package com.financiera.benchmark;
+
+import com.financiera.utils.UuidV7;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comparative insert benchmark of random (version 4) and time-ordered (version 7) transaction IDs.
+ * <p>Loads the same number of rows into two tables shaped like {@code transactions}, keyed by
+ * {@code transaction_id}, with concurrent JDBC batch writers, on a PostgreSQL whose shared
+ * buffers are much smaller than the index. Prints insert throughput, primary key index size
+ * and the index buffer cache hit rate for both ID kinds. Version 7 keys touch only the right
+ * edge of the index, so they keep its working set small; the index is also more compact
+ * when rows arrive in ID order (a single writer), while concurrent writers interleave near
+ * the edge and split pages evenly as random keys do. Excluded from the regular build; run
+ * with {@code mvn -Pbenchmark test -Dtest=UuidV7InsertBenchmarkTest}. Table size and writer count can be
+ * tuned with {@code -Dbenchmark.rows} and {@code -Dbenchmark.writers}.</p>
+ */
+@Tag("benchmark")
+class UuidV7InsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 2_000_000);
+    private static final int WRITERS = Integer.getInteger("benchmark.writers", 4);
+    private static final int BATCH_SIZE = 1_000;
+
+    @Test
+    @DisplayName("Benchmark - Insert throughput and index size of UUIDv4 vs UUIDv7 keys")
+    void compareIdVersions() throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("shared_buffers", "32MB")
+                .start()) {
+            DataSource dataSource = postgres.getDatabase("postgres", "postgres",
+                    Map.of("reWriteBatchedInserts", "true"));
+            InsertResult v4 = load(dataSource, "bench_uuid_v4", UUID::randomUUID);
+            InsertResult v7 = load(dataSource, "bench_uuid_v7", UuidV7::next);
+
+            System.out.printf("%n%-8s %10s %10s %12s %12s %10s%n",
+                    "ids", "rows", "rows/s", "pk index MB", "table MB", "pk hit %");
+            for (InsertResult result : List.of(v4, v7)) {
+                System.out.printf("%-8s %10d %10.0f %12.1f %12.1f %10.2f%n", result.name(), ROWS,
+                        result.throughput(), result.indexBytes() / 1048576.0, result.tableBytes() / 1048576.0,
+                        result.indexHitRate() * 100);
+            }
+        }
+    }
+
+    private static InsertResult load(DataSource dataSource, String table, Supplier<UUID> ids) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("""
+                CREATE TABLE %s (
+                    transaction_id uuid           NOT NULL PRIMARY KEY,
+                    account_id     varchar(50)    NOT NULL,
+                    type           varchar(255)   NOT NULL,
+                    amount         numeric(19, 4) NOT NULL,
+                    currency       varchar(3)     NOT NULL,
+                    description    varchar(255),
+                    "timestamp"    timestamp(6) with time zone NOT NULL,
+                    status         varchar(255)   NOT NULL,
+                    version        bigint         NOT NULL DEFAULT 0
+                )""".formatted(table));
+        jdbcTemplate.execute("SELECT pg_stat_reset()");
+
+        String sql = "INSERT INTO " + table + " (transaction_id, account_id, type, amount, currency, "
+                + "description, \"timestamp\", status) VALUES (?, ?, 'CREDIT', 10.00, 'USD', 'benchmark', ?, 'PENDING')";
+        int rowsPerWriter = ROWS / WRITERS;
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        long start = System.nanoTime();
+        try {
+            List<CompletableFuture<Void>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                writers.add(CompletableFuture.runAsync(() -> insertRows(dataSource, sql, ids, writer, rowsPerWriter), executor));
+            }
+            writers.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        assertEquals(rowsPerWriter * WRITERS,
+                jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class));
+
+        // Statistics are flushed asynchronously by the backends
+        Thread.sleep(1_000);
+        Map<String, Object> io = jdbcTemplate.queryForMap(
+                "SELECT idx_blks_hit, idx_blks_read FROM pg_statio_user_tables WHERE relname = ?", table);
+        long hits = ((Number) io.get("idx_blks_hit")).longValue();
+        long reads = ((Number) io.get("idx_blks_read")).longValue();
+        return new InsertResult(table.substring(table.lastIndexOf('_') + 1), rowsPerWriter * WRITERS / seconds,
+                jdbcTemplate.queryForObject("SELECT pg_relation_size(?::regclass)", Long.class, table + "_pkey"),
+                jdbcTemplate.queryForObject("SELECT pg_relation_size(?::regclass)", Long.class, table),
+                hits + reads == 0 ? 1.0 : (double) hits / (hits + reads));
+    }
+
+    private static void insertRows(DataSource dataSource, String sql, Supplier<UUID> ids, int writer, int rows) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            String account = "ACC" + writer;
+            for (int i = 1; i <= rows; i++) {
+                statement.setObject(1, ids.get());
+                statement.setString(2, account);
+                statement.setTimestamp(3, Timestamp.from(Instant.now()));
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record InsertResult(String name, double throughput, long indexBytes, long tableBytes, double indexHitRate) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.financiera.benchmark;
+
+import com.financiera.test.EmbeddedPostgresSupport;
+import com.financiera.test.TestApplication;
+import com.financiera.utils.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comparative load test of the request thread models: Tomcat's platform thread pool versus
+ * virtual threads ({@code spring.threads.virtual.enabled}).
+ * <p>Boots the full application twice against an embedded PostgreSQL and drives the JDBC-bound
+ * account statement endpoint with more concurrent clients than Tomcat has platform threads,
+ * then prints throughput and latency percentiles for both modes. Excluded from the regular
+ * build; run with {@code mvn -Pjava21,benchmark test} on a Java 21 JDK. Client count and
+ * requests per client can be tuned with {@code -Dbenchmark.clients} and {@code -Dbenchmark.requests}.</p>
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1_000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 20);
+    private static final int ACCOUNTS = 200;
+
+    @BeforeAll
+    static void loadData() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(EmbeddedPostgresSupport.dataSource());
+        jdbcTemplate.update("""
+                INSERT INTO skd_financiera.transactions
+                    (transaction_id, account_id, type, amount, currency, description, "timestamp", status)
+                SELECT gen_random_uuid(), 'ACC' || lpad((i % ?)::text, 10, '0'), 'CREDIT', 10.00, 'USD',
+                       'load test', now() - i * interval '1 minute', 'COMPLETED'
+                FROM generate_series(1, 100000) AS i
+                """, ACCOUNTS);
+        jdbcTemplate.execute("ANALYZE skd_financiera.transactions");
+    }
+
+    @Test
+    @DisplayName("Benchmark - Platform vs virtual request threads at high concurrency")
+    void compareThreadModels() throws Exception {
+        LoadResult platform = runLoad(false);
+        LoadResult virtual = runLoad(true);
+
+        System.out.printf("%n%-10s %8s %10s %9s %9s %9s %7s%n",
+                "threads", "clients", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (LoadResult result : List.of(platform, virtual)) {
+            System.out.printf("%-10s %8d %10.0f %9.1f %9.1f %9.1f %7d%n", result.mode(), CLIENTS,
+                    result.throughput(), result.percentileMs(0.50), result.percentileMs(0.99),
+                    result.percentileMs(1.0), result.errors());
+        }
+
+        assertEquals(0, platform.errors());
+        assertEquals(0, virtual.errors());
+    }
+
+    private LoadResult runLoad(boolean virtualThreads) throws Exception {
+        Map<String, Object> properties = Map.of(
+                "spring.datasource.url", EmbeddedPostgresSupport.jdbcUrl(),
+                "spring.datasource.username", "postgres",
+                "spring.datasource.password", "",
+                "spring.datasource.hikari.maximum-pool-size", 50,
+                "spring.threads.virtual.enabled", virtualThreads,
+                "app.jwtSecret", "f8D9sQ2ZK7vR3MLwA6XcP0nHeJYB4mtUF5aBenchmarkSecretKeyForLoadTests",
+                "server.port", 0,
+                "logging.level.com.financiera", "WARN",
+                "logging.file.name", "target/benchmark.log");
+
+        // Command-line arguments take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TestApplication.class).run(args)) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            User admin = new User("admin", "", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+            String token = context.getBean(JwtTokenProvider.class).generateToken(
+                    new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()));
+
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+            String baseUrl = "http://localhost:" + port + "/api/v1/accounts/";
+
+            // Warm-up: JIT, connection pool, Hibernate query plans
+            drive(client, baseUrl, token, Math.min(CLIENTS, 50), 20, new ConcurrentLinkedQueue<>(), new AtomicInteger());
+
+            ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+            AtomicInteger errors = new AtomicInteger();
+            long start = System.nanoTime();
+            drive(client, baseUrl, token, CLIENTS, REQUESTS_PER_CLIENT, latencies, errors);
+            long elapsed = System.nanoTime() - start;
+
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new LoadResult(virtualThreads ? "virtual" : "platform",
+                    sorted.length / (elapsed / 1e9), sorted, errors.get());
+        }
+    }
+
+    /**
+     * Runs {@code clients} concurrent clients, each sending {@code requests} statement requests
+     * back to back, and records the latency of every request.
+     */
+    private static void drive(HttpClient client, String baseUrl, String token, int clients, int requests,
+                              ConcurrentLinkedQueue<Long> latencies, AtomicInteger errors) {
+        Instant to = Instant.now().plusSeconds(60);
+        Instant from = to.minus(Duration.ofDays(30));
+        List<CompletableFuture<Void>> running = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int r = 0; r < requests; r++) {
+                chain = chain.thenCompose(ignored -> {
+                    String account = "ACC" + String.format("%010d", ThreadLocalRandom.current().nextInt(ACCOUNTS));
+                    HttpRequest request = HttpRequest.newBuilder(
+                                    URI.create(baseUrl + account + "/statement?from=" + from + "&to=" + to + "&limit=20"))
+                            .header("Authorization", "Bearer " + token)
+                            .timeout(Duration.ofMinutes(2))
+                            .build();
+                    long sent = System.nanoTime();
+                    return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                            .handle((response, failure) -> {
+                                latencies.add(System.nanoTime() - sent);
+                                if (failure != null || response.statusCode() != 200) {
+                                    errors.incrementAndGet();
+                                }
+                                return null;
+                            });
+                });
+            }
+            running.add(chain);
+        }
+        CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private record LoadResult(String mode, double throughput, long[] sortedLatenciesNanos, int errors) {
+
+        double percentileMs(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatenciesNanos.length) - 1;
+            return sortedLatenciesNanos[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.financiera.config.jwt;
+
+import com.financiera.utils.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JwtAuthenticationFilter.
+ * Validates where the authorities of an authenticated request come from.
+ */
+class JwtAuthenticationFilterTest {
+
+    private final User admin = new User("admin", "", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+    private JwtTokenProvider tokenProvider;
+    private UserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "f8D9sQ2ZK7vR3MLwA6XcP0nHeJYB4mtUF5aTestSecretKeyForUnitTests");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 60_000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheSize", 100L);
+        tokenProvider.init();
+        userDetailsService = mock(UserDetailsService.class);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Test Filter - Claims mode authenticates without a user lookup")
+    void claimsMode_SkipsUserLookup() throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, true);
+
+        filter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("admin", authentication.getName());
+        assertEquals(admin.getAuthorities(), Set.copyOf(authentication.getAuthorities()));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Test Filter - Lookup mode loads the user on every request")
+    void lookupMode_LoadsUser() throws Exception {
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(admin);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, false);
+
+        filter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals("admin", SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(userDetailsService).loadUserByUsername("admin");
+    }
+
+    private MockHttpServletRequest requestWithToken() {
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/transactions");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
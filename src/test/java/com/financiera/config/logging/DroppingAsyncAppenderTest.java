@@ -0,0 +1,99 @@
+package com.financiera.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import com.financiera.config.logging.DroppedLogEvents.Reason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DroppingAsyncAppender.
+ * Validates that a stalled writer makes INFO events drop (and be counted) while warnings are
+ * still queued, and that queued events are written once the writer resumes.
+ */
+class DroppingAsyncAppenderTest {
+
+    @Test
+    @DisplayName("Test Async Appender - INFO is dropped and counted over the threshold, WARN is kept")
+    void stalledWriter_DropsInfoKeepsWarn() throws InterruptedException {
+        // Arrange: a writer that stalls on its first event
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        StallingAppender writer = new StallingAppender();
+        writer.setContext(context);
+        writer.start();
+        DroppingAsyncAppender async = new DroppingAsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(4);
+        async.setDropThreshold(2);
+        async.addAppender(writer);
+        async.start();
+        long droppedBefore = DroppedLogEvents.count(Reason.QUEUE_FULL, Level.INFO);
+
+        async.doAppend(event(context, Level.INFO, "in flight"));
+        assertTrue(writer.stalled.await(5, TimeUnit.SECONDS));
+
+        // Act: 3 events fill the queue down to 1 free slot, the next INFO is dropped
+        for (int i = 0; i < 3; i++) {
+            async.doAppend(event(context, Level.INFO, "queued " + i));
+        }
+        async.doAppend(event(context, Level.INFO, "dropped"));
+        async.doAppend(event(context, Level.WARN, "warning"));
+        writer.resume.countDown();
+        async.stop();
+
+        // Assert
+        assertEquals(List.of("in flight", "queued 0", "queued 1", "queued 2", "warning"), writer.messages);
+        assertEquals(1, DroppedLogEvents.count(Reason.QUEUE_FULL, Level.INFO) - droppedBefore);
+    }
+
+    @Test
+    @DisplayName("Test Async Appender - A drop level above INFO is rejected")
+    void dropLevelAboveInfo_FallsBackToInfo() {
+        DroppingAsyncAppender async = new DroppingAsyncAppender();
+        async.setContext(new LoggerContext());
+        async.setDropLevel("ERROR");
+        async.addAppender(new StallingAppender());
+
+        async.start();
+
+        assertTrue(async.isStarted());
+        assertTrue(async.getContext().getStatusManager().getCopyOfStatusList().stream()
+                .anyMatch(status -> status.getMessage().contains("using INFO")));
+        async.stop();
+    }
+
+    private static ILoggingEvent event(LoggerContext context, Level level, String message) {
+        return new LoggingEvent(DroppingAsyncAppenderTest.class.getName(),
+                context.getLogger("com.financiera.test"), level, message, null, null);
+    }
+
+    private static final class StallingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch stalled = new CountDownLatch(1);
+        private final CountDownLatch resume = new CountDownLatch(1);
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            messages.add(event.getMessage());
+            stalled.countDown();
+            try {
+                resume.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.financiera.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.financiera.config.logging.DroppedLogEvents.Reason;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RateLimitingTurboFilter.
+ * Validates the per-second allowance, the exemptions (WARN, other loggers, disabled levels)
+ * and the dropped-event counter, on a controlled clock.
+ */
+class RateLimitingTurboFilterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        RateLimitingTurboFilter filter = new RateLimitingTurboFilter(nanos::get);
+        filter.setLoggerPrefix("com.financiera");
+        filter.setMaxPerSecond(3);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Test Rate Limit - INFO events over the allowance are dropped and counted until the next second")
+    void info_LimitedPerSecond() {
+        Logger logger = context.getLogger("com.financiera.controller.TransactionController");
+        long droppedBefore = DroppedLogEvents.count(Reason.RATE_LIMITED, Level.INFO);
+
+        for (int i = 0; i < 10; i++) {
+            logger.info("event {}", i);
+        }
+        assertEquals(3, appender.list.size());
+        assertEquals(7, DroppedLogEvents.count(Reason.RATE_LIMITED, Level.INFO) - droppedBefore);
+
+        nanos.addAndGet(1_000_000_000L);
+        logger.info("next second");
+        assertEquals(4, appender.list.size());
+    }
+
+    @Test
+    @DisplayName("Test Rate Limit - Warnings, other loggers and disabled levels are never limited or counted")
+    void exemptions_NotLimited() {
+        Logger logger = context.getLogger("com.financiera.service.impl.TransactionServiceImpl");
+        Logger other = context.getLogger("com.financieraextra.Other");
+        long droppedBefore = DroppedLogEvents.count(Reason.RATE_LIMITED, Level.DEBUG);
+
+        for (int i = 0; i < 5; i++) {
+            logger.warn("warning {}", i);
+            other.info("other {}", i);
+            logger.debug("disabled {}", i);
+        }
+
+        assertEquals(10, appender.list.size());
+        assertEquals(droppedBefore, DroppedLogEvents.count(Reason.RATE_LIMITED, Level.DEBUG));
+    }
+}
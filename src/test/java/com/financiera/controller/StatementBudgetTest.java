@@ -0,0 +1,114 @@
+package com.financiera.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.financiera.config.sql.StatementStatsFilter;
+import com.financiera.test.EmbeddedPostgresSupport;
+import com.financiera.test.TestApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budget guardrail: drives the budgeted endpoints of the full application against a
+ * real PostgreSQL and fails when a request executes more SQL statements than the
+ * {@code @StatementBudget} of its endpoint (e.g. after an ORM change adds a load or an N+1).
+ */
+class StatementBudgetTest {
+
+    private static final String ACCOUNT = "ACC" + UUID.randomUUID().toString().substring(0, 10);
+
+    private static ConfigurableApplicationContext context;
+    private static ObjectMapper objectMapper;
+    private static HttpClient client;
+    private static String baseUrl;
+    private static String token;
+
+    @BeforeAll
+    static void startApplication() throws Exception {
+        context = new SpringApplicationBuilder(TestApplication.class).run(
+                "--spring.datasource.url=" + EmbeddedPostgresSupport.jdbcUrl(),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--app.jwtSecret=f8D9sQ2ZK7vR3MLwA6XcP0nHeJYB4mtUF5aStatementBudgetTestSecretKey",
+                "--app.sql.statementStats.headers=true",
+                "--server.port=0",
+                "--logging.file.name=target/statement-budget.log");
+        objectMapper = context.getBean(ObjectMapper.class);
+        client = HttpClient.newHttpClient();
+        baseUrl = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port") + "/api/v1";
+        HttpResponse<String> login = send("POST", "/auth/login", "{\"username\":\"admin\",\"password\":\"password\"}");
+        token = objectMapper.readTree(login.body()).get("accessToken").asText();
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Statement Budget - Transaction and account endpoints stay within their budgets")
+    void endpoints_StayWithinBudget() throws Exception {
+        // Create (with an idempotency key), read, list, settle
+        JsonNode created = objectMapper.readTree(assertWithinBudget(201, send("POST", "/transactions",
+                "{\"accountId\":\"" + ACCOUNT + "\",\"type\":\"CREDIT\",\"amount\":25.50,\"currency\":\"USD\"}",
+                "Idempotency-Key", UUID.randomUUID().toString())).body());
+        String id = created.get("transactionId").asText();
+        assertWithinBudget(200, send("GET", "/transactions/" + id, null));
+        assertWithinBudget(200, send("GET", "/transactions?limit=20", null));
+        assertWithinBudget(200, send("PUT", "/transactions/" + id, "{\"status\":\"COMPLETED\"}"));
+
+        // Account views
+        String today = LocalDate.now(ZoneOffset.UTC).toString();
+        assertWithinBudget(200, send("GET", "/accounts/" + ACCOUNT + "/balance", null));
+        assertWithinBudget(200, send("GET", "/accounts/" + ACCOUNT
+                + "/statement?from=2020-01-01T00:00:00Z&to=2100-01-01T00:00:00Z", null));
+        assertWithinBudget(200, send("GET", "/accounts/" + ACCOUNT + "/daily-summary?from=" + today + "&to=" + today, null));
+
+        // Delete, then the not-found paths
+        assertWithinBudget(204, send("DELETE", "/transactions/" + id, null));
+        assertWithinBudget(404, send("DELETE", "/transactions/" + id, null));
+        assertWithinBudget(404, send("GET", "/transactions/" + id, null));
+    }
+
+    private static HttpResponse<String> assertWithinBudget(int expectedStatus, HttpResponse<String> response) {
+        String request = response.request().method() + " " + response.request().uri();
+        assertEquals(expectedStatus, response.statusCode(), request + ": " + response.body());
+        int statements = Integer.parseInt(response.headers().firstValue(StatementStatsFilter.STATEMENTS_HEADER)
+                .orElseThrow(() -> new AssertionError(request + ": no statement count")));
+        int budget = Integer.parseInt(response.headers().firstValue(StatementStatsFilter.BUDGET_HEADER)
+                .orElseThrow(() -> new AssertionError(request + ": endpoint declares no @StatementBudget")));
+        assertTrue(statements <= budget,
+                request + " executed " + statements + " SQL statements, over its budget of " + budget);
+        return response;
+    }
+
+    private static HttpResponse<String> send(String method, String path, String body, String... headers)
+            throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        for (int i = 0; i < headers.length; i += 2) {
+            builder.header(headers[i], headers[i + 1]);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
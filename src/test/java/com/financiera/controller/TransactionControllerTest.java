@@ -0,0 +1,158 @@
+package com.financiera.controller;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.financiera.dto.TransactionCreateRequest;
+import com.financiera.dto.TransactionPageResponse;
+import com.financiera.dto.TransactionResponse;
+import com.financiera.model.TransactionStatus;
+import com.financiera.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for {@link TransactionController}.
+ * Validates the HTTP caching headers, conditional GET handling and the audit trail.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionControllerTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    @InjectMocks
+    private TransactionController transactionController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // @Value fields are not populated outside the Spring context
+        ReflectionTestUtils.setField(transactionController, "terminalMaxAgeSeconds", 3600L);
+        ReflectionTestUtils.setField(transactionController, "terminalCachePublic", false);
+        mockMvc = MockMvcBuilders.standaloneSetup(transactionController).build();
+    }
+
+    @Test
+    @DisplayName("Test Get Transaction - Terminal transaction is tagged and cacheable")
+    void getTransaction_TerminalIsCacheable() throws Exception {
+        // Arrange
+        TransactionResponse transaction = transaction(TransactionStatus.COMPLETED, 3L);
+        when(transactionService.getTransactionById(transaction.getTransactionId())).thenReturn(transaction);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/transactions/{id}", transaction.getTransactionId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, private"));
+    }
+
+    @Test
+    @DisplayName("Test Get Transaction - Matching If-None-Match returns 304 without a body")
+    void getTransaction_NotModified() throws Exception {
+        // Arrange
+        TransactionResponse transaction = transaction(TransactionStatus.PENDING, 0L);
+        when(transactionService.getTransactionById(transaction.getTransactionId())).thenReturn(transaction);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/transactions/{id}", transaction.getTransactionId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(content().string(""));
+        // A stale tag gets the full body
+        mockMvc.perform(get("/api/v1/transactions/{id}", transaction.getTransactionId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Test Get Transactions - Page tag changes when an item's version changes")
+    void getTransactions_PageETag() throws Exception {
+        // Arrange
+        TransactionResponse item = transaction(TransactionStatus.PENDING, 0L);
+        TransactionPageResponse page = new TransactionPageResponse();
+        page.setItems(List.of(item));
+        page.setLimit(50);
+        when(transactionService.getTransactions(null, null)).thenReturn(page);
+
+        // Act
+        MvcResult first = mockMvc.perform(get("/api/v1/transactions")).andExpect(status().isOk()).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/v1/transactions").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        item.setVersion(1L);
+        MvcResult changed = mockMvc.perform(get("/api/v1/transactions").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk()).andReturn();
+
+        // Assert
+        assertNotNull(etag);
+        assertNotEquals(etag, changed.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Test Create Transaction - Write-behind acceptance is written to the audit logger")
+    void createTransaction_WriteBehindIsAudited() throws Exception {
+        // Arrange
+        TransactionResponse accepted = transaction(TransactionStatus.PENDING, 0L);
+        accepted.setAccountId("ACC123456789");
+        when(transactionService.isWriteBehindEnabled()).thenReturn(true);
+        when(transactionService.submitTransaction(any(TransactionCreateRequest.class), eq("user"), isNull()))
+                .thenReturn(accepted);
+        Logger audit = (Logger) LoggerFactory.getLogger("AUDIT");
+        ListAppender<ILoggingEvent> events = new ListAppender<>();
+        events.start();
+        audit.addAppender(events);
+
+        // Act
+        try {
+            mockMvc.perform(post("/api/v1/transactions")
+                            .principal(() -> "user")
+                            .contentType("application/json")
+                            .content("{\"accountId\":\"ACC123456789\",\"type\":\"CREDIT\",\"amount\":10.50,\"currency\":\"USD\"}"))
+                    .andExpect(status().isAccepted());
+        } finally {
+            audit.detachAppender(events);
+        }
+
+        // Assert
+        assertEquals(1, events.list.size());
+        String message = events.list.get(0).getFormattedMessage();
+        assertTrue(message.contains(accepted.getTransactionId().toString()));
+        assertTrue(message.contains("ACC123456789"));
+    }
+
+    private TransactionResponse transaction(TransactionStatus status, long version) {
+        TransactionResponse transaction = new TransactionResponse();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setStatus(status);
+        transaction.setVersion(version);
+        return transaction;
+    }
+}
@@ -0,0 +1,167 @@
+package com.financiera.repository;
+
+import com.financiera.model.AccountDailyRollupId;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.service.impl.DailyRollupServiceImpl;
+import com.financiera.test.EmbeddedPostgresSupport;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests the incremental refresh of the daily rollups ({@link AccountDailyRollupRefreshRepository}),
+ * and the refresh of {@link DailyRollupServiceImpl} on top of it, against a PostgreSQL of its own,
+ * since the high-water mark is shared by the whole table.
+ */
+class AccountDailyRollupRefreshRepositoryTest {
+
+    private static final Instant DAY_1 = Instant.parse("2024-05-01T00:00:00Z");
+    private static final Instant DAY_2 = Instant.parse("2024-05-02T00:00:00Z");
+    private static final Instant JUNE_1 = Instant.parse("2024-06-01T00:00:00Z");
+    private static final Instant JUNE_2 = Instant.parse("2024-06-02T00:00:00Z");
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+    private static AccountDailyRollupRefreshRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUp() {
+        postgres = EmbeddedPostgresSupport.startIsolated();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        repository = new AccountDailyRollupRefreshRepositoryImpl(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("New transactions are added once per range; stale groups are recomputed below the mark")
+    void addAndRecompute() {
+        repository.updateHighWater(DAY_1);
+        UUID settled = insert("ACC1", "CREDIT", "100.00", "USD", DAY_1.plusSeconds(60), TransactionStatus.PENDING);
+        insert("ACC1", "DEBIT", "30.00", "USD", DAY_1.plusSeconds(120), TransactionStatus.COMPLETED);
+        insert("ACC1", "CREDIT", "5.00", "EUR", DAY_1.plusSeconds(180), TransactionStatus.FAILED);
+        UUID deleted = insert("ACC1", "CREDIT", "7.00", "USD", DAY_2.plusSeconds(60), TransactionStatus.PENDING);
+        insert("ACC2", "CREDIT", "1.00", "USD", DAY_2.plusSeconds(7200), TransactionStatus.PENDING); // After the mark
+
+        // Day 1 and the first hour of day 2
+        assertEquals(2, repository.addTransactions(DAY_1, DAY_2));
+        assertEquals(1, repository.addTransactions(DAY_2, DAY_2.plusSeconds(3600)));
+        repository.updateHighWater(DAY_2.plusSeconds(3600));
+
+        assertEquals(rollup(2, "100.0000", "30.0000", 1, 1, 0), find("ACC1", DAY_1, "USD"));
+        assertEquals(rollup(1, "5.0000", "0.0000", 0, 0, 1), find("ACC1", DAY_1, "EUR"));
+        assertEquals(rollup(1, "7.0000", "0.0000", 1, 0, 0), find("ACC1", DAY_2, "USD"));
+        assertNull(find("ACC2", DAY_2, "USD"), "Not counted before the mark passes it");
+
+        // A settled and a deleted transaction mark their groups stale
+        jdbcTemplate.update("UPDATE skd_financiera.transactions SET status = 'COMPLETED' WHERE transaction_id = ?", settled);
+        jdbcTemplate.update("DELETE FROM skd_financiera.transactions WHERE transaction_id = ?", deleted);
+        AccountDailyRollupId day1 = new AccountDailyRollupId("ACC1", LocalDate.parse("2024-05-01"), "USD");
+        AccountDailyRollupId day2 = new AccountDailyRollupId("ACC1", LocalDate.parse("2024-05-02"), "USD");
+        AccountDailyRollupId late = new AccountDailyRollupId("ACC2", LocalDate.parse("2024-05-02"), "USD");
+        repository.markStale(List.of(day1, day2, late));
+        repository.markStale(List.of(day1));
+
+        List<AccountDailyRollupId> stale = repository.takeStale(10);
+        assertEquals(Set.of(day1, day2, late), new HashSet<>(stale));
+        assertEquals(List.of(), repository.takeStale(10));
+        assertEquals(1, repository.recompute(stale, repository.findHighWater()));
+
+        assertEquals(rollup(2, "100.0000", "30.0000", 0, 2, 0), find("ACC1", DAY_1, "USD"));
+        assertNull(find("ACC1", DAY_2, "USD"), "A group without transactions is removed");
+        assertNull(find("ACC2", DAY_2, "USD"), "Transactions after the mark are left to the next range");
+        assertEquals(rollup(1, "5.0000", "0.0000", 0, 0, 1), find("ACC1", DAY_1, "EUR"));
+    }
+
+    @Test
+    @DisplayName("A transaction inserted behind the mark (late write-behind commit) is counted by the next refresh")
+    void lateCreation_CountedAfterRefresh() {
+        // The refresh service on top of this repository, with real database transactions
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(postgres.getPostgresDatabase());
+        DailyRollupServiceImpl service = new DailyRollupServiceImpl(
+                mock(AccountDailyRollupRepository.class, delegatesTo(repository)), transactionManager,
+                true, 60_000, 100, 31);
+        repository.updateHighWater(JUNE_1);
+        insert("LATE1", "CREDIT", "10.00", "USD", JUNE_1.plusSeconds(60), TransactionStatus.PENDING);
+        service.refresh(JUNE_2);
+        assertEquals(rollup(1, "10.0000", "0.0000", 1, 0, 0), find("LATE1", JUNE_1, "USD"));
+
+        // Committed after the mark passed its timestamp, as the write-behind flusher does after retries
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Transaction late = new Transaction();
+            late.setAccountId("LATE1");
+            late.setCurrency("USD");
+            late.setTimestamp(JUNE_1.plusSeconds(120));
+            insert("LATE1", "DEBIT", "4.00", "USD", late.getTimestamp(), TransactionStatus.PENDING);
+            service.recordCreations(List.of(late));
+        });
+        service.refresh(JUNE_2);
+
+        assertEquals(rollup(2, "10.0000", "4.0000", 2, 0, 0), find("LATE1", JUNE_1, "USD"));
+    }
+
+    @Test
+    @DisplayName("Only one refresher holds the high-water mark at a time")
+    void lockHighWater_SkipsWhenLocked() throws Exception {
+        try (var otherInstance = postgres.getPostgresDatabase().getConnection()) {
+            otherInstance.setAutoCommit(false);
+            otherInstance.createStatement().execute(
+                    "SELECT 1 FROM skd_financiera.rollup_watermarks WHERE name = 'account_daily' FOR UPDATE");
+
+            assertNull(repository.lockHighWater());
+            assertNotNull(repository.findHighWater(), "Readers are not blocked");
+            otherInstance.rollback();
+        }
+        assertNotNull(repository.lockHighWater());
+    }
+
+    private static UUID insert(String account, String type, String amount, String currency, Instant timestamp,
+                               TransactionStatus status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO skd_financiera.transactions
+                    (transaction_id, account_id, type, amount, currency, description, "timestamp", status)
+                VALUES (?, ?, ?, ?, ?, 'rollup', ?, ?)
+                """, id, account, type, new BigDecimal(amount), currency, Timestamp.from(timestamp), status.name());
+        return id;
+    }
+
+    private static Map<String, Object> find(String account, Instant day, String currency) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT transaction_count, credit_total, debit_total, pending_count, completed_count, failed_count
+                FROM skd_financiera.account_daily_rollups WHERE account_id = ? AND day = ?::date AND currency = ?
+                """, account, day.toString().substring(0, 10), currency);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static Map<String, Object> rollup(long count, String credit, String debit,
+                                              long pending, long completed, long failed) {
+        return Map.of("transaction_count", count, "credit_total", new BigDecimal(credit),
+                "debit_total", new BigDecimal(debit), "pending_count", pending,
+                "completed_count", completed, "failed_count", failed);
+    }
+}
@@ -0,0 +1,115 @@
+package com.financiera.repository;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.test.EmbeddedPostgresSupport;
+import com.financiera.utils.PageCursor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the set-based status transition, the PENDING key walk and the settlement claim of
+ * {@link TransactionBulkStatusRepository} against a real PostgreSQL.
+ */
+class TransactionBulkStatusRepositoryTest {
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionBulkStatusRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUp() {
+        jdbcTemplate = new JdbcTemplate(EmbeddedPostgresSupport.dataSource());
+        repository = new TransactionBulkStatusRepositoryImpl(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Only PENDING transactions among the IDs are moved, each with a new version")
+    void transitionPending_SkipsSettledAndUnknown() {
+        String account = uniqueAccount();
+        Instant now = Instant.now();
+        UUID pending = insert(account, TransactionStatus.PENDING, now);
+        UUID completed = insert(account, TransactionStatus.COMPLETED, now);
+
+        List<Transaction> moved = repository.transitionPending(
+                List.of(pending, completed, UUID.randomUUID()), TransactionStatus.FAILED);
+
+        assertEquals(1, moved.size());
+        assertEquals(pending, moved.get(0).getTransactionId());
+        assertEquals(TransactionStatus.FAILED, moved.get(0).getStatus());
+        assertEquals(1L, moved.get(0).getVersion());
+        assertEquals("COMPLETED", jdbcTemplate.queryForObject(
+                "SELECT status FROM skd_financiera.transactions WHERE transaction_id = ?", String.class, completed));
+    }
+
+    @Test
+    @DisplayName("PENDING keys are returned in (timestamp, ID) order, filtered by account and window")
+    void findPendingKeys_KeysetWalk() {
+        String account = uniqueAccount();
+        Instant from = Instant.parse("2024-03-01T00:00:00Z");
+        UUID first = insert(account, TransactionStatus.PENDING, from.plusSeconds(10));
+        UUID second = insert(account, TransactionStatus.PENDING, from.plusSeconds(20));
+        UUID third = insert(account, TransactionStatus.PENDING, from.plusSeconds(30));
+        insert(account, TransactionStatus.COMPLETED, from.plusSeconds(15));
+        insert(account, TransactionStatus.PENDING, from.plusSeconds(3600)); // Outside the window
+        insert(uniqueAccount(), TransactionStatus.PENDING, from.plusSeconds(10)); // Other account
+
+        List<PageCursor> page = repository.findPendingKeys(account, from, from.plusSeconds(60), null, 2);
+        List<PageCursor> next = repository.findPendingKeys(account, from, from.plusSeconds(60), page.get(1), 2);
+
+        assertEquals(List.of(first, second), page.stream().map(PageCursor::transactionId).toList());
+        assertEquals(List.of(third), next.stream().map(PageCursor::transactionId).toList());
+    }
+
+    @Test
+    @DisplayName("Claiming a settlement batch skips rows locked by another transaction")
+    void lockPendingBatch_SkipsLockedRows() throws Exception {
+        // Far in the past, so PENDING rows of the other tests are after the cutoff
+        Instant base = Instant.parse("1990-01-01T00:00:00Z");
+        String account = uniqueAccount();
+        UUID first = insert(account, TransactionStatus.PENDING, base.plusSeconds(1));
+        UUID second = insert(account, TransactionStatus.PENDING, base.plusSeconds(2));
+        UUID third = insert(account, TransactionStatus.PENDING, base.plusSeconds(3));
+
+        try (Connection otherWorker = EmbeddedPostgresSupport.dataSource().getConnection()) {
+            otherWorker.setAutoCommit(false);
+            try (PreparedStatement lock = otherWorker.prepareStatement(
+                    "SELECT 1 FROM skd_financiera.transactions WHERE transaction_id = ? FOR UPDATE")) {
+                lock.setObject(1, first);
+                lock.executeQuery().close();
+            }
+
+            List<Transaction> claimed = repository.lockPendingBatch(base.plusSeconds(10), null, 10);
+            List<Transaction> next = repository.lockPendingBatch(base.plusSeconds(10),
+                    new PageCursor(claimed.get(0).getTimestamp(), claimed.get(0).getTransactionId()), 10);
+
+            assertEquals(List.of(second, third), claimed.stream().map(Transaction::getTransactionId).toList());
+            assertEquals(List.of(third), next.stream().map(Transaction::getTransactionId).toList());
+            otherWorker.rollback();
+        }
+    }
+
+    private static String uniqueAccount() {
+        return "ACC" + UUID.randomUUID().toString().substring(0, 10);
+    }
+
+    private static UUID insert(String account, TransactionStatus status, Instant timestamp) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO skd_financiera.transactions
+                    (transaction_id, account_id, type, amount, currency, description, "timestamp", status)
+                VALUES (?, ?, 'CREDIT', 10, 'USD', 'bulk', ?, ?)
+                """, id, account, Timestamp.from(timestamp), status.name());
+        return id;
+    }
+}
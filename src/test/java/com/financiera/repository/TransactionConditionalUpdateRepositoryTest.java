@@ -0,0 +1,146 @@
+package com.financiera.repository;
+
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.repository.TransactionUpdateResult.Outcome;
+import com.financiera.test.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the single-statement conditional update and delete of {@link TransactionConditionalUpdateRepository}
+ * against a real PostgreSQL: version checks, status transition rules, racing writers and deletes.
+ */
+class TransactionConditionalUpdateRepositoryTest {
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionConditionalUpdateRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUp() {
+        jdbcTemplate = new JdbcTemplate(EmbeddedPostgresSupport.dataSource());
+        repository = new TransactionConditionalUpdateRepositoryImpl(new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @Test
+    @DisplayName("PENDING to COMPLETED at the expected version updates and increments the version")
+    void update_Success() {
+        UUID id = insert(TransactionStatus.PENDING);
+
+        TransactionUpdateResult result = repository.updateConditionally(id, 0L, "settled", TransactionStatus.COMPLETED);
+
+        assertEquals(Outcome.UPDATED, result.outcome());
+        assertEquals(TransactionStatus.PENDING, result.previousStatus());
+        assertEquals(TransactionStatus.COMPLETED, result.transaction().getStatus());
+        assertEquals("settled", result.transaction().getDescription());
+        assertEquals(1L, result.transaction().getVersion());
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT version FROM skd_financiera.transactions WHERE transaction_id = ?", Long.class, id));
+    }
+
+    @Test
+    @DisplayName("A stale expected version is reported and nothing is written")
+    void update_VersionMismatch() {
+        UUID id = insert(TransactionStatus.PENDING);
+        repository.updateConditionally(id, null, "first", null);
+
+        TransactionUpdateResult result = repository.updateConditionally(id, 0L, "second", null);
+
+        assertEquals(Outcome.VERSION_MISMATCH, result.outcome());
+        assertEquals(1L, result.previousVersion());
+        assertEquals("first", jdbcTemplate.queryForObject(
+                "SELECT description FROM skd_financiera.transactions WHERE transaction_id = ?", String.class, id));
+    }
+
+    @Test
+    @DisplayName("Only PENDING transactions change status; unknown IDs are reported")
+    void update_TransitionRules() {
+        UUID id = insert(TransactionStatus.COMPLETED);
+
+        assertEquals(Outcome.INVALID_TRANSITION,
+                repository.updateConditionally(id, null, null, TransactionStatus.FAILED).outcome());
+        assertEquals(Outcome.INVALID_TRANSITION,
+                repository.updateConditionally(id, null, null, TransactionStatus.PENDING).outcome());
+        // Keeping the status (with a new description) is allowed
+        assertEquals(Outcome.UPDATED,
+                repository.updateConditionally(id, null, "note", TransactionStatus.COMPLETED).outcome());
+        assertEquals(Outcome.NOT_FOUND,
+                repository.updateConditionally(UUID.randomUUID(), null, "x", null).outcome());
+    }
+
+    @Test
+    @DisplayName("An update that changes nothing keeps the version")
+    void update_NoChangeKeepsVersion() {
+        UUID id = insert(TransactionStatus.PENDING);
+
+        TransactionUpdateResult result = repository.updateConditionally(id, 0L, "initial", TransactionStatus.PENDING);
+
+        assertEquals(Outcome.UPDATED, result.outcome());
+        assertEquals(0L, result.transaction().getVersion());
+    }
+
+    @Test
+    @DisplayName("Two settlement workers racing on one PENDING transaction: exactly one wins")
+    void update_RacingWritersCannotBothSettle() {
+        UUID id = insert(TransactionStatus.PENDING);
+        CyclicBarrier start = new CyclicBarrier(2);
+
+        CompletableFuture<TransactionUpdateResult> complete = CompletableFuture.supplyAsync(() -> {
+            await(start);
+            return repository.updateConditionally(id, null, null, TransactionStatus.COMPLETED);
+        });
+        CompletableFuture<TransactionUpdateResult> fail = CompletableFuture.supplyAsync(() -> {
+            await(start);
+            return repository.updateConditionally(id, null, null, TransactionStatus.FAILED);
+        });
+
+        List<Outcome> outcomes = List.of(complete.join().outcome(), fail.join().outcome());
+        assertTrue(outcomes.contains(Outcome.UPDATED), outcomes.toString());
+        assertTrue(outcomes.contains(Outcome.INVALID_TRANSITION), outcomes.toString());
+    }
+
+    @Test
+    @DisplayName("Delete returns the deleted row in one statement; unknown IDs return empty")
+    void deleteReturning_ReturnsDeletedRow() {
+        UUID id = insert(TransactionStatus.COMPLETED);
+
+        Transaction deleted = repository.deleteReturning(id).orElseThrow();
+
+        assertEquals(id, deleted.getTransactionId());
+        assertEquals(TransactionStatus.COMPLETED, deleted.getStatus());
+        assertEquals(0, new BigDecimal("10").compareTo(deleted.getAmount()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM skd_financiera.transactions WHERE transaction_id = ?", Integer.class, id));
+        assertEquals(Optional.empty(), repository.deleteReturning(id));
+    }
+
+    private static UUID insert(TransactionStatus status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO skd_financiera.transactions
+                    (transaction_id, account_id, type, amount, currency, description, "timestamp", status)
+                VALUES (?, 'ACC0000000001', 'CREDIT', 10, 'USD', 'initial', now(), ?)
+                """, id, status.name());
+        return id;
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.financiera.repository;
+
+import com.financiera.test.EmbeddedPostgresSupport;
+import com.financiera.test.TestApplication;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan regression tests for the read paths of {@link TransactionRepository}.
+ * <p>Boots the application against a real PostgreSQL with a realistic data distribution, calls
+ * the keyset query methods of the repository, captures the SQL and the bind values Hibernate
+ * sends (datasource-proxy, see {@code StatementStatsConfig}), and replays them under
+ * {@code EXPLAIN}. The planner must answer them with an index scan and no sort, and only scan
+ * the monthly partitions in range. A change to the JPQL, a missing or unusable index, or a lost
+ * pruning bound shows up here as a failing test instead of as latency that grows with the
+ * table.</p>
+ */
+class TransactionQueryPlanTest {
+
+    private static final int ROWS = 50_000;
+    private static final int ACCOUNTS = 500;
+
+    // An old month that no query below may touch
+    private static final String OLD_PARTITION = "transactions_p200101";
+
+    // The per-partition copies of idx_transactions_timestamp_id (not the account index)
+    private static final Pattern TIMESTAMP_ID_INDEX =
+            Pattern.compile("using transactions_(p\\d{6}|default)_timestamp_transaction_id_idx");
+    private static final Pattern SORT_NODE = Pattern.compile("(?m)^\\s*(->\\s+)?(Incremental )?Sort\\s+\\(cost");
+
+    // Statements executed by the capturing (test) thread; other threads are ignored
+    private static final ThreadLocal<List<QueryInfo>> CAPTURED = new ThreadLocal<>();
+
+    private static JdbcTemplate jdbcTemplate;
+    private static ConfigurableApplicationContext context;
+    private static TransactionRepository repository;
+
+    @BeforeAll
+    static void loadData() {
+        jdbcTemplate = new JdbcTemplate(EmbeddedPostgresSupport.dataSource());
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS skd_financiera." + OLD_PARTITION
+                + " PARTITION OF skd_financiera.transactions"
+                + " FOR VALUES FROM ('2001-01-01 00:00:00+00') TO ('2001-02-01 00:00:00+00')");
+        jdbcTemplate.update("""
+                INSERT INTO skd_financiera.transactions
+                    (transaction_id, account_id, type, amount, currency, description, "timestamp", status)
+                SELECT gen_random_uuid(),
+                       'ACC' || lpad((i % ?)::text, 10, '0'),
+                       CASE WHEN i % 2 = 0 THEN 'CREDIT' ELSE 'DEBIT' END,
+                       (i % 1000) + 0.25,
+                       'USD',
+                       'plan test',
+                       now() - i * interval '1 minute',
+                       'COMPLETED'
+                FROM generate_series(1, ?) AS i
+                """, ACCOUNTS, ROWS);
+        jdbcTemplate.execute("ANALYZE skd_financiera.transactions");
+
+        context = new SpringApplicationBuilder(TestApplication.class).run(
+                "--spring.datasource.url=" + EmbeddedPostgresSupport.jdbcUrl(),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--app.jwtSecret=f8D9sQ2ZK7vR3MLwA6XcP0nHeJYB4mtUF5aQueryPlanTestSecretKey",
+                "--server.port=0",
+                "--logging.file.name=target/query-plan.log");
+        repository = context.getBean(TransactionRepository.class);
+        ((ProxyDataSource) context.getBean(DataSource.class)).addListener(new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                List<QueryInfo> captured = CAPTURED.get();
+                if (captured != null) {
+                    captured.addAll(queryInfoList);
+                }
+            }
+        });
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Account statement page is served by the (account_id, timestamp DESC) index without sorting")
+    void statementQuery_UsesAccountTimestampIndex() {
+        Instant to = Instant.now();
+        Instant from = to.minus(30, ChronoUnit.DAYS);
+
+        String plan = explain(() -> repository.findStatementPageBefore("ACC0000000042", from, to,
+                to.minus(1, ChronoUnit.DAYS), UUID.randomUUID(), Limit.of(51)));
+
+        assertTrue(plan.contains("_account_id_timestamp_transaction_id_idx"), plan);
+        assertFalse(plan.contains(OLD_PARTITION), plan);
+        assertNoSeqScanOrSort(plan);
+    }
+
+    @Test
+    @DisplayName("Global keyset page is served by the (timestamp, transaction_id) index without sorting")
+    void keysetQuery_UsesTimestampIdIndex() {
+        Instant cursor = Instant.now().minus(20, ChronoUnit.DAYS);
+
+        String plan = explain(() -> repository.findPageAfter(cursor, UUID.randomUUID(), Limit.of(51)));
+
+        assertTrue(TIMESTAMP_ID_INDEX.matcher(plan).find(), plan);
+        assertFalse(plan.contains(OLD_PARTITION), plan);
+        assertNoSeqScanOrSort(plan);
+    }
+
+    /**
+     * Runs the repository call, then replays the one statement it executed under EXPLAIN, with
+     * the same bind calls.
+     */
+    private static String explain(Runnable repositoryCall) {
+        List<QueryInfo> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            repositoryCall.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        assertEquals(1, captured.size(), () -> "Expected one statement, got " + captured.stream()
+                .map(QueryInfo::getQuery).toList());
+        QueryInfo query = captured.get(0);
+        List<String> lines = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.getQuery());
+            for (ParameterSetOperation operation : query.getParametersList().get(0)) {
+                try {
+                    operation.getMethod().invoke(statement, operation.getArgs());
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Could not replay " + operation.getMethod(), e);
+                }
+            }
+            return statement;
+        }, (rs, rowNum) -> rs.getString(1));
+        return String.join("\n", lines);
+    }
+
+    private static void assertNoSeqScanOrSort(String plan) {
+        assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+        // Partitions are combined by a Merge Append of ordered index scans ("Sort Key" only)
+        assertFalse(SORT_NODE.matcher(plan).find(), plan);
+    }
+}
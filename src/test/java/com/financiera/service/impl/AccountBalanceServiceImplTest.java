@@ -0,0 +1,139 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.AccountBalanceResponse;
+import com.financiera.model.AccountBalance;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.model.TransactionType;
+import com.financiera.repository.AccountBalanceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AccountBalanceServiceImpl.
+ * Validates the balance deltas produced by each transaction status change.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceServiceImplTest {
+
+    private static final String ACCOUNT_ID = "ACC123456789";
+
+    @Mock
+    private AccountBalanceRepository accountBalanceRepository;
+
+    @InjectMocks
+    private AccountBalanceServiceImpl accountBalanceService;
+
+    @Test
+    @DisplayName("Test Record Status Change - Completed credit increases the balance")
+    void recordStatusChange_CreditCompleted() {
+        Transaction credit = transaction(TransactionType.CREDIT, "100.50");
+
+        accountBalanceService.recordStatusChange(credit, TransactionStatus.PENDING, TransactionStatus.COMPLETED);
+
+        verify(accountBalanceRepository).applyDelta(ACCOUNT_ID, "USD", new BigDecimal("100.50"));
+    }
+
+    @Test
+    @DisplayName("Test Record Status Change - Completed debit decreases the balance")
+    void recordStatusChange_DebitCompleted() {
+        Transaction debit = transaction(TransactionType.DEBIT, "40.00");
+
+        accountBalanceService.recordStatusChange(debit, TransactionStatus.PENDING, TransactionStatus.COMPLETED);
+
+        verify(accountBalanceRepository).applyDelta(ACCOUNT_ID, "USD", new BigDecimal("-40.00"));
+    }
+
+    @Test
+    @DisplayName("Test Record Status Change - Leaving COMPLETED reverses the amount")
+    void recordStatusChange_LeavingCompletedReverses() {
+        Transaction debit = transaction(TransactionType.DEBIT, "40.00");
+
+        accountBalanceService.recordStatusChange(debit, TransactionStatus.COMPLETED, TransactionStatus.FAILED);
+
+        verify(accountBalanceRepository).applyDelta(ACCOUNT_ID, "USD", new BigDecimal("40.00"));
+    }
+
+    @Test
+    @DisplayName("Test Record Status Change - Unsettled changes leave the balance untouched")
+    void recordStatusChange_NoSettlementChange() {
+        Transaction credit = transaction(TransactionType.CREDIT, "10.00");
+
+        accountBalanceService.recordStatusChange(credit, null, TransactionStatus.PENDING);
+        accountBalanceService.recordStatusChange(credit, TransactionStatus.PENDING, TransactionStatus.FAILED);
+        accountBalanceService.recordStatusChange(credit, TransactionStatus.COMPLETED, TransactionStatus.COMPLETED);
+
+        verify(accountBalanceRepository, never()).applyDelta(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Test Record Status Changes - One write per account and currency")
+    void recordStatusChanges_AggregatesPerAccountAndCurrency() {
+        Transaction eurCredit = transaction(TransactionType.CREDIT, "5.00");
+        eurCredit.setCurrency("EUR");
+        List<Transaction> settled = List.of(
+                transaction(TransactionType.CREDIT, "100.00"),
+                transaction(TransactionType.DEBIT, "30.00"),
+                eurCredit);
+
+        accountBalanceService.recordStatusChanges(settled, TransactionStatus.PENDING, TransactionStatus.COMPLETED);
+        accountBalanceService.recordStatusChanges(settled, TransactionStatus.PENDING, TransactionStatus.FAILED);
+
+        // Summed in fixed-point units, handed over at the column scale
+        verify(accountBalanceRepository).applyDelta(ACCOUNT_ID, "USD", new BigDecimal("70.0000"));
+        verify(accountBalanceRepository).applyDelta(ACCOUNT_ID, "EUR", new BigDecimal("5.0000"));
+        verifyNoMoreInteractions(accountBalanceRepository);
+    }
+
+    @Test
+    @DisplayName("Test Record Status Changes - Totals beyond the fixed-point range are summed as decimals")
+    void recordStatusChanges_FallsBackOnOverflow() {
+        List<Transaction> settled = List.of(
+                transaction(TransactionType.CREDIT, "900000000000000.0000"),
+                transaction(TransactionType.CREDIT, "900000000000000.0000"));
+
+        accountBalanceService.recordStatusChanges(settled, TransactionStatus.PENDING, TransactionStatus.COMPLETED);
+
+        verify(accountBalanceRepository).applyDelta(ACCOUNT_ID, "USD", new BigDecimal("1800000000000000.0000"));
+        verifyNoMoreInteractions(accountBalanceRepository);
+    }
+
+    @Test
+    @DisplayName("Test Get Account Balance - Maps one balance per currency")
+    void getAccountBalance_Success() {
+        AccountBalance usd = new AccountBalance();
+        usd.setAccountId(ACCOUNT_ID);
+        usd.setCurrency("USD");
+        usd.setBalance(new BigDecimal("60.5000"));
+        usd.setUpdatedAt(Instant.now());
+        when(accountBalanceRepository.findByAccountIdOrderByCurrencyAsc(ACCOUNT_ID)).thenReturn(List.of(usd));
+
+        AccountBalanceResponse response = accountBalanceService.getAccountBalance(ACCOUNT_ID);
+
+        assertEquals(ACCOUNT_ID, response.getAccountId());
+        assertEquals(1, response.getBalances().size());
+        assertEquals(new BigDecimal("60.5000"), response.getBalances().get(0).getBalance());
+    }
+
+    private Transaction transaction(TransactionType type, String amount) {
+        Transaction transaction = new Transaction();
+        transaction.setAccountId(ACCOUNT_ID);
+        transaction.setCurrency("USD");
+        transaction.setType(type);
+        transaction.setAmount(new BigDecimal(amount));
+        return transaction;
+    }
+}
@@ -0,0 +1,164 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.AccountDailySummaryResponse;
+import com.financiera.exception.BadRequestException;
+import com.financiera.model.AccountDailyRollup;
+import com.financiera.model.AccountDailyRollupId;
+import com.financiera.model.Transaction;
+import com.financiera.repository.AccountDailyRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DailyRollupServiceImpl.
+ * Validates the day-by-day advance of the high-water mark, the stale marks (changes and late
+ * creations) and the summary range checks.
+ */
+class DailyRollupServiceImplTest {
+
+    private AccountDailyRollupRepository rollupRepository;
+    private DailyRollupServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        rollupRepository = mock(AccountDailyRollupRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new DailyRollupServiceImpl(rollupRepository, transactionManager, true, 60_000, 2, 31);
+    }
+
+    @Test
+    @DisplayName("Test Rollups - The mark advances one UTC day per step up to the target, then stale groups are drained")
+    void refresh_AdvancesDayByDay() {
+        // Arrange: the mark lives in the mocked table
+        AtomicReference<Instant> highWater = new AtomicReference<>(Instant.parse("2024-05-01T22:00:00Z"));
+        when(rollupRepository.lockHighWater()).thenAnswer(invocation -> highWater.get());
+        doAnswer(invocation -> {
+            highWater.set(invocation.getArgument(0));
+            return null;
+        }).when(rollupRepository).updateHighWater(any());
+        List<Instant> ranges = new ArrayList<>();
+        when(rollupRepository.addTransactions(any(), any())).thenAnswer(invocation -> {
+            ranges.add(invocation.getArgument(0));
+            ranges.add(invocation.getArgument(1));
+            return 1;
+        });
+        AccountDailyRollupId key = new AccountDailyRollupId("ACC1", LocalDate.parse("2024-05-01"), "USD");
+        when(rollupRepository.takeStale(2)).thenReturn(List.of(key, key), List.of(key), List.of());
+        when(rollupRepository.recompute(any(), any()))
+                .thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+
+        // Act
+        int written = service.refresh(Instant.parse("2024-05-03T06:00:00Z"));
+
+        // Assert: [22:00, day 2) [day 2, day 3) [day 3, 06:00), then two stale chunks
+        assertEquals(List.of(
+                Instant.parse("2024-05-01T22:00:00Z"), Instant.parse("2024-05-02T00:00:00Z"),
+                Instant.parse("2024-05-02T00:00:00Z"), Instant.parse("2024-05-03T00:00:00Z"),
+                Instant.parse("2024-05-03T00:00:00Z"), Instant.parse("2024-05-03T06:00:00Z")), ranges);
+        assertEquals(Instant.parse("2024-05-03T06:00:00Z"), highWater.get());
+        verify(rollupRepository, times(2)).recompute(any(), eq(Instant.parse("2024-05-03T06:00:00Z")));
+        assertEquals(6, written);
+
+        // A second run with the same target has nothing to do
+        assertEquals(0, service.refresh(Instant.parse("2024-05-03T06:00:00Z")));
+        assertEquals(6, ranges.size());
+    }
+
+    @Test
+    @DisplayName("Test Rollups - Nothing is done while another instance holds the mark")
+    void refresh_SkipsWhenLocked() {
+        when(rollupRepository.lockHighWater()).thenReturn(null);
+
+        assertEquals(-1, service.refresh(Instant.now()));
+
+        verify(rollupRepository, never()).addTransactions(any(), any());
+        verify(rollupRepository, never()).takeStale(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test Rollups - Changes mark each account, UTC day and currency once")
+    void recordChanges_MarksDistinctGroups() {
+        service.recordChanges(List.of(
+                transaction("ACC2", "USD", "2024-05-01T10:00:00Z"),
+                transaction("ACC1", "USD", "2024-05-01T23:59:59Z"),
+                transaction("ACC1", "USD", "2024-05-01T01:00:00Z"),
+                transaction("ACC1", "USD", "2024-05-02T00:00:00Z")));
+
+        verify(rollupRepository).markStale(argThat(keys -> new ArrayList<>(keys).equals(List.of(
+                new AccountDailyRollupId("ACC1", LocalDate.parse("2024-05-01"), "USD"),
+                new AccountDailyRollupId("ACC1", LocalDate.parse("2024-05-02"), "USD"),
+                new AccountDailyRollupId("ACC2", LocalDate.parse("2024-05-01"), "USD")))));
+    }
+
+    @Test
+    @DisplayName("Test Rollups - Creations mark only the days of transactions inserted late")
+    void recordCreations_MarksLateTransactionsOnly() {
+        Transaction fresh = transaction("ACC1", "USD", Instant.now().toString());
+
+        service.recordCreations(List.of(fresh));
+        verify(rollupRepository, never()).markStale(any());
+
+        service.recordCreations(List.of(fresh, transaction("ACC2", "EUR", "2024-05-01T10:00:00Z")));
+        verify(rollupRepository).markStale(argThat(keys -> new ArrayList<>(keys).equals(List.of(
+                new AccountDailyRollupId("ACC2", LocalDate.parse("2024-05-01"), "EUR")))));
+    }
+
+    @Test
+    @DisplayName("Test Rollups - The summary reads the rollups of the requested days only")
+    void getDailySummary_ReadsRollups() {
+        // Arrange
+        LocalDate from = LocalDate.parse("2024-05-01");
+        LocalDate to = LocalDate.parse("2024-05-31");
+        AccountDailyRollup rollup = new AccountDailyRollup();
+        rollup.setAccountId("ACC1");
+        rollup.setDay(from);
+        rollup.setCurrency("USD");
+        rollup.setTransactionCount(3);
+        rollup.setCreditTotal(new BigDecimal("10.00"));
+        rollup.setDebitTotal(BigDecimal.ZERO);
+        rollup.setCompletedCount(3);
+        when(rollupRepository.findByAccountIdAndDayBetweenOrderByDayAscCurrencyAsc("ACC1", from, to))
+                .thenReturn(List.of(rollup));
+        when(rollupRepository.findHighWater()).thenReturn(Instant.parse("2024-06-01T00:00:00Z"));
+
+        // Act
+        AccountDailySummaryResponse response = service.getDailySummary("ACC1", from, to);
+
+        // Assert
+        assertEquals(Instant.parse("2024-06-01T00:00:00Z"), response.getAsOf());
+        assertEquals(1, response.getDays().size());
+        assertEquals(3, response.getDays().get(0).getCompletedCount());
+        assertEquals(new BigDecimal("10.00"), response.getDays().get(0).getCreditTotal());
+
+        // 32 days and reversed ranges are rejected
+        assertThrows(BadRequestException.class, () -> service.getDailySummary("ACC1", from, to.plusDays(1)));
+        assertThrows(BadRequestException.class, () -> service.getDailySummary("ACC1", to, from));
+    }
+
+    private static Transaction transaction(String account, String currency, String timestamp) {
+        Transaction transaction = new Transaction();
+        transaction.setAccountId(account);
+        transaction.setCurrency(currency);
+        transaction.setTimestamp(Instant.parse(timestamp));
+        return transaction;
+    }
+}
@@ -0,0 +1,223 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.HotWindowStatsResponse;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.model.TransactionType;
+import com.financiera.repository.TransactionRepository;
+import com.financiera.utils.PageCursor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HotWindowStore.
+ * Validates the version and deletion rules, the page order against the database semantics,
+ * the floor that decides which reads are served, and eviction.
+ */
+class HotWindowStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+    private static final long DAY_MS = Duration.ofDays(1).toMillis();
+
+    // Database order: timestamp, then the UUID compared as unsigned bytes
+    private static final Comparator<Transaction> KEY_ORDER = Comparator
+            .comparing(Transaction::getTimestamp)
+            .thenComparing(Transaction::getTransactionId, (a, b) -> {
+                int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                return result != 0 ? result
+                        : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+            });
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+
+    @Test
+    @DisplayName("Test Hot Window - Newer versions replace rows; deleted transactions stay deleted")
+    void put_VersionsAndDeletions() {
+        // Arrange
+        HotWindowStore store = startedStore(8, Long.MAX_VALUE);
+        Transaction created = transaction("ACC1", NOW.plusSeconds(1), TransactionStatus.PENDING, 0);
+        Transaction settled = copy(created, TransactionStatus.COMPLETED, 1);
+
+        // Act & Assert
+        store.put(created);
+        store.put(settled);
+        store.put(created); // late, older version
+        Transaction found = store.find(created.getTransactionId()).orElseThrow();
+        assertEquals(TransactionStatus.COMPLETED, found.getStatus());
+        assertEquals(1L, found.getVersion());
+        assertEquals(0, new BigDecimal("12.3400").compareTo(found.getAmount()));
+        assertEquals(created.getTimestamp(), found.getTimestamp());
+
+        store.remove(settled);
+        store.put(copy(created, TransactionStatus.FAILED, 2));
+        assertEquals(Optional.empty(), store.find(created.getTransactionId()));
+
+        // Deleted before it was seen (e.g. during warm-up): a later load of the row is ignored
+        Transaction unseen = transaction("ACC1", NOW.plusSeconds(2), TransactionStatus.PENDING, 0);
+        store.remove(unseen);
+        store.put(unseen);
+        assertEquals(Optional.empty(), store.find(unseen.getTransactionId()));
+
+        // Before the floor: not held, read from the database
+        Transaction old = transaction("ACC1", NOW.minusSeconds(1), TransactionStatus.PENDING, 0);
+        store.put(old);
+        assertEquals(Optional.empty(), store.find(old.getTransactionId()));
+        assertEquals(Optional.empty(), store.findStatementPage("ACC1", NOW, NOW.plusSeconds(60), null, 10));
+    }
+
+    @Test
+    @DisplayName("Test Hot Window - Statement and keyset pages follow the database order")
+    void pages_FollowDatabaseOrder() {
+        // Arrange: shared timestamps, IDs on both sides of the signed/unsigned boundary, several segments
+        HotWindowStore store = startedStore(4, Long.MAX_VALUE);
+        List<Transaction> all = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            UUID id = new UUID((i % 2 == 0 ? -1L : 1L) * (i + 1), i);
+            Transaction transaction = transaction("ACC" + (i % 3), NOW.plusMillis(1 + i / 4),
+                    TransactionStatus.PENDING, 0);
+            transaction.setTransactionId(id);
+            all.add(transaction);
+        }
+        // Arrival order differs from key order
+        for (int i = all.size() - 1; i >= 0; i -= 2) {
+            store.put(all.get(i));
+        }
+        for (int i = 0; i < all.size(); i += 2) {
+            store.put(all.get(i));
+        }
+        all.sort(KEY_ORDER);
+
+        // Act: walk the ACC1 statement newest first, then everything in keyset order
+        Instant from = NOW.plusMillis(1);
+        Instant to = NOW.plusMillis(6);
+        List<UUID> statement = new ArrayList<>();
+        PageCursor before = null;
+        List<Transaction> page;
+        do {
+            page = store.findStatementPage("ACC1", from, to, before, 3).orElseThrow();
+            page.forEach(transaction -> statement.add(transaction.getTransactionId()));
+            before = page.isEmpty() ? null : cursor(page.get(page.size() - 1));
+        } while (page.size() == 3);
+
+        List<UUID> keyset = new ArrayList<>();
+        PageCursor after = cursor(all.get(0));
+        keyset.add(all.get(0).getTransactionId());
+        do {
+            page = store.findPageAfter(after, 4).orElseThrow();
+            page.forEach(transaction -> keyset.add(transaction.getTransactionId()));
+            after = page.isEmpty() ? null : cursor(page.get(page.size() - 1));
+        } while (page.size() == 4);
+
+        // Assert
+        assertEquals(all.stream()
+                .filter(t -> t.getAccountId().equals("ACC1") && t.getTimestamp().isBefore(to))
+                .sorted(KEY_ORDER.reversed())
+                .map(Transaction::getTransactionId).toList(), statement);
+        assertEquals(all.stream().map(Transaction::getTransactionId).toList(), keyset);
+        assertEquals(List.of(), store.findStatementPage("ACC9", from, to, null, 3).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Test Hot Window - Expired segments are evicted and the floor moves past them")
+    void evict_RaisesFloor() {
+        // Arrange: two rows per segment, one segment a day
+        HotWindowStore store = startedStore(2, Long.MAX_VALUE);
+        Transaction first = transaction("ACC1", NOW.plusSeconds(10), TransactionStatus.PENDING, 0);
+        Transaction second = transaction("ACC1", NOW.plusSeconds(20), TransactionStatus.PENDING, 0);
+        Transaction third = transaction("ACC1", NOW.plus(Duration.ofDays(1)), TransactionStatus.PENDING, 0);
+        List.of(first, second, third).forEach(store::put);
+
+        // Act
+        long evicted = store.evict(NOW.plus(Duration.ofDays(1)).plusSeconds(30));
+
+        // Assert
+        assertEquals(2, evicted);
+        assertEquals(Optional.empty(), store.find(first.getTransactionId()));
+        assertTrue(store.find(third.getTransactionId()).isPresent());
+        Instant newFloor = second.getTimestamp().plusNanos(1_000);
+        Instant to = NOW.plus(Duration.ofDays(2));
+        assertEquals(Optional.empty(), store.findStatementPage("ACC1", second.getTimestamp(), to, null, 10));
+        assertEquals(1, store.findStatementPage("ACC1", newFloor, to, null, 10).orElseThrow().size());
+
+        // Row limit: the oldest segment goes even inside the window
+        HotWindowStore bounded = startedStore(2, 2);
+        List.of(first, second, third).forEach(bounded::put);
+        assertEquals(2, bounded.evict(NOW));
+        HotWindowStatsResponse stats = bounded.stats();
+        assertEquals(1, stats.getRows());
+        assertEquals(newFloor, stats.getFloor());
+    }
+
+    @Test
+    @DisplayName("Test Hot Window - Warm-up loads the window from the database")
+    void start_WarmsUpFromDatabase() {
+        // Arrange
+        Transaction recent = transaction("ACC1", NOW.minus(Duration.ofHours(3)), TransactionStatus.COMPLETED, 1);
+        when(transactionRepository.streamByTimestampRange(any(), any())).thenReturn(Stream.of(recent));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        EntityManager entityManager = mock(EntityManager.class);
+        HotWindowStore store = new HotWindowStore(transactionRepository, entityManager, transactionManager,
+                true, DAY_MS, 8, Long.MAX_VALUE, true);
+        assertEquals(Optional.empty(), store.find(recent.getTransactionId()));
+
+        // Act
+        store.start(NOW);
+
+        // Assert
+        verify(transactionRepository).streamByTimestampRange(NOW.minus(Duration.ofDays(1)), NOW.plusSeconds(60));
+        verify(entityManager).detach(recent);
+        assertTrue(store.isReady());
+        assertEquals(TransactionStatus.COMPLETED, store.find(recent.getTransactionId()).orElseThrow().getStatus());
+        assertTrue(store.findStatementPage("ACC1", NOW.minus(Duration.ofDays(1)), NOW, null, 10).isPresent());
+        assertEquals(Optional.empty(), store.findStatementPage("ACC1", NOW.minus(Duration.ofDays(2)), NOW, null, 10));
+    }
+
+    private HotWindowStore startedStore(int segmentSize, long maxRows) {
+        HotWindowStore store = new HotWindowStore(transactionRepository, mock(EntityManager.class),
+                mock(PlatformTransactionManager.class), true, DAY_MS, segmentSize, maxRows, false);
+        store.start(NOW);
+        return store;
+    }
+
+    private static Transaction transaction(String accountId, Instant timestamp, TransactionStatus status, long version) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setAccountId(accountId);
+        transaction.setType(TransactionType.CREDIT);
+        transaction.setAmount(new BigDecimal("12.34"));
+        transaction.setCurrency("USD");
+        transaction.setDescription("hot");
+        transaction.setTimestamp(timestamp);
+        transaction.setStatus(status);
+        transaction.setVersion(version);
+        return transaction;
+    }
+
+    private static Transaction copy(Transaction transaction, TransactionStatus status, long version) {
+        Transaction copy = transaction(transaction.getAccountId(), transaction.getTimestamp(), status, version);
+        copy.setTransactionId(transaction.getTransactionId());
+        return copy;
+    }
+
+    private static PageCursor cursor(Transaction transaction) {
+        return new PageCursor(transaction.getTimestamp(), transaction.getTransactionId());
+    }
+}
@@ -0,0 +1,55 @@
+package com.financiera.service.impl;
+
+import com.financiera.repository.TransactionIdempotencyKeyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotencyKeyPurger.
+ * Validates the batched delete loop and that a retention of 0 keeps every key.
+ */
+class IdempotencyKeyPurgerTest {
+
+    @Test
+    @DisplayName("Test Idempotency Purge - Deletes in batches until a batch comes back short")
+    void purge_DeletesInBatches() {
+        // Arrange
+        TransactionIdempotencyKeyRepository repository = mock(TransactionIdempotencyKeyRepository.class);
+        Instant cutoff = Instant.parse("2026-01-01T00:00:00Z");
+        when(repository.deleteCreatedBefore(cutoff, 100)).thenReturn(100, 100, 42);
+        IdempotencyKeyPurger purger = new IdempotencyKeyPurger(repository, 24, 100);
+
+        // Act
+        long purged = purger.purge(cutoff);
+
+        // Assert
+        assertEquals(242, purged);
+        verify(repository, times(3)).deleteCreatedBefore(eq(cutoff), eq(100));
+    }
+
+    @Test
+    @DisplayName("Test Idempotency Purge - Scheduled run purges keys older than the retention; 0 keeps everything")
+    void scheduledPurge_UsesRetention() {
+        // Arrange
+        TransactionIdempotencyKeyRepository repository = mock(TransactionIdempotencyKeyRepository.class);
+        when(repository.deleteCreatedBefore(any(), anyInt())).thenReturn(0);
+
+        // Act
+        Instant before = Instant.now();
+        new IdempotencyKeyPurger(repository, 24, 100).purge();
+        new IdempotencyKeyPurger(repository, 0, 100).purge();
+
+        // Assert: one call, with a cutoff 24 hours back
+        verify(repository, times(1)).deleteCreatedBefore(
+                argThat(cutoff -> !cutoff.isAfter(before.minusSeconds(24 * 3600 - 5))
+                        && !cutoff.isBefore(before.minusSeconds(24 * 3600 + 5))), eq(100));
+    }
+}
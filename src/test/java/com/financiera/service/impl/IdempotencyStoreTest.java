@@ -0,0 +1,129 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.TransactionResponse;
+import com.financiera.exception.UnprocessableEntityException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IdempotencyStore.
+ * Validates once-per-key execution, concurrent retries, failure handling and the TTL and size bounds.
+ */
+class IdempotencyStoreTest {
+
+    @Test
+    @DisplayName("Test Execute - Concurrent retries share one execution")
+    void execute_ConcurrentRetriesRunOnce() throws Exception {
+        // Arrange: the first execution blocks until every retry has arrived
+        IdempotencyStore store = new IdempotencyStore(100, 60_000, 4);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingAction action = new CountingAction(release);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // Act
+            List<Future<TransactionResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> store.execute("user:key", "hash", action)));
+            }
+            while (store.stats().getHitCount() < 7) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Assert
+            UUID id = results.get(0).get(5, TimeUnit.SECONDS).getTransactionId();
+            for (Future<TransactionResponse> result : results) {
+                assertEquals(id, result.get(5, TimeUnit.SECONDS).getTransactionId());
+            }
+            assertEquals(1, action.runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Execute - A failed execution can be retried")
+    void execute_FailureIsNotRemembered() {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000, 4);
+
+        assertThrows(IllegalStateException.class, () -> store.execute("user:key", "hash", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        CountingAction action = new CountingAction(null);
+        store.execute("user:key", "hash", action);
+
+        assertEquals(1, action.runs.get());
+        assertEquals(1, store.stats().getLoadFailureCount());
+    }
+
+    @Test
+    @DisplayName("Test Execute - A key reused with another fingerprint is rejected")
+    void execute_FingerprintMismatch() {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000, 4);
+        store.execute("user:key", "hash-1", new CountingAction(null));
+
+        assertThrows(UnprocessableEntityException.class,
+                () -> store.execute("user:key", "hash-2", new CountingAction(null)));
+    }
+
+    @Test
+    @DisplayName("Test Bounds - Keys expire after the TTL and the oldest are evicted when full")
+    void bounds_TtlAndSize() throws InterruptedException {
+        // Arrange: one stripe holding two keys, remembered for 50 ms
+        IdempotencyStore store = new IdempotencyStore(2, 50, 1);
+        CountingAction action = new CountingAction(null);
+
+        // Act: the third key pushes out the first
+        store.execute("a", "hash", action);
+        store.execute("b", "hash", action);
+        store.execute("c", "hash", action);
+        store.execute("a", "hash", action);
+        assertEquals(4, action.runs.get());
+        assertEquals(2, store.stats().getEstimatedSize());
+
+        Thread.sleep(100);
+        store.execute("c", "hash", action);
+
+        // Assert: everything older than the TTL was dropped before "c" ran again
+        assertEquals(5, action.runs.get());
+        assertEquals(1, store.stats().getEstimatedSize());
+    }
+
+    private static final class CountingAction implements Supplier<TransactionResponse> {
+
+        private final CountDownLatch release;
+        private final AtomicInteger runs = new AtomicInteger();
+
+        private CountingAction(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public TransactionResponse get() {
+            runs.incrementAndGet();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            TransactionResponse response = new TransactionResponse();
+            response.setTransactionId(UUID.randomUUID());
+            return response;
+        }
+    }
+}
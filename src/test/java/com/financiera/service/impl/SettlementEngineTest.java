@@ -0,0 +1,220 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.SettlementStatsResponse;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.repository.TransactionRepository;
+import com.financiera.service.AccountBalanceService;
+import com.financiera.service.DailyRollupService;
+import com.financiera.service.SettlementRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SettlementEngine.
+ * Validates the rule decisions, the per-status bulk moves and the handling of failed batches.
+ */
+class SettlementEngineTest {
+
+    private TransactionRepository transactionRepository;
+    private AccountBalanceService accountBalanceService;
+    private DailyRollupService dailyRollupService;
+    private PlatformTransactionManager transactionManager;
+    private SettlementEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        accountBalanceService = mock(AccountBalanceService.class);
+        dailyRollupService = mock(DailyRollupService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // Moving a chunk returns the moved rows with their new status
+        when(transactionRepository.transitionPending(anyList(), any())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            TransactionStatus status = invocation.getArgument(1);
+            return ids.stream().map(id -> transaction(id, "1.00", status)).toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Settlement - Claimed batch is moved with one update per target status")
+    void settle_GroupsDecisionsByStatus() {
+        // Arrange: the rule fails amounts over 100, defers zero amounts and completes the rest
+        List<Transaction> batch = List.of(
+                transaction(UUID.randomUUID(), "10.00", TransactionStatus.PENDING),
+                transaction(UUID.randomUUID(), "500.00", TransactionStatus.PENDING),
+                transaction(UUID.randomUUID(), "0.00", TransactionStatus.PENDING),
+                transaction(UUID.randomUUID(), "20.00", TransactionStatus.PENDING));
+        when(transactionRepository.lockPendingBatch(any(), isNull(), eq(10)))
+                .thenReturn(batch)
+                .thenReturn(List.of());
+        engine = newEngine(transaction -> {
+            if (transaction.getAmount().signum() == 0) {
+                return null;
+            }
+            return transaction.getAmount().compareTo(new BigDecimal("100")) > 0
+                    ? TransactionStatus.FAILED : TransactionStatus.COMPLETED;
+        }, 1);
+
+        // Act
+        engine.start();
+        awaitUntil(() -> engine.stats().getBatches() == 1);
+        engine.stop();
+
+        // Assert
+        SettlementStatsResponse stats = engine.stats();
+        assertEquals(4, stats.getClaimed());
+        assertEquals(2, stats.getCompleted());
+        assertEquals(1, stats.getFailed());
+        assertEquals(1, stats.getDeferred());
+        verify(transactionRepository).transitionPending(
+                List.of(batch.get(0).getTransactionId(), batch.get(3).getTransactionId()), TransactionStatus.COMPLETED);
+        verify(transactionRepository).transitionPending(
+                List.of(batch.get(1).getTransactionId()), TransactionStatus.FAILED);
+        verify(accountBalanceService).recordStatusChanges(anyList(),
+                eq(TransactionStatus.PENDING), eq(TransactionStatus.COMPLETED));
+        verify(dailyRollupService, times(2)).recordChanges(anyList());
+    }
+
+    @Test
+    @DisplayName("Test Settlement - A failing rule or batch leaves transactions PENDING and the workers running")
+    void settle_SurvivesFailures() {
+        // Arrange: the first claim hits a lock error, the second succeeds
+        Transaction pending = transaction(UUID.randomUUID(), "10.00", TransactionStatus.PENDING);
+        AtomicInteger claims = new AtomicInteger();
+        when(transactionRepository.lockPendingBatch(any(), any(), anyInt())).thenAnswer(invocation -> switch (claims.getAndIncrement()) {
+            case 0 -> throw new CannotAcquireLockException("lock timeout");
+            case 1 -> List.of(pending);
+            default -> List.of();
+        });
+        engine = newEngine(transaction -> {
+            throw new IllegalStateException("rule unavailable");
+        }, 1);
+
+        // Act
+        engine.start();
+        awaitUntil(() -> engine.stats().getBatches() == 1);
+        engine.stop();
+
+        // Assert
+        SettlementStatsResponse stats = engine.stats();
+        assertEquals(1, stats.getErrors());
+        assertEquals(1, stats.getDeferred());
+        assertEquals(0, stats.getCompleted());
+        verify(transactionRepository, never()).transitionPending(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Test Settlement - An unexpected exception is counted and the worker keeps settling")
+    void settle_SurvivesUnexpectedExceptions() {
+        // Arrange: the balance projection fails on the first batch only
+        Transaction first = transaction(UUID.randomUUID(), "10.00", TransactionStatus.PENDING);
+        Transaction second = transaction(UUID.randomUUID(), "20.00", TransactionStatus.PENDING);
+        when(transactionRepository.lockPendingBatch(any(), any(), anyInt()))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of(second))
+                .thenReturn(List.of());
+        doThrow(new IllegalStateException("projection bug"))
+                .doNothing()
+                .when(accountBalanceService).recordStatusChanges(anyList(), any(), any());
+        engine = newEngine(transaction -> TransactionStatus.COMPLETED, 1);
+
+        // Act
+        engine.start();
+        awaitUntil(() -> engine.stats().getBatches() == 1);
+
+        // Assert
+        assertTrue(engine.isRunning());
+        SettlementStatsResponse stats = engine.stats();
+        assertEquals(1, stats.getErrors());
+        assertEquals(1, stats.getCompleted());
+        verify(transactionRepository).transitionPending(List.of(second.getTransactionId()), TransactionStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Test Settlement - Disabled engine starts no workers")
+    void start_DisabledDoesNothing() {
+        engine = new SettlementEngine(transactionRepository, accountBalanceService, dailyRollupService,
+                new TransactionCache(100, 60_000, 60_000), mock(HotWindowStore.class),
+                transactionManager, provider(null),
+                false, 4, 10, 10, 0, 1_000);
+
+        engine.start();
+
+        assertFalse(engine.isRunning());
+        assertEquals(0, engine.stats().getWorkers());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Test Settlement - Enabled engine without a rule fails to start")
+    void constructor_EnabledWithoutRuleFails() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> newEngine(null, 1));
+
+        assertTrue(e.getMessage().contains("SettlementRule"));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private SettlementEngine newEngine(SettlementRule rule, int workers) {
+        // Short poll interval so the drained worker comes back quickly
+        return new SettlementEngine(transactionRepository, accountBalanceService, dailyRollupService,
+                new TransactionCache(100, 60_000, 60_000), mock(HotWindowStore.class),
+                transactionManager, provider(rule),
+                true, workers, 10, 10, 0, 5_000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<SettlementRule> provider(SettlementRule rule) {
+        ObjectProvider<SettlementRule> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(rule);
+        return provider;
+    }
+
+    private static Transaction transaction(UUID id, String amount, TransactionStatus status) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(id);
+        transaction.setAccountId("ACC1");
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setCurrency("USD");
+        transaction.setTimestamp(Instant.parse("2024-01-01T00:00:00Z"));
+        transaction.setStatus(status);
+        return transaction;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the settlement workers");
+            Thread.onSpinWait();
+        }
+    }
+}
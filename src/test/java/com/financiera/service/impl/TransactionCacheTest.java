@@ -0,0 +1,110 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.TransactionResponse;
+import com.financiera.model.TransactionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TransactionCache.
+ * Validates status-dependent expiry and invalidation around the database transaction.
+ */
+class TransactionCacheTest {
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Expiry - PENDING entries expire, terminal entries are kept")
+    void pendingExpiresBeforeTerminal() throws InterruptedException {
+        // Arrange: PENDING lives 50 ms, COMPLETED one minute
+        TransactionCache cache = new TransactionCache(100, 50, 60_000);
+        CountingLoader pending = new CountingLoader(TransactionStatus.PENDING);
+        CountingLoader completed = new CountingLoader(TransactionStatus.COMPLETED);
+        UUID pendingId = UUID.randomUUID();
+        UUID completedId = UUID.randomUUID();
+
+        cache.get(pendingId, pending);
+        cache.get(completedId, completed);
+
+        // Act
+        Thread.sleep(120);
+        cache.get(pendingId, pending);
+        cache.get(completedId, completed);
+
+        // Assert
+        assertEquals(2, pending.loads.get());
+        assertEquals(1, completed.loads.get());
+    }
+
+    @Test
+    @DisplayName("Test Invalidate - Evicts again after the database transaction completes")
+    void invalidate_RepeatsAfterCompletion() {
+        // Arrange
+        TransactionCache cache = new TransactionCache(100, 60_000, 60_000);
+        CountingLoader loader = new CountingLoader(TransactionStatus.PENDING);
+        UUID id = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act: a reader re-caches the row between the write and the commit
+        cache.invalidate(id);
+        cache.get(id, loader);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        cache.get(id, loader);
+
+        // Assert: the post-commit eviction forced a fresh load
+        assertEquals(2, loader.loads.get());
+    }
+
+    @Test
+    @DisplayName("Test Stats - Hits, misses and load failures are counted")
+    void stats_CountsHitsAndMisses() {
+        TransactionCache cache = new TransactionCache(100, 60_000, 60_000);
+        UUID id = UUID.randomUUID();
+        CountingLoader loader = new CountingLoader(TransactionStatus.FAILED);
+
+        cache.get(id, loader);
+        cache.get(id, loader);
+        assertThrows(IllegalStateException.class, () -> cache.get(UUID.randomUUID(), key -> {
+            throw new IllegalStateException("not found");
+        }));
+
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(2, cache.stats().getMissCount());
+        assertEquals(1, cache.stats().getLoadFailureCount());
+        assertEquals(1, cache.stats().getEstimatedSize());
+    }
+
+    private static final class CountingLoader implements Function<UUID, TransactionResponse> {
+
+        private final TransactionStatus status;
+        private final AtomicInteger loads = new AtomicInteger();
+
+        private CountingLoader(TransactionStatus status) {
+            this.status = status;
+        }
+
+        @Override
+        public TransactionResponse apply(UUID id) {
+            loads.incrementAndGet();
+            TransactionResponse response = new TransactionResponse();
+            response.setTransactionId(id);
+            response.setStatus(status);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.financiera.service.impl;
+
+import com.financiera.service.impl.TransactionPartitionManager.RetentionMode;
+import com.financiera.test.EmbeddedPostgresSupport;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests TransactionPartitionManager against a PostgreSQL of its own, since retention
+ * detaches and drops partitions.
+ */
+class TransactionPartitionManagerTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        postgres = EmbeddedPostgresSupport.startIsolated();
+        dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    @DisplayName("Test Partitions - Missing future months are created once; expired months detached or dropped")
+    void createAndExpirePartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        // The migration already created the current and the next three months
+        TransactionPartitionManager manager = manager(5, 0, RetentionMode.DETACH);
+
+        assertEquals(List.of(name(current.plusMonths(4)), name(current.plusMonths(5))), manager.createPartitions(current));
+        assertEquals(List.of(), manager.createPartitions(current));
+        assertEquals(List.of(), manager.applyRetention(current), "Retention 0 keeps everything");
+
+        // Two months later, with one full month kept, the current month expires
+        insert(current);
+        TransactionPartitionManager detaching = manager(5, 1, RetentionMode.DETACH);
+        assertEquals(List.of(name(current)), detaching.applyRetention(current.plusMonths(2)));
+        assertEquals(0, countTransactions(), "Detached rows are no longer part of the table");
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM skd_financiera." + name(current), Integer.class), "but are kept");
+
+        TransactionPartitionManager dropping = manager(5, 1, RetentionMode.DROP);
+        assertEquals(List.of(name(current.plusMonths(1))), dropping.applyRetention(current.plusMonths(3)));
+        assertFalse(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                "skd_financiera." + name(current.plusMonths(1))));
+        assertFalse(dropping.listPartitions().contains(name(current.plusMonths(1))));
+        assertTrue(dropping.listPartitions().contains("transactions_default"), "The default partition never expires");
+    }
+
+    @Test
+    @DisplayName("Test Partitions - Nothing is done while another instance holds the maintenance lock")
+    void skipsWhileAnotherInstanceMaintains() throws Exception {
+        YearMonth month = YearMonth.of(2090, 1);
+        TransactionPartitionManager manager = manager(0, 0, RetentionMode.DETACH);
+
+        try (Connection otherInstance = dataSource.getConnection()) {
+            otherInstance.setAutoCommit(false);
+            otherInstance.createStatement().execute("SELECT pg_advisory_xact_lock(" + 0x5452585041525449L + ")");
+
+            assertEquals(List.of(), manager.createPartitions(month));
+            otherInstance.rollback();
+        }
+        assertEquals(List.of(name(month)), manager.createPartitions(month));
+    }
+
+    private static TransactionPartitionManager manager(int premakeMonths, int retentionMonths, RetentionMode mode) {
+        return new TransactionPartitionManager(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                true, premakeMonths, retentionMonths, mode, 5_000);
+    }
+
+    private static String name(YearMonth month) {
+        return String.format("transactions_p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static void insert(YearMonth month) {
+        jdbcTemplate.update("""
+                INSERT INTO skd_financiera.transactions
+                    (transaction_id, account_id, type, amount, currency, description, "timestamp", status)
+                VALUES (?, 'ACC0000000001', 'CREDIT', 10, 'USD', 'retention', ?, 'COMPLETED')
+                """, UUID.randomUUID(), Timestamp.from(month.atDay(2).atStartOfDay().toInstant(ZoneOffset.UTC)));
+    }
+
+    private static int countTransactions() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM skd_financiera.transactions", Integer.class);
+    }
+}
@@ -1,26 +1,61 @@
 package com.financiera.service.impl;
 
+import com.financiera.dto.BatchItemStatus;
+import com.financiera.dto.TransactionBatchResponse;
+import com.financiera.dto.TransactionBulkStatusRequest;
+import com.financiera.dto.TransactionBulkStatusResponse;
 import com.financiera.dto.TransactionCreateRequest;
+import com.financiera.dto.TransactionPageResponse;
 import com.financiera.dto.TransactionResponse;
 import com.financiera.dto.TransactionUpdateRequest;
+import com.financiera.exception.BadRequestException;
+import com.financiera.exception.ConflictException;
+import com.financiera.exception.PreconditionFailedException;
+import com.financiera.exception.ResourceNotFoundException;
+import com.financiera.exception.TooManyRequestsException;
+import com.financiera.exception.UnprocessableEntityException;
 import com.financiera.model.Transaction;
+import com.financiera.model.TransactionIdempotencyKey;
 import com.financiera.model.TransactionStatus;
 import com.financiera.model.TransactionType;
+import com.financiera.repository.TransactionIdempotencyKeyRepository;
 import com.financiera.repository.TransactionRepository;
+import com.financiera.repository.TransactionUpdateResult;
+import com.financiera.service.AccountBalanceService;
+import com.financiera.service.DailyRollupService;
+import com.financiera.utils.PageCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,9 +68,48 @@ class TransactionServiceImplTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AccountBalanceService accountBalanceService;
+
+    @Mock
+    private DailyRollupService dailyRollupService;
+
+    @Mock
+    private HotWindowStore hotWindowStore;
+
+    @Mock
+    private TransactionWriteBehindQueue writeBehindQueue;
+
+    @Mock
+    private TransactionIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private IdempotencyStore idempotencyStore = new IdempotencyStore(100, 60_000, 4);
+
+    @Spy
+    private TransactionCache transactionCache = new TransactionCache(100, 30_000, 600_000);
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
+    @BeforeEach
+    void setUp() {
+        // @Value fields are not populated outside the Spring context
+        ReflectionTestUtils.setField(transactionService, "defaultPageLimit", 2);
+        ReflectionTestUtils.setField(transactionService, "maxPageLimit", 3);
+        ReflectionTestUtils.setField(transactionService, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(transactionService, "jdbcBatchSize", 2);
+    }
+
     @Test
     @DisplayName("Test Create Transaction - Success")
     void createTransaction_Success() {
@@ -65,6 +139,138 @@ class TransactionServiceImplTest {
         verify(transactionRepository, times(1)).save(any(Transaction.class));
     }
 
+    @Test
+    @DisplayName("Test Create Transaction - Retry with the same Idempotency-Key is replayed from memory")
+    void createTransaction_IdempotentRetry() {
+        // Arrange
+        TransactionCreateRequest request = validCreateRequest();
+        when(idempotencyKeyRepository.claim(eq("user:key-1"), anyString(), any(UUID.class))).thenReturn(1);
+
+        // Act
+        TransactionResponse first = transactionService.createTransaction(request, "user", "key-1");
+        TransactionResponse retry = transactionService.createTransaction(validCreateRequest(), "user", "key-1");
+
+        // Assert: one insert, and the retry never reached a repository
+        assertEquals(first.getTransactionId(), retry.getTransactionId());
+        verify(transactionRepository, times(1)).insertAll(anyList());
+        verify(idempotencyKeyRepository, times(1)).claim(anyString(), anyString(), any(UUID.class));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("Test Create Transaction - Key evicted from memory is replayed from the database")
+    void createTransaction_IdempotentRetryFromDatabase() {
+        // Arrange: the key was claimed earlier (another instance, or before eviction)
+        UUID originalId = UUID.randomUUID();
+        ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+        when(idempotencyKeyRepository.claim(eq("user:key-2"), fingerprint.capture(), any(UUID.class))).thenReturn(0);
+        when(idempotencyKeyRepository.findById("user:key-2")).thenAnswer(invocation -> {
+            TransactionIdempotencyKey recorded = new TransactionIdempotencyKey();
+            recorded.setIdempotencyKey("user:key-2");
+            recorded.setRequestHash(fingerprint.getValue());
+            recorded.setTransactionId(originalId);
+            return Optional.of(recorded);
+        });
+        Transaction original = transactionAt(Instant.now());
+        original.setTransactionId(originalId);
+        when(transactionRepository.findById(originalId)).thenReturn(Optional.of(original));
+
+        // Act
+        TransactionResponse response = transactionService.createTransaction(validCreateRequest(), "user", "key-2");
+
+        // Assert
+        assertEquals(originalId, response.getTransactionId());
+        verify(transactionRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Test Create Transaction - Idempotency-Key reused for another request is rejected")
+    void createTransaction_IdempotencyKeyReused() {
+        when(idempotencyKeyRepository.claim(eq("user:key-3"), anyString(), any(UUID.class))).thenReturn(1);
+        transactionService.createTransaction(validCreateRequest(), "user", "key-3");
+
+        TransactionCreateRequest different = validCreateRequest();
+        different.setAmount(new BigDecimal("43.00"));
+
+        assertThrows(UnprocessableEntityException.class,
+                () -> transactionService.createTransaction(different, "user", "key-3"));
+        // The same key of another client is unrelated
+        when(idempotencyKeyRepository.claim(eq("admin:key-3"), anyString(), any(UUID.class))).thenReturn(1);
+        assertNotNull(transactionService.createTransaction(different, "admin", "key-3"));
+    }
+
+    @Test
+    @DisplayName("Test Submit Transaction - Queued with a pre-assigned ID")
+    void submitTransaction_Accepted() {
+        // Arrange
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setAccountId("ACC123456789");
+        request.setType(TransactionType.DEBIT);
+        request.setAmount(new BigDecimal("25.00"));
+        request.setCurrency("EUR");
+        when(writeBehindQueue.offer(any(Transaction.class))).thenReturn(true);
+
+        // Act
+        TransactionResponse response = transactionService.submitTransaction(request);
+
+        // Assert
+        assertNotNull(response.getTransactionId());
+        assertNotNull(response.getTimestamp());
+        assertEquals(TransactionStatus.PENDING, response.getStatus());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Test Submit Transaction - Full queue is reported as 429")
+    void submitTransaction_QueueFull() {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setAccountId("ACC123456789");
+        request.setType(TransactionType.DEBIT);
+        request.setAmount(new BigDecimal("25.00"));
+        request.setCurrency("EUR");
+        when(writeBehindQueue.offer(any(Transaction.class))).thenReturn(false);
+        when(writeBehindQueue.getRetryAfterSeconds()).thenReturn(2L);
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> transactionService.submitTransaction(request));
+        assertEquals(2L, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("Test Create Transaction - Every insert path assigns a server-generated UUIDv7")
+    @SuppressWarnings("unchecked")
+    void createTransaction_IdsAreServerGenerated() {
+        // The database does not enforce transaction_id uniqueness across partitions (V7)
+        when(idempotencyKeyRepository.claim(eq("user:key-4"), anyString(), any(UUID.class))).thenReturn(1);
+        when(writeBehindQueue.offer(any(Transaction.class))).thenReturn(true);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // The batch chunk is reused once saved, so its IDs are read during the call
+        List<UUID> batchIds = new ArrayList<>();
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Transaction> chunk = invocation.getArgument(0);
+            chunk.forEach(transaction -> batchIds.add(transaction.getTransactionId()));
+            return chunk;
+        });
+
+        transactionService.createTransaction(validCreateRequest());
+        transactionService.createTransactions(List.of(validCreateRequest()));
+        transactionService.createTransaction(validCreateRequest(), "user", "key-4");
+        transactionService.submitTransaction(validCreateRequest());
+
+        // JPA saves leave the ID to UuidV7Generator
+        ArgumentCaptor<Transaction> saved = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionRepository).save(saved.capture());
+        assertNull(saved.getValue().getTransactionId());
+        assertEquals(Collections.singletonList(null), batchIds);
+        // Plain inserts and write-behind carry an ID from UuidV7
+        ArgumentCaptor<List<Transaction>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).insertAll(inserted.capture());
+        assertEquals(7, inserted.getValue().get(0).getTransactionId().version());
+        ArgumentCaptor<Transaction> queued = ArgumentCaptor.forClass(Transaction.class);
+        verify(writeBehindQueue).offer(queued.capture());
+        assertEquals(7, queued.getValue().getTransactionId().version());
+    }
+
     @Test
     @DisplayName("Test Get Transaction By ID - Success")
     void getTransactionById_Success() {
@@ -85,6 +291,38 @@ class TransactionServiceImplTest {
         verify(transactionRepository).findById(id);
     }
 
+    @Test
+    @DisplayName("Test Get Transaction By ID - Second lookup is served from the cache")
+    void getTransactionById_CachedAfterFirstLookup() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Transaction transaction = transactionAt(Instant.now());
+        transaction.setTransactionId(id);
+
+        when(transactionRepository.findById(id)).thenReturn(Optional.of(transaction));
+
+        // Act
+        transactionService.getTransactionById(id);
+        TransactionResponse response = transactionService.getTransactionById(id);
+
+        // Assert
+        assertEquals(id, response.getTransactionId());
+        verify(transactionRepository, times(1)).findById(id);
+        assertEquals(1, transactionCache.stats().getHitCount());
+    }
+
+    @Test
+    @DisplayName("Test Get Transaction By ID - Not found is not cached")
+    void getTransactionById_NotFoundIsNotCached() {
+        UUID id = UUID.randomUUID();
+        when(transactionRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> transactionService.getTransactionById(id));
+        assertThrows(ResourceNotFoundException.class, () -> transactionService.getTransactionById(id));
+
+        verify(transactionRepository, times(2)).findById(id);
+    }
+
     @Test
     @DisplayName("Test Update Transaction Status - Success")
     void updateTransaction_Success() {
@@ -94,20 +332,160 @@ class TransactionServiceImplTest {
         updateRequest.setStatus(TransactionStatus.COMPLETED);
         updateRequest.setDescription("Payment processed");
 
-        Transaction existingTransaction = new Transaction();
-        existingTransaction.setTransactionId(id);
-        existingTransaction.setStatus(TransactionStatus.PENDING);
+        Transaction updatedTransaction = new Transaction();
+        updatedTransaction.setTransactionId(id);
+        updatedTransaction.setStatus(TransactionStatus.COMPLETED);
+        updatedTransaction.setVersion(4L);
 
-        when(transactionRepository.findById(id)).thenReturn(Optional.of(existingTransaction));
-        when(transactionRepository.save(any(Transaction.class))).thenReturn(existingTransaction);
+        when(transactionRepository.updateConditionally(id, 3L, "Payment processed", TransactionStatus.COMPLETED))
+                .thenReturn(new TransactionUpdateResult(TransactionUpdateResult.Outcome.UPDATED,
+                        updatedTransaction, TransactionStatus.PENDING, 3L));
 
         // Act
-        TransactionResponse response = transactionService.updateTransaction(id, updateRequest);
+        TransactionResponse response = transactionService.updateTransaction(id, updateRequest, 3L);
 
-        // Assert
+        // Assert: one statement, no load and no save
         assertNotNull(response);
         assertEquals(TransactionStatus.COMPLETED, response.getStatus());
-        verify(transactionRepository).save(any(Transaction.class));
+        assertEquals(4L, response.getVersion());
+        verify(transactionRepository, never()).findById(any());
+        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(accountBalanceService).recordStatusChange(
+                updatedTransaction, TransactionStatus.PENDING, TransactionStatus.COMPLETED);
+        verify(dailyRollupService).recordChanges(List.of(updatedTransaction));
+        verify(transactionCache).invalidate(id);
+    }
+
+    @Test
+    @DisplayName("Test Update Transaction - Stale version and invalid transition are rejected")
+    void updateTransaction_Rejected() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        TransactionUpdateRequest updateRequest = new TransactionUpdateRequest();
+        updateRequest.setStatus(TransactionStatus.FAILED);
+        when(transactionRepository.updateConditionally(id, 1L, null, TransactionStatus.FAILED))
+                .thenReturn(new TransactionUpdateResult(TransactionUpdateResult.Outcome.VERSION_MISMATCH,
+                        null, TransactionStatus.PENDING, 2L));
+        when(transactionRepository.updateConditionally(id, null, null, TransactionStatus.FAILED))
+                .thenReturn(new TransactionUpdateResult(TransactionUpdateResult.Outcome.INVALID_TRANSITION,
+                        null, TransactionStatus.COMPLETED, 2L));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class,
+                () -> transactionService.updateTransaction(id, updateRequest, 1L));
+        assertThrows(ConflictException.class,
+                () -> transactionService.updateTransaction(id, updateRequest, null));
+        verifyNoInteractions(accountBalanceService);
+        verify(transactionCache, never()).invalidate(id);
+    }
+
+    @Test
+    @DisplayName("Test Bulk Status - IDs are deduplicated and moved in chunks")
+    void updateTransactionStatuses_ByIdsInChunks() {
+        // Arrange: five distinct IDs (one repeated) with a chunk size of two
+        ReflectionTestUtils.setField(transactionService, "statusChunkSize", 2);
+        ReflectionTestUtils.setField(transactionService, "maxStatusIds", 10);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> requested = new ArrayList<>(ids);
+        requested.add(ids.get(0));
+        TransactionBulkStatusRequest request = new TransactionBulkStatusRequest();
+        request.setStatus(TransactionStatus.COMPLETED);
+        request.setTransactionIds(requested);
+        // All but the last ID are still PENDING
+        when(transactionRepository.transitionPending(anyList(), eq(TransactionStatus.COMPLETED))).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            return chunk.stream().filter(id -> !id.equals(ids.get(4))).map(this::settledTransaction).toList();
+        });
+
+        // Act
+        TransactionBulkStatusResponse response = transactionService.updateTransactionStatuses(request);
+
+        // Assert
+        assertEquals(4, response.getUpdated());
+        assertEquals(1, response.getSkipped());
+        assertEquals(0, response.getFailed());
+        verify(transactionRepository, times(3)).transitionPending(anyList(), eq(TransactionStatus.COMPLETED));
+        verify(accountBalanceService, times(3)).recordStatusChanges(anyList(),
+                eq(TransactionStatus.PENDING), eq(TransactionStatus.COMPLETED));
+        verify(transactionCache).invalidate(ids.get(0));
+    }
+
+    @Test
+    @DisplayName("Test Bulk Status - A failed chunk is retried row by row")
+    void updateTransactionStatuses_FallsBackToRows() {
+        // Arrange: the chunk statement deadlocks, the single rows succeed except one
+        ReflectionTestUtils.setField(transactionService, "statusChunkSize", 10);
+        ReflectionTestUtils.setField(transactionService, "maxStatusIds", 10);
+        UUID good = UUID.randomUUID();
+        UUID bad = UUID.randomUUID();
+        TransactionBulkStatusRequest request = new TransactionBulkStatusRequest();
+        request.setStatus(TransactionStatus.FAILED);
+        request.setTransactionIds(List.of(good, bad));
+        when(transactionRepository.transitionPending(anyList(), eq(TransactionStatus.FAILED))).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            if (chunk.size() > 1 || chunk.contains(bad)) {
+                throw new CannotAcquireLockException("deadlock detected");
+            }
+            return List.of(settledTransaction(chunk.get(0)));
+        });
+
+        // Act
+        TransactionBulkStatusResponse response = transactionService.updateTransactionStatuses(request);
+
+        // Assert
+        assertEquals(1, response.getUpdated());
+        assertEquals(0, response.getSkipped());
+        assertEquals(1, response.getFailed());
+    }
+
+    @Test
+    @DisplayName("Test Bulk Status - Window selection walks the PENDING keys chunk by chunk")
+    void updateTransactionStatuses_ByWindow() {
+        // Arrange
+        ReflectionTestUtils.setField(transactionService, "statusChunkSize", 2);
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant to = Instant.parse("2024-02-01T00:00:00Z");
+        PageCursor first = new PageCursor(from.plusSeconds(1), UUID.randomUUID());
+        PageCursor second = new PageCursor(from.plusSeconds(2), UUID.randomUUID());
+        PageCursor third = new PageCursor(from.plusSeconds(3), UUID.randomUUID());
+        when(transactionRepository.findPendingKeys("ACC1", from, to, null, 2)).thenReturn(List.of(first, second));
+        when(transactionRepository.findPendingKeys("ACC1", from, to, second, 2)).thenReturn(List.of(third));
+        when(transactionRepository.transitionPending(anyList(), eq(TransactionStatus.COMPLETED))).thenAnswer(invocation ->
+                invocation.<List<UUID>>getArgument(0).stream().map(this::settledTransaction).toList());
+        TransactionBulkStatusRequest request = new TransactionBulkStatusRequest();
+        request.setStatus(TransactionStatus.COMPLETED);
+        request.setAccountId("ACC1");
+        request.setFrom(from);
+        request.setTo(to);
+
+        // Act
+        TransactionBulkStatusResponse response = transactionService.updateTransactionStatuses(request);
+
+        // Assert: the short second chunk ends the walk
+        assertEquals(3, response.getUpdated());
+        verify(transactionRepository, times(2)).findPendingKeys(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Test Bulk Status - Invalid target or selection is rejected")
+    void updateTransactionStatuses_InvalidRequest() {
+        TransactionBulkStatusRequest pending = new TransactionBulkStatusRequest();
+        pending.setStatus(TransactionStatus.PENDING);
+        pending.setTransactionIds(List.of(UUID.randomUUID()));
+
+        TransactionBulkStatusRequest both = new TransactionBulkStatusRequest();
+        both.setStatus(TransactionStatus.COMPLETED);
+        both.setTransactionIds(List.of(UUID.randomUUID()));
+        both.setFrom(Instant.now());
+
+        TransactionBulkStatusRequest none = new TransactionBulkStatusRequest();
+        none.setStatus(TransactionStatus.COMPLETED);
+
+        assertThrows(BadRequestException.class, () -> transactionService.updateTransactionStatuses(pending));
+        assertThrows(BadRequestException.class, () -> transactionService.updateTransactionStatuses(both));
+        assertThrows(BadRequestException.class, () -> transactionService.updateTransactionStatuses(none));
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
@@ -115,13 +493,204 @@ class TransactionServiceImplTest {
     void deleteTransaction_Success() {
         // Arrange
         UUID id = UUID.randomUUID();
-        when(transactionRepository.existsById(id)).thenReturn(true);
-        doNothing().when(transactionRepository).deleteById(id);
+        Transaction existingTransaction = new Transaction();
+        existingTransaction.setTransactionId(id);
+        existingTransaction.setStatus(TransactionStatus.COMPLETED);
+        when(transactionRepository.deleteReturning(id)).thenReturn(Optional.of(existingTransaction));
 
         // Act
         transactionService.deleteTransaction(id);
 
         // Assert
-        verify(transactionRepository).deleteById(id);
+        verify(transactionRepository, never()).findById(any());
+        verify(transactionCache).invalidate(id);
+        verify(accountBalanceService).recordStatusChange(existingTransaction, TransactionStatus.COMPLETED, null);
+        verify(dailyRollupService).recordChanges(List.of(existingTransaction));
+    }
+
+    @Test
+    @DisplayName("Test Get Transactions Page - Returns cursor when more rows exist")
+    void getTransactions_FirstPageWithNextCursor() {
+        // Arrange
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        Transaction first = transactionAt(base);
+        Transaction second = transactionAt(base.plusSeconds(1));
+        Transaction extra = transactionAt(base.plusSeconds(2));
+
+        // The service asks for one row beyond the page to detect a following page
+        when(transactionRepository.findFirstPage(Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        // Act
+        TransactionPageResponse page = transactionService.getTransactions(null, null);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertEquals(2, page.getLimit());
+        PageCursor cursor = PageCursor.decode(page.getNextCursor());
+        assertEquals(second.getTimestamp(), cursor.timestamp());
+        assertEquals(second.getTransactionId(), cursor.transactionId());
+    }
+
+    @Test
+    @DisplayName("Test Get Transactions Page - Seeks after cursor and caps the limit")
+    void getTransactions_NextPageIsLast() {
+        // Arrange
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        PageCursor after = new PageCursor(base, UUID.randomUUID());
+        Transaction last = transactionAt(base.plusSeconds(5));
+
+        when(transactionRepository.findPageAfter(after.timestamp(), after.transactionId(), Limit.of(4)))
+                .thenReturn(List.of(last));
+
+        // Act
+        TransactionPageResponse page = transactionService.getTransactions(after.encode(), 100);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertEquals(3, page.getLimit());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Test Get Account Statement - Seeks before cursor within the range")
+    void getAccountStatement_NextPage() {
+        // Arrange
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-02-01T00:00:00Z");
+        PageCursor before = new PageCursor(from.plusSeconds(60), UUID.randomUUID());
+        Transaction older = transactionAt(from.plusSeconds(30));
+
+        when(transactionRepository.findStatementPageBefore("ACC123456789", from, to,
+                before.timestamp(), before.transactionId(), Limit.of(3))).thenReturn(List.of(older));
+
+        // Act
+        TransactionPageResponse page = transactionService.getAccountStatement("ACC123456789", from, to,
+                before.encode(), null);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Test Get Account Statement - Range within the hot window is served from memory")
+    void getAccountStatement_FromHotWindow() {
+        // Arrange
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-01-02T00:00:00Z");
+        Transaction newest = transactionAt(from.plusSeconds(90));
+        Transaction older = transactionAt(from.plusSeconds(30));
+        when(hotWindowStore.findStatementPage("ACC123456789", from, to, null, 3))
+                .thenReturn(Optional.of(List.of(newest, older)));
+        when(hotWindowStore.find(newest.getTransactionId())).thenReturn(Optional.of(newest));
+
+        // Act
+        TransactionPageResponse page = transactionService.getAccountStatement("ACC123456789", from, to, null, null);
+        TransactionResponse lookup = transactionService.getTransactionById(newest.getTransactionId());
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertEquals(newest.getTransactionId(), page.getItems().get(0).getTransactionId());
+        assertEquals(newest.getTransactionId(), lookup.getTransactionId());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Test Get Account Statement - Rejects empty range")
+    void getAccountStatement_EmptyRange() {
+        Instant at = Instant.parse("2025-01-01T00:00:00Z");
+        assertThrows(BadRequestException.class,
+                () -> transactionService.getAccountStatement("ACC123456789", at, at, null, null));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Test Get Transactions Page - Rejects tampered cursor")
+    void getTransactions_InvalidCursor() {
+        assertThrows(BadRequestException.class, () -> transactionService.getTransactions("not-a-cursor", null));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Test Export Transactions - Streams and detaches each row")
+    void exportTransactions_StreamsAndDetaches() {
+        // Arrange
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-02-01T00:00:00Z");
+        Transaction first = transactionAt(from);
+        Transaction second = transactionAt(from.plusSeconds(60));
+
+        when(transactionRepository.streamByTimestampRange(from, to)).thenReturn(Stream.of(first, second));
+
+        // Act
+        List<TransactionResponse> exported = new ArrayList<>();
+        long count = transactionService.exportTransactions(from, to, exported::add);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(first.getTransactionId(), exported.get(0).getTransactionId());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("Test Create Transactions Batch - Persists valid items in chunks and reports rejected ones")
+    void createTransactions_PartialSuccess() {
+        // Arrange
+        TransactionCreateRequest invalid = validCreateRequest();
+        invalid.setCurrency("US");
+        List<TransactionCreateRequest> requests =
+                List.of(validCreateRequest(), invalid, validCreateRequest(), validCreateRequest());
+
+        // Act
+        TransactionBatchResponse response = transactionService.createTransactions(requests);
+
+        // Assert
+        assertEquals(3, response.getCreated());
+        assertEquals(1, response.getRejected());
+        assertEquals(BatchItemStatus.REJECTED, response.getResults().get(1).getStatus());
+        assertTrue(response.getResults().get(1).getErrors().containsKey("currency"));
+        assertEquals(BatchItemStatus.CREATED, response.getResults().get(3).getStatus());
+        assertEquals(TransactionStatus.PENDING, response.getResults().get(3).getTransaction().getStatus());
+
+        // Three valid items with a JDBC batch size of two: one full chunk plus the remainder
+        verify(transactionRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Test Create Transactions Batch - Rejects oversized batch")
+    void createTransactions_TooLarge() {
+        List<TransactionCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            requests.add(validCreateRequest());
+        }
+
+        assertThrows(BadRequestException.class, () -> transactionService.createTransactions(requests));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private TransactionCreateRequest validCreateRequest() {
+        TransactionCreateRequest request = new TransactionCreateRequest();
+        request.setAccountId("ACC123456789");
+        request.setType(TransactionType.DEBIT);
+        request.setAmount(new BigDecimal("42.00"));
+        request.setCurrency("EUR");
+        return request;
+    }
+
+    private Transaction settledTransaction(UUID id) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(id);
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        return transaction;
+    }
+
+    private Transaction transactionAt(Instant timestamp) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setTimestamp(timestamp);
+        return transaction;
     }
 }
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.financiera.service.impl;
+
+import com.financiera.dto.IngestionStatsResponse;
+import com.financiera.model.Transaction;
+import com.financiera.model.TransactionStatus;
+import com.financiera.model.TransactionType;
+import com.financiera.repository.TransactionRepository;
+import com.financiera.service.DailyRollupService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TransactionWriteBehindQueue.
+ * Validates batching, backpressure, shutdown drain, the row-by-row fallback, that failures
+ * never stop the flusher and the exported metrics.
+ */
+class TransactionWriteBehindQueueTest {
+
+    private TransactionRepository transactionRepository;
+    private TransactionWriteBehindQueue queue;
+
+    // Copies of every batch handed to insertAll (the queue reuses its batch list)
+    private final List<List<Transaction>> insertedBatches = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        when(transactionRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Transaction> batch = invocation.getArgument(0);
+            insertedBatches.add(List.copyOf(batch));
+            return batch.size();
+        });
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // Capacity 4, batches of 2, a long linger so batches only flush on shutdown
+        queue = new TransactionWriteBehindQueue(transactionRepository, mock(HotWindowStore.class),
+                mock(DailyRollupService.class), transactionManager, true, 4, 2, 60_000, 3, 5_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.stop();
+    }
+
+    @Test
+    @DisplayName("Test Write-Behind - Full queue rejects, shutdown writes everything accepted")
+    void offer_BackpressureAndShutdownDrain() {
+        queue.start();
+
+        // The flusher may already have taken some; keep offering until the ring reports full
+        int accepted = 0;
+        while (queue.offer(newTransaction())) {
+            accepted++;
+        }
+        queue.stop();
+
+        IngestionStatsResponse stats = queue.stats();
+        assertEquals(accepted, stats.getAccepted());
+        assertEquals(1, stats.getRejected());
+        assertEquals(accepted, stats.getPersisted());
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(accepted, insertedBatches.stream().mapToInt(List::size).sum());
+        assertTrue(insertedBatches.stream().allMatch(batch -> batch.size() <= 2));
+        assertFalse(queue.offer(newTransaction()), "Nothing is accepted after shutdown");
+    }
+
+    @Test
+    @DisplayName("Test Write-Behind - A rejected batch falls back to row-by-row inserts")
+    void flush_BadRowDoesNotSinkTheBatch() {
+        Transaction good = newTransaction();
+        Transaction bad = newTransaction();
+        doAnswer(invocation -> {
+            List<Transaction> batch = invocation.getArgument(0);
+            if (batch.contains(bad)) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            insertedBatches.add(List.copyOf(batch));
+            return batch.size();
+        }).when(transactionRepository).insertAll(anyList());
+        queue.start();
+
+        assertTrue(queue.offer(good));
+        assertTrue(queue.offer(bad));
+        queue.stop();
+
+        assertEquals(List.of(List.of(good)), insertedBatches);
+        assertEquals(1, queue.stats().getPersisted());
+        assertEquals(1, queue.stats().getFailed());
+    }
+
+    @Test
+    @DisplayName("Test Write-Behind - An unexpected exception does not stop the flusher")
+    void flush_UnexpectedExceptionKeepsFlusherAlive() {
+        Transaction poison = newTransaction();
+        doAnswer(invocation -> {
+            List<Transaction> batch = invocation.getArgument(0);
+            if (batch.contains(poison)) {
+                throw new IllegalStateException("bug in the insert path");
+            }
+            insertedBatches.add(List.copyOf(batch));
+            return batch.size();
+        }).when(transactionRepository).insertAll(anyList());
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // Short linger, so batches flush while the queue is running
+        TransactionWriteBehindQueue running = new TransactionWriteBehindQueue(transactionRepository,
+                mock(HotWindowStore.class), mock(DailyRollupService.class), transactionManager, true, 4, 2, 10, 3, 5_000);
+        running.start();
+        try {
+            assertTrue(running.offer(poison));
+            awaitUntil(() -> running.stats().getFailed() == 1);
+
+            Transaction later = newTransaction();
+            assertTrue(running.offer(later));
+            awaitUntil(() -> running.stats().getPersisted() == 1);
+
+            assertTrue(running.isRunning());
+            assertEquals(List.of(List.of(later)), insertedBatches);
+        } finally {
+            running.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Test Write-Behind - Depth, capacity, batch sizes and outcomes are exported as meters")
+    void bindMetrics_ExportsQueueState() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        queue.bindMetrics(registry);
+        queue.start();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(newTransaction()));
+        }
+        queue.stop();
+        assertFalse(queue.offer(newTransaction()));
+
+        assertEquals(4, registry.get("financiera.ingestion.queue.capacity").gauge().value());
+        assertEquals(0, registry.get("financiera.ingestion.queue.depth").gauge().value());
+        assertEquals(3, outcome(registry, "accepted"));
+        assertEquals(1, outcome(registry, "rejected"));
+        assertEquals(3, outcome(registry, "persisted"));
+        assertEquals(0, outcome(registry, "failed"));
+        // One sample per committed batch
+        DistributionSummary batchSizes = registry.get("financiera.ingestion.batch.size").summary();
+        assertEquals(queue.stats().getBatches(), batchSizes.count());
+        assertEquals(3, batchSizes.totalAmount());
+        assertTrue(batchSizes.max() <= 2);
+    }
+
+    @Test
+    @DisplayName("Test Write-Behind - Disabled mode accepts nothing and starts no thread")
+    void disabled_RejectsEverything() {
+        TransactionWriteBehindQueue disabled = new TransactionWriteBehindQueue(transactionRepository,
+                mock(HotWindowStore.class), mock(DailyRollupService.class), mock(PlatformTransactionManager.class),
+                false, 4, 2, 50, 1, 1_000);
+        disabled.start();
+
+        assertFalse(disabled.isRunning());
+        assertFalse(disabled.offer(newTransaction()));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private static double outcome(SimpleMeterRegistry registry, String outcome) {
+        return registry.get("financiera.ingestion.transactions").tag("outcome", outcome).functionCounter().count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the flusher");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Transaction newTransaction() {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(UUID.randomUUID());
+        transaction.setAccountId("ACC123456789");
+        transaction.setType(TransactionType.CREDIT);
+        transaction.setAmount(new BigDecimal("10.00"));
+        transaction.setCurrency("USD");
+        transaction.setTimestamp(Instant.now());
+        transaction.setStatus(TransactionStatus.PENDING);
+        return transaction;
+    }
+}
@@ -0,0 +1,69 @@
+package com.financiera.test;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Shared embedded PostgreSQL instance for tests that need real database behaviour
+ * (query plans, native SQL, locking) rather than mocks.
+ * <p>A single server is started lazily per JVM and migrated with the application's
+ * Flyway scripts, so tests run against the same {@code skd_financiera} schema as production.</p>
+ */
+public final class EmbeddedPostgresSupport {
+
+    private static EmbeddedPostgres postgres;
+
+    private EmbeddedPostgresSupport() {
+    }
+
+    /**
+     * Returns the shared server, starting and migrating it on first use.
+     * @return The running embedded PostgreSQL server.
+     */
+    public static synchronized EmbeddedPostgres start() {
+        if (postgres == null) {
+            postgres = startIsolated();
+        }
+        return postgres;
+    }
+
+    /**
+     * Starts a new, migrated server of its own, for tests that change the schema (e.g. drop
+     * partitions) and must not affect the shared one. The caller closes it.
+     * @return The running embedded PostgreSQL server.
+     */
+    public static EmbeddedPostgres startIsolated() {
+        EmbeddedPostgres server;
+        try {
+            server = EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+        }
+        Flyway.configure()
+                .dataSource(server.getPostgresDatabase())
+                .schemas("skd_financiera")
+                .defaultSchema("skd_financiera")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        return server;
+    }
+
+    /**
+     * @return A DataSource connected to the migrated database.
+     */
+    public static DataSource dataSource() {
+        return start().getPostgresDatabase();
+    }
+
+    /**
+     * @return The JDBC URL of the migrated database, for Spring Boot test properties.
+     */
+    public static String jdbcUrl() {
+        return start().getJdbcUrl("postgres", "postgres");
+    }
+}
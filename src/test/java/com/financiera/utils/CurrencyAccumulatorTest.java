@@ -0,0 +1,47 @@
+package com.financiera.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CurrencyAccumulator.
+ * Validates the per-currency totals, their order and the overflow check.
+ */
+class CurrencyAccumulatorTest {
+
+    @Test
+    @DisplayName("Test Accumulator - Totals per currency, visited in code order")
+    void add_TotalsPerCurrency() {
+        CurrencyAccumulator accumulator = new CurrencyAccumulator();
+        String[] codes = {"USD", "EUR", "JPY", "GBP", "CHF", "USD", "EUR"};
+        for (String code : codes) {
+            accumulator.add(code, new BigDecimal("1.50"));
+        }
+        accumulator.add("USD", -5000L);
+
+        assertEquals(5, accumulator.size());
+        assertEquals(2_5000L, accumulator.units("USD"));
+        assertEquals(new Money(3_0000L, "EUR"), accumulator.get("EUR"));
+        assertEquals(0L, accumulator.units("AUD"));
+        List<String> visited = new ArrayList<>();
+        accumulator.forEach((currency, units) -> visited.add(currency + "=" + units));
+        assertEquals(List.of("CHF=15000", "EUR=30000", "GBP=15000", "JPY=15000", "USD=25000"), visited);
+    }
+
+    @Test
+    @DisplayName("Test Accumulator - A total leaving the long range throws")
+    void add_Overflow() {
+        CurrencyAccumulator accumulator = new CurrencyAccumulator();
+        assertTrue(accumulator.isEmpty());
+        accumulator.add("USD", Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> accumulator.add("USD", 1L));
+        assertEquals(Long.MAX_VALUE, accumulator.units("USD"));
+    }
+}
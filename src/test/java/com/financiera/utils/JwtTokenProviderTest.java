@@ -0,0 +1,154 @@
+package com.financiera.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtTokenProvider.
+ * Validates token generation, single-pass verification, the verified-token cache and the
+ * validation outcome counters.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "f8D9sQ2ZK7vR3MLwA6XcP0nHeJYB4mtUF5aTestSecretKeyForUnitTests";
+
+    private JwtTokenProvider tokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = new JwtTokenProvider(meterRegistry);
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 60_000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheSize", 100L);
+        tokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("Test Verify Token - Generated token yields its subject")
+    void getVerifiedClaims_ValidToken() {
+        String token = tokenProvider.generateToken(authenticationFor("admin"));
+
+        Optional<Claims> claims = tokenProvider.getVerifiedClaims(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("admin", claims.get().getSubject());
+        assertEquals("admin", tokenProvider.getUsernameFromJWT(token));
+    }
+
+    @Test
+    @DisplayName("Test Verify Token - Repeat verification is served from the cache")
+    void getVerifiedClaims_RepeatIsCached() {
+        String token = tokenProvider.generateToken(authenticationFor("user"));
+
+        Claims first = tokenProvider.getVerifiedClaims(token).orElseThrow();
+        Claims second = tokenProvider.getVerifiedClaims(token).orElseThrow();
+
+        // The same claims instance proves the token was not parsed again
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Test Roles Claim - Authorities round-trip through the token")
+    void getUserDetailsFromClaims_RolesClaim() {
+        User admin = new User("admin", "", List.of(
+                new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER")));
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities()));
+
+        Claims claims = tokenProvider.getVerifiedClaims(token).orElseThrow();
+        UserDetails userDetails = tokenProvider.getUserDetailsFromClaims(claims).orElseThrow();
+
+        assertEquals("admin", userDetails.getUsername());
+        assertEquals(admin.getAuthorities(), userDetails.getAuthorities());
+    }
+
+    @Test
+    @DisplayName("Test Roles Claim - Tokens without roles fall back to a user lookup")
+    void getUserDetailsFromClaims_NoRolesClaim() {
+        String legacy = Jwts.builder()
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        Claims claims = tokenProvider.getVerifiedClaims(legacy).orElseThrow();
+
+        assertTrue(tokenProvider.getUserDetailsFromClaims(claims).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Verify Token - Tampered, foreign and expired tokens are rejected")
+    void getVerifiedClaims_InvalidTokens() {
+        String token = tokenProvider.generateToken(authenticationFor("user"));
+        String foreign = Jwts.builder()
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor((SECRET + "-other").getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+        String expired = Jwts.builder()
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertFalse(tokenProvider.validateToken(token.substring(0, token.length() - 2) + "xx"));
+        assertFalse(tokenProvider.validateToken(foreign));
+        assertFalse(tokenProvider.validateToken(expired));
+        assertFalse(tokenProvider.validateToken("not-a-jwt"));
+    }
+
+    @Test
+    @DisplayName("Test Validation Metrics - Every verification is counted by outcome")
+    void getVerifiedClaims_CountsOutcomes() {
+        // Arrange
+        String token = tokenProvider.generateToken(authenticationFor("user"));
+        String expired = Jwts.builder()
+                .setSubject("user")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        // Act
+        tokenProvider.validateToken(token);
+        tokenProvider.validateToken(token);
+        tokenProvider.validateToken(token.substring(0, token.length() - 2) + "xx");
+        tokenProvider.validateToken(expired);
+        tokenProvider.validateToken("not-a-jwt");
+
+        // Assert
+        assertEquals(1, validations("verified"));
+        assertEquals(1, validations("cached"));
+        assertEquals(1, validations("bad_signature"));
+        assertEquals(1, validations("expired"));
+        assertEquals(1, validations("malformed"));
+        assertEquals(0, validations("invalid"));
+    }
+
+    private double validations(String outcome) {
+        return meterRegistry.get(JwtTokenProvider.VALIDATIONS_METRIC).tag("outcome", outcome).counter().count();
+    }
+
+    private static UsernamePasswordAuthenticationToken authenticationFor(String username) {
+        User user = new User(username, "", List.of());
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+}
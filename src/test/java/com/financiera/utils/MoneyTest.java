@@ -0,0 +1,48 @@
+package com.financiera.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Money.
+ * Validates the conversions at the column scale and the checked arithmetic.
+ */
+class MoneyTest {
+
+    @Test
+    @DisplayName("Test Money - Decimals convert to scale-4 units and back exactly")
+    void conversions() {
+        assertEquals(123_4500L, Money.toUnits(new BigDecimal("123.45")));
+        assertEquals(-1L, Money.toUnits(new BigDecimal("-0.0001")));
+        assertEquals(5_0000L, Money.toUnits(new BigDecimal("5")));
+        assertEquals(7_0000L, Money.toUnits(new BigDecimal("7.000000")), "Trailing zeros are not precision");
+        assertEquals(new BigDecimal("123.4500"), Money.of(new BigDecimal("123.45"), "USD").toBigDecimal());
+        assertEquals("-0.0100 EUR", new Money(-100, "EUR").toString());
+
+        assertThrows(ArithmeticException.class, () -> Money.toUnits(new BigDecimal("0.00001")));
+        assertThrows(ArithmeticException.class, () -> Money.toUnits(new BigDecimal("922337203685477.5808")));
+        assertEquals(Long.MAX_VALUE, Money.toUnits(new BigDecimal("922337203685477.5807")));
+    }
+
+    @Test
+    @DisplayName("Test Money - Arithmetic is exact, overflow-checked and single-currency")
+    void arithmetic() {
+        Money ten = Money.of(new BigDecimal("10.00"), "USD");
+        Money three = Money.of(new BigDecimal("3.25"), "USD");
+
+        assertEquals(new Money(13_2500, "USD"), ten.plus(three));
+        assertEquals(new Money(6_7500, "USD"), ten.minus(three));
+        assertEquals(-1, three.negate().signum());
+        assertTrue(ten.compareTo(three) > 0);
+        assertEquals(Money.zero("USD"), ten.minus(ten));
+
+        assertThrows(ArithmeticException.class, () -> new Money(Long.MAX_VALUE, "USD").plus(new Money(1, "USD")));
+        assertThrows(ArithmeticException.class, () -> new Money(Long.MIN_VALUE, "USD").negate());
+        assertThrows(IllegalArgumentException.class, () -> ten.plus(Money.zero("EUR")));
+        assertThrows(NullPointerException.class, () -> new Money(1, null));
+    }
+}
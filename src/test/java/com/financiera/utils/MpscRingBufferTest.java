@@ -0,0 +1,93 @@
+package com.financiera.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MpscRingBuffer.
+ * Validates FIFO order, the capacity bound and lossless hand-off under concurrent producers.
+ */
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("Test Ring Buffer - FIFO order and capacity bound")
+    void offerAndPoll_RespectsCapacity() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+        assertEquals(4, buffer.capacity()); // Rounded up to a power of two
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4), "A full buffer must reject");
+        assertEquals(4, buffer.size());
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4), "A released slot is reused on the next lap");
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertEquals(List.of(1, 2), drained);
+        assertEquals(3, buffer.poll());
+        assertEquals(4, buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Ring Buffer - Concurrent producers lose and reorder nothing")
+    void concurrentProducers_AllElementsDeliveredInProducerOrder() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 100_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    long[] element = {producer, i};
+                    while (!buffer.offer(element)) {
+                        Thread.onSpinWait(); // Full: wait for the consumer
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        long[] nextExpected = new long[producers];
+        int received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            long[] element = buffer.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = (int) element[0];
+            assertEquals(nextExpected[producer], element[1], "Per-producer order must be preserved");
+            nextExpected[producer]++;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, received);
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,29 @@
+package com.financiera.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StringDictionary.
+ * Validates the dense, stable codes and their decoding.
+ */
+class StringDictionaryTest {
+
+    @Test
+    @DisplayName("Test Dictionary - Codes are dense, stable and decode back")
+    void encode_DenseAndStable() {
+        StringDictionary dictionary = new StringDictionary();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, dictionary.encode("ACC" + i));
+        }
+
+        assertEquals(42, dictionary.encode("ACC42"));
+        assertEquals(7, dictionary.find("ACC7"));
+        assertEquals(StringDictionary.MISSING, dictionary.find("ACC100"));
+        assertEquals("ACC99", dictionary.decode(99));
+        assertEquals(100, dictionary.size());
+        assertThrows(IllegalArgumentException.class, () -> dictionary.decode(100));
+    }
+}
@@ -0,0 +1,57 @@
+package com.financiera.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UuidLongMap.
+ * Validates lookups through growth and removals against a HashMap.
+ */
+class UuidLongMapTest {
+
+    @Test
+    @DisplayName("Test UuidLongMap - Random puts and removals match a HashMap")
+    void putAndRemove_MatchHashMap() {
+        UuidLongMap map = new UuidLongMap(4);
+        Map<UUID, Long> expected = new HashMap<>();
+        List<UUID> keys = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            if (keys.isEmpty() || random.nextInt(3) > 0) {
+                UUID key = random.nextBoolean() || keys.isEmpty() ? UuidV7.next() : keys.get(random.nextInt(keys.size()));
+                long value = random.nextInt(1_000_000);
+                map.put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+                if (expected.put(key, value) == null) {
+                    keys.add(key);
+                }
+            } else {
+                UUID key = keys.remove(random.nextInt(keys.size()));
+                assertTrue(map.remove(key.getMostSignificantBits(), key.getLeastSignificantBits()));
+                expected.remove(key);
+                assertFalse(map.remove(key.getMostSignificantBits(), key.getLeastSignificantBits()));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        assertEquals(UuidLongMap.MISSING, map.get(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Test UuidLongMap - Negative values are rejected")
+    void put_NegativeValue() {
+        UuidLongMap map = new UuidLongMap(16);
+        assertThrows(IllegalArgumentException.class, () -> map.put(1L, 2L, -1L));
+        assertEquals(0, map.size());
+    }
+}
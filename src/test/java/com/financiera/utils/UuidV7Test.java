@@ -0,0 +1,67 @@
+package com.financiera.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UuidV7.
+ * Validates the RFC 9562 layout, the embedded time and ordering under concurrent callers.
+ */
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Test UUIDv7 - Version, variant and embedded timestamp")
+    void next_Layout() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long millis = UuidV7.timestamp(uuid).toEpochMilli();
+        // May run ahead of the clock only when more than 4096 IDs were issued in one millisecond
+        assertTrue(millis >= before && millis <= after + 1, uuid.toString());
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestamp(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Test UUIDv7 - Strictly increasing per thread and unique across threads")
+    void next_MonotonicUnderContention() {
+        int threads = 8;
+        int perThread = 50_000;
+        List<CompletableFuture<List<UUID>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<UUID> ids = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(UuidV7.next());
+                }
+                return ids;
+            }));
+        }
+
+        Set<UUID> all = new HashSet<>();
+        for (CompletableFuture<List<UUID>> future : futures) {
+            List<UUID> ids = future.join();
+            // Lexicographic order of the canonical string equals the database (unsigned byte) order
+            List<String> asText = ids.stream().map(UUID::toString).toList();
+            List<String> sorted = new ArrayList<>(asText);
+            Collections.sort(sorted);
+            assertEquals(sorted, asText);
+            all.addAll(ids);
+        }
+        assertEquals(threads * perThread, all.size());
+        assertTrue(UuidV7.timestamp(UuidV7.next()).isBefore(Instant.now().plusSeconds(1)));
+    }
+}